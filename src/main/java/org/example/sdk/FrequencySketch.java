@@ -0,0 +1,88 @@
+package org.example.sdk;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch estimating how often each city is read, in constant memory.
+ * <p>
+ * Every key maps to one counter in each of {@value #DEPTH} rows; the estimate is the smallest of
+ * them, so collisions can only over-count. Increments are conservative (only the counters equal
+ * to the current minimum are raised), which keeps the over-count small. After
+ * {@code 10 * width} increments all counters are halved, so the estimate follows recent rather
+ * than all-time popularity.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe. Concurrent increments and aging may lose
+ * the occasional update, which only affects the approximation.
+ * </p>
+ */
+final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x97cb3127, 0x0bd4b1a5, 0x6a09e667, 0x3c6ef372};
+
+    private final AtomicIntegerArray counters;
+    private final int widthMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * @param width counters per row; rounded up to a power of two
+     */
+    FrequencySketch(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Sketch width must be greater than zero");
+        }
+        int rowWidth = Integer.highestOneBit(Math.max(2, width) * 2 - 1);
+        this.counters = new AtomicIntegerArray(DEPTH * rowWidth);
+        this.widthMask = rowWidth - 1;
+        this.sampleSize = 10 * rowWidth;
+    }
+
+    /**
+     * Record one read of the key.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int min = minCount(hash);
+        for (int row = 0; row < DEPTH; row++) {
+            counters.compareAndSet(indexOf(hash, row), min, min + 1);
+        }
+        if (additions.incrementAndGet() == sampleSize) {
+            age();
+        }
+    }
+
+    /**
+     * @return estimated number of recent reads of the key
+     */
+    int estimate(Object key) {
+        return minCount(spread(key.hashCode()));
+    }
+
+    private int minCount(int hash) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counters.get(indexOf(hash, row)));
+        }
+        return min;
+    }
+
+    private void age() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, counters.get(i) >>> 1);
+        }
+        additions.addAndGet(-sampleSize / 2);
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+        h ^= h >>> 16;
+        return row * (widthMask + 1) + (h & widthMask);
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+}
@@ -3,20 +3,40 @@ package org.example.sdk;
 import org.example.sdk.cache.Cache;
 import org.example.sdk.cache.WeatherCache;
 import org.example.sdk.client.ApiClient;
+import org.example.sdk.client.RequestPriority;
 import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.exception.UnsupportedFeatureException;
 import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.history.HistoryMetric;
+import org.example.sdk.history.HistoryOptions;
+import org.example.sdk.history.ObservationHistory;
+import org.example.sdk.history.WeatherHistory;
+import org.example.sdk.history.WindowStats;
+import org.example.sdk.model.Forecast;
 import org.example.sdk.model.WeatherResponse;
-
+import org.example.sdk.subscription.Subscription;
+import org.example.sdk.subscription.SubscriptionHub;
+import org.example.sdk.subscription.WeatherListener;
+import org.example.sdk.subscription.WeatherUpdate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * Central SDK entry point for retrieving weather information from OpenWeatherMap.
@@ -24,20 +44,36 @@ import java.util.logging.Logger;
  * Supports {@link Mode#ON_DEMAND} for on-request lookups and {@link Mode#POLLING}
  * for proactive cache refreshes that keep responses warm.
  * Instances are uniquely identified by API key, guaranteeing a single instance per key.
+ * <p>
+ * Instances obtained through {@link #getInstance} fetch data once, in the units of the first
+ * request for the key, and convert it locally, so every unit system requested for the same key is
+ * served by one cache and one set of upstream calls; see {@link #withUnits(Units)}.
+ * </p>
  */
 public class OpenWeatherSDK implements AutoCloseable {
     private static final Logger LOGGER = Logger.getLogger(OpenWeatherSDK.class.getName());
     private static final Map<String, OpenWeatherSDK> INSTANCES = new ConcurrentHashMap<>();
-    private static final ReentrantReadWriteLock INSTANCES_LOCK = new ReentrantReadWriteLock();
     private static final Duration POLLING_INTERVAL = Duration.ofMinutes(5);
+    private static final Duration EXPIRY_INTERVAL = Duration.ofSeconds(1);
+    private static final int READ_SKETCH_WIDTH = 4096;
 
     private final String apiKey;
     private final Mode mode;
     private final ApiClient apiClient;
     private final Cache cache;
-    private final ScheduledExecutorService scheduler;
-    private final ReentrantReadWriteLock cacheLock;
+    private final PollingScheduler.Registration polling;
+    private final PollingScheduler.Registration forecastPolling;
+    private final ScheduledFuture<?> expiry;
+    private final ReadWriteLock cacheLock;
     private final Units units;
+    private final SubscriptionHub subscriptions;
+    private final OpenWeatherSDK root;
+    private final UnitConverter converter;
+    private final Map<Units, OpenWeatherSDK> views;
+    private final ReadTracker weatherReads;
+    private final ReadTracker forecastReads;
+    private volatile WeatherHistory history;
+    private volatile int refreshBudget = Integer.MAX_VALUE;
 
     /**
      * Create an SDK instance with default HTTP client and in-memory cache implementations.
@@ -80,26 +116,70 @@ public class OpenWeatherSDK implements AutoCloseable {
         this.mode = Objects.requireNonNull(mode, "Mode must not be null");
         this.apiClient = Objects.requireNonNull(apiClient, "ApiClient must not be null");
         this.cache = Objects.requireNonNull(cache, "Cache must not be null");
-        this.cacheLock = new ReentrantReadWriteLock(true);
+        this.cacheLock = cache.isThreadSafe() ? UnlockedReadWriteLock.INSTANCE : new ReentrantReadWriteLock(true);
         this.units = units == null ? Units.METRIC : units;
+        this.subscriptions = new SubscriptionHub();
+        this.root = this;
+        this.converter = null;
+        this.views = new ConcurrentHashMap<>();
 
         if (mode == Mode.POLLING) {
-            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread thread = new Thread(r, "open-weather-sdk-polling");
-                thread.setDaemon(true);
-                return thread;
-            });
-            scheduler.scheduleAtFixedRate(
-                    this::updateAllCachedCities,
-                    0,
-                    POLLING_INTERVAL.toMinutes(),
-                    TimeUnit.MINUTES
-            );
+            this.weatherReads = new ReadTracker(READ_SKETCH_WIDTH);
+            this.forecastReads = new ReadTracker(READ_SKETCH_WIDTH);
+            this.polling = PollingScheduler.shared().register(new PollingScheduler.PollingTask() {
+                @Override
+                public Collection<String> citiesToRefresh() {
+                    return OpenWeatherSDK.this.citiesToRefresh();
+                }
+
+                @Override
+                public void refresh(String cityName) {
+                    refreshCity(cityName);
+                }
+            }, POLLING_INTERVAL);
+            this.forecastPolling = PollingScheduler.shared().register(new PollingScheduler.PollingTask() {
+                @Override
+                public Collection<String> citiesToRefresh() {
+                    return OpenWeatherSDK.this.forecastCitiesToRefresh();
+                }
+
+                @Override
+                public void refresh(String cityName) {
+                    refreshForecast(cityName);
+                }
+            }, POLLING_INTERVAL);
+        } else {
+            this.weatherReads = null;
+            this.forecastReads = null;
+            this.polling = null;
+            this.forecastPolling = null;
+        }
+
+        if (cache.hasActiveExpiration()) {
+            this.expiry = PollingScheduler.shared().scheduleAtFixedRate(this::expireCacheEntries, EXPIRY_INTERVAL);
         } else {
-            this.scheduler = null;
+            this.expiry = null;
         }
     }
 
+    private OpenWeatherSDK(OpenWeatherSDK root, Units units) {
+        this.apiKey = root.apiKey;
+        this.mode = root.mode;
+        this.apiClient = root.apiClient;
+        this.cache = root.cache;
+        this.cacheLock = root.cacheLock;
+        this.units = units;
+        this.subscriptions = root.subscriptions;
+        this.root = root;
+        this.converter = new UnitConverter(root.units, units);
+        this.views = null;
+        this.weatherReads = null;
+        this.forecastReads = null;
+        this.polling = null;
+        this.forecastPolling = null;
+        this.expiry = null;
+    }
+
     /**
      * Retrieve or create an SDK instance for the provided API key and mode.
      * Only one instance per key is allowed at any given time.
@@ -114,40 +194,42 @@ public class OpenWeatherSDK implements AutoCloseable {
 
     /**
      * Retrieve or create an SDK instance for the provided API key, mode and units.
-     * Only one instance per key is allowed at any given time. Units must match for the same key.
+     * Only one instance per key is allowed at any given time. It fetches data in the units of the
+     * first request, so single-unit applications read the cache without conversion; requests with
+     * other units for the same key return views of that instance which share its cache and
+     * upstream calls.
      */
     public static OpenWeatherSDK getInstance(String apiKey, Mode mode, Units units) {
         String normalisedKey = normaliseApiKey(apiKey);
         Objects.requireNonNull(mode, "Mode must not be null");
         Units requestedUnits = (units == null ? Units.METRIC : units);
 
-        INSTANCES_LOCK.readLock().lock();
-        try {
-            OpenWeatherSDK existing = INSTANCES.get(normalisedKey);
-            if (existing != null) {
-                ensureSameMode(mode, existing);
-                ensureSameUnits(requestedUnits, existing);
-                return existing;
-            }
-        } finally {
-            INSTANCES_LOCK.readLock().unlock();
+        OpenWeatherSDK existing = INSTANCES.get(normalisedKey);
+        if (existing == null) {
+            existing = INSTANCES.computeIfAbsent(normalisedKey, key -> new OpenWeatherSDK(
+                    key, mode, new WeatherApiClient(key, requestedUnits.apiValue()), new WeatherCache(), requestedUnits));
         }
+        ensureSameMode(mode, existing);
+        return existing.withUnits(requestedUnits);
+    }
 
-        INSTANCES_LOCK.writeLock().lock();
-        try {
-            OpenWeatherSDK existing = INSTANCES.get(normalisedKey);
-            if (existing != null) {
-                ensureSameMode(mode, existing);
-                ensureSameUnits(requestedUnits, existing);
-                return existing;
-            }
-
-            OpenWeatherSDK newInstance = new OpenWeatherSDK(normalisedKey, mode, new WeatherApiClient(normalisedKey, requestedUnits.apiValue()), new WeatherCache(), requestedUnits);
-            INSTANCES.put(normalisedKey, newInstance);
-            return newInstance;
-        } finally {
-            INSTANCES_LOCK.writeLock().unlock();
+    /**
+     * View of this instance that presents data in other units.
+     * <p>
+     * The view shares the cache, upstream client, polling, subscriptions and history of this
+     * instance and converts results locally; conversions of cached entries are memoised.
+     * Destroying a view destroys the instance it belongs to.
+     * </p>
+     *
+     * @param units units to present data in
+     * @return this instance if it already uses the units, otherwise a shared view
+     */
+    public OpenWeatherSDK withUnits(Units units) {
+        Objects.requireNonNull(units, "Units must not be null");
+        if (units == this.units) {
+            return this;
         }
+        return root.views.computeIfAbsent(units, requested -> requested == root.units ? root : new OpenWeatherSDK(root, requested));
     }
 
     /**
@@ -158,11 +240,15 @@ public class OpenWeatherSDK implements AutoCloseable {
      * @throws WeatherSDKException when API invocation fails
      */
     public WeatherResponse getWeather(String cityName) throws WeatherSDKException {
+        if (root != this) {
+            return converter.convert(root.getWeather(cityName));
+        }
         String normalizedCityName = normaliseCityName(cityName);
 
         cacheLock.readLock().lock();
         try {
             WeatherResponse cached = cache.get(normalizedCityName);
+            recordRead(weatherReads, normalizedCityName);
             if (cached != null) {
                 return cached;
             }
@@ -178,24 +264,306 @@ public class OpenWeatherSDK implements AutoCloseable {
         } finally {
             cacheLock.writeLock().unlock();
         }
+        onFetched(normalizedCityName, response);
 
         return response;
     }
 
     /**
-     * Destroy this instance, shutting down internal resources and removing it from the registry.
+     * Retrieve weather information for the given city within a time budget.
+     * <p>
+     * The remaining budget is passed to the HTTP call, which is cancelled when the budget runs out
+     * or the calling thread is interrupted. On timeout, a cached entry for the city is returned
+     * even if it has expired; without one a {@link WeatherTimeoutException} is thrown.
+     * </p>
+     *
+     * @param cityName target city name
+     * @param timeout  maximum time to wait (must not be null)
+     * @return the weather response, possibly stale if the lookup timed out
+     * @throws WeatherTimeoutException when the timeout elapses and no cached entry exists
+     * @throws WeatherSDKException     when API invocation fails
      */
-    public void destroy() {
-        shutdownScheduler();
-        INSTANCES_LOCK.writeLock().lock();
+    public WeatherResponse getWeather(String cityName, Duration timeout) throws WeatherSDKException {
+        if (root != this) {
+            return converter.convert(root.getWeather(cityName, timeout));
+        }
+        String normalizedCityName = normaliseCityName(cityName);
+        Objects.requireNonNull(timeout, "Timeout must not be null");
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        cacheLock.readLock().lock();
+        try {
+            WeatherResponse cached = cache.get(normalizedCityName);
+            recordRead(weatherReads, normalizedCityName);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            cacheLock.readLock().unlock();
+        }
+
+        WeatherResponse response;
+        try {
+            response = apiClient.getWeatherByCity(normalizedCityName, Duration.ofNanos(deadline - System.nanoTime()));
+        } catch (WeatherTimeoutException e) {
+            WeatherResponse stale;
+            cacheLock.readLock().lock();
+            try {
+                stale = cache.getStale(normalizedCityName);
+            } finally {
+                cacheLock.readLock().unlock();
+            }
+            if (stale == null) {
+                throw e;
+            }
+            LOGGER.log(Level.FINE, "Serving stale weather after timeout for city: " + normalizedCityName, e);
+            return stale;
+        }
+
+        cacheLock.writeLock().lock();
+        try {
+            cache.put(normalizedCityName, response);
+        } finally {
+            cacheLock.writeLock().unlock();
+        }
+        onFetched(normalizedCityName, response);
+
+        return response;
+    }
+
+    /**
+     * Retrieve the 5-day forecast in 3-hour steps for the given city, leveraging cache when possible.
+     * <p>
+     * Forecasts share the cache, expiry policy and, in {@link Mode#POLLING}, the background
+     * refresh of current weather: forecasts read since their last refresh are refreshed, within
+     * the {@linkplain #setRefreshBudget(int) refresh budget}.
+     * </p>
+     *
+     * @param cityName target city name
+     * @return the forecast in columnar form
+     * @throws UnsupportedFeatureException when the configured {@link ApiClient} does not support forecasts
+     * @throws WeatherSDKException         when API invocation fails
+     */
+    public Forecast getForecast(String cityName) throws WeatherSDKException {
+        if (root != this) {
+            return converter.convert(root.getForecast(cityName));
+        }
+        String normalizedCityName = normaliseCityName(cityName);
+
+        cacheLock.readLock().lock();
         try {
-            OpenWeatherSDK existing = INSTANCES.get(apiKey);
-            if (existing == this) {
-                INSTANCES.remove(apiKey);
+            Forecast cached = cache.getForecast(normalizedCityName);
+            recordRead(forecastReads, normalizedCityName);
+            if (cached != null) {
+                return cached;
             }
         } finally {
-            INSTANCES_LOCK.writeLock().unlock();
+            cacheLock.readLock().unlock();
+        }
+
+        Forecast forecast = apiClient.getForecastByCity(normalizedCityName);
+
+        cacheLock.writeLock().lock();
+        try {
+            cache.putForecast(normalizedCityName, forecast);
+        } finally {
+            cacheLock.writeLock().unlock();
         }
+        return forecast;
+    }
+
+    /**
+     * Start keeping a bounded observation history for every city fetched by this instance.
+     * <p>
+     * Each upstream fetch appends to the city's history unless it returns the same observation
+     * ({@code dt}) as before. Sliding-window aggregates are maintained incrementally, so
+     * questions like "temperature trend over the last 6 hours" are answered without a scan.
+     * Calling this again replaces the recorded history.
+     * </p>
+     *
+     * @param options history sizing and tracked windows
+     */
+    public void enableHistory(HistoryOptions options) {
+        root.history = new WeatherHistory(options);
+    }
+
+    /**
+     * Stop recording observation history and discard what has been recorded.
+     */
+    public void disableHistory() {
+        root.history = null;
+    }
+
+    /**
+     * Raw observation history of the city. Values are in the units the data is fetched in,
+     * which for instances obtained through {@link #getInstance} are the units of the first request
+     * for the key; use {@link #getTrend} for converted aggregates.
+     *
+     * @param cityName target city name
+     * @return observation history of the city, or {@code null} if history is disabled or the city has none
+     */
+    public ObservationHistory getHistory(String cityName) {
+        WeatherHistory current = root.history;
+        return current == null ? null : current.get(normaliseCityName(cityName));
+    }
+
+    /**
+     * Aggregates of a metric over a window ending at the city's newest recorded observation.
+     *
+     * @param cityName target city name
+     * @param metric   tracked metric
+     * @param window   window length, e.g. {@code Duration.ofHours(6)}
+     * @return window aggregates, empty when there is no history for the city
+     * @throws IllegalStateException if history is not enabled
+     */
+    public WindowStats getTrend(String cityName, HistoryMetric metric, Duration window) {
+        if (root != this) {
+            return converter.convert(metric, root.getTrend(cityName, metric, window));
+        }
+        WeatherHistory current = history;
+        if (current == null) {
+            throw new IllegalStateException("History is not enabled");
+        }
+        Objects.requireNonNull(metric, "Metric must not be null");
+        Objects.requireNonNull(window, "Window must not be null");
+        ObservationHistory cityHistory = current.get(normaliseCityName(cityName));
+        return cityHistory == null ? WindowStats.empty(window) : cityHistory.getStats(metric, window);
+    }
+
+    /**
+     * Limit the number of upstream calls a {@link Mode#POLLING} refresh cycle may make.
+     * <p>
+     * Each cycle refreshes subscribed cities first, then cached cities that have been read, or
+     * looked up and missed, since their last refresh, most frequently read first, until the budget
+     * is spent. Read frequency is estimated with a count-min sketch that favours recent reads.
+     * Cities nobody reads are not refreshed, and since refreshes do not count as use, they age out
+     * of the cache. For a cache shared between processes, reads made elsewhere are not visible, so
+     * all of its cities are candidates and only their order follows local reads. The budget only
+     * caps how many candidates are refreshed: without one, every subscribed city and every
+     * candidate is refreshed, and unread cities still age out. Cached forecasts are chosen the
+     * same way from forecast reads, within a budget of the same size. Has no effect in
+     * {@link Mode#ON_DEMAND}.
+     * </p>
+     *
+     * @param maxRefreshesPerCycle maximum number of cities refreshed per cycle (must be positive);
+     *                             unlimited by default
+     */
+    public void setRefreshBudget(int maxRefreshesPerCycle) {
+        if (maxRefreshesPerCycle <= 0) {
+            throw new IllegalArgumentException("Max refreshes per cycle must be greater than zero");
+        }
+        root.refreshBudget = maxRefreshesPerCycle;
+    }
+
+    /**
+     * Register a listener notified whenever the observation for the city changes.
+     * <p>
+     * Changes are detected on every upstream fetch made by this instance. In {@link Mode#POLLING}
+     * subscribed cities are refreshed on every polling cycle, ahead of other cities in the refresh
+     * budget and even when they are not cached, so listeners receive updates without anyone
+     * calling {@link #getWeather(String)}.
+     * </p>
+     *
+     * @param cityName city to watch
+     * @param listener listener to notify
+     * @return handle used to cancel the subscription
+     */
+    public Subscription subscribe(String cityName, WeatherListener listener) {
+        if (root != this) {
+            Objects.requireNonNull(listener, "Listener must not be null");
+            return root.subscribe(cityName, update -> listener.onWeatherChanged(converter.convert(update)));
+        }
+        return subscriptions.subscribe(normaliseCityName(cityName), listener);
+    }
+
+    /**
+     * Reactive-streams view of {@link #subscribe(String, WeatherListener)}.
+     *
+     * @param cityName city to watch
+     * @return publisher emitting an update each time the city's observation changes
+     */
+    public Flow.Publisher<WeatherUpdate> publisher(String cityName) {
+        Flow.Publisher<WeatherUpdate> source = subscriptions.publisher(normaliseCityName(cityName));
+        if (root == this) {
+            return source;
+        }
+        return subscriber -> source.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(WeatherUpdate update) {
+                subscriber.onNext(converter.convert(update));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+    }
+
+    /**
+     * Warm the cache with the provided cities, fetching them in parallel within the given budget.
+     * <p>
+     * Cities that already have a cache entry are skipped, and existing entries are never replaced
+     * or evicted. Once the cache is full, the preload stops without fetching the remaining
+     * cities, and reports the city that found it full as rejected. The call blocks until every city has been processed, so a {@link Mode#POLLING}
+     * instance can be preloaded before it starts serving traffic. Like polling refreshes, preload
+     * requests are made at {@link RequestPriority#BACKGROUND}.
+     * </p>
+     *
+     * @param cityNames cities to load; duplicates and blank names are ignored
+     * @param options   concurrency, rate and progress reporting settings
+     * @return final preload counters
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public PreloadProgress preload(Iterable<String> cityNames, PreloadOptions options) throws InterruptedException {
+        Objects.requireNonNull(cityNames, "City names must not be null");
+        Objects.requireNonNull(options, "Preload options must not be null");
+        return new Preloader(root::loadIfAbsent, options).run(cityNames.iterator());
+    }
+
+    /**
+     * Warm the cache with cities from a stream; see {@link #preload(Iterable, PreloadOptions)}.
+     * The stream is consumed lazily and is not closed by this method.
+     */
+    public PreloadProgress preload(Stream<String> cityNames, PreloadOptions options) throws InterruptedException {
+        Objects.requireNonNull(cityNames, "City names must not be null");
+        Objects.requireNonNull(options, "Preload options must not be null");
+        return new Preloader(root::loadIfAbsent, options).run(cityNames.iterator());
+    }
+
+    /**
+     * Warm the cache with cities read from a UTF-8 text file, one city per line;
+     * see {@link #preload(Iterable, PreloadOptions)}.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    public PreloadProgress preload(Path cityFile, PreloadOptions options) throws IOException, InterruptedException {
+        Objects.requireNonNull(cityFile, "City file must not be null");
+        try (Stream<String> lines = Files.lines(cityFile, StandardCharsets.UTF_8)) {
+            return preload(lines, options);
+        }
+    }
+
+    /**
+     * Destroy this instance, shutting down internal resources and removing it from the registry.
+     */
+    public void destroy() {
+        if (root != this) {
+            root.destroy();
+            return;
+        }
+        release();
+        INSTANCES.remove(apiKey, this);
     }
 
     /**
@@ -209,16 +577,9 @@ public class OpenWeatherSDK implements AutoCloseable {
             return;
         }
 
-        OpenWeatherSDK instance;
-        INSTANCES_LOCK.writeLock().lock();
-        try {
-            instance = INSTANCES.remove(normalisedKey);
-        } finally {
-            INSTANCES_LOCK.writeLock().unlock();
-        }
-
+        OpenWeatherSDK instance = INSTANCES.remove(normalisedKey);
         if (instance != null) {
-            instance.shutdownScheduler();
+            instance.release();
         }
     }
 
@@ -253,42 +614,123 @@ public class OpenWeatherSDK implements AutoCloseable {
         destroy();
     }
 
-    private void updateAllCachedCities() {
+    private Collection<String> citiesToRefresh() {
+        if (!cache.isRefreshLeader()) {
+            return Collections.emptyList();
+        }
+
+        String[] cached;
         cacheLock.readLock().lock();
-        String[] cities;
         try {
-            cities = cache.getAllCities();
+            cached = cache.getAllCities();
         } finally {
             cacheLock.readLock().unlock();
         }
+        return weatherReads.select(cached, subscriptions.getWatchedCities(), refreshBudget, !cache.isShared());
+    }
 
-        for (String city : cities) {
+    @SuppressWarnings("try")
+    private void refreshCity(String city) {
+        weatherReads.onRefresh(city);
+        try (RequestPriority.Scope ignored = RequestPriority.BACKGROUND.enter()) {
+            WeatherResponse response = apiClient.getWeatherByCity(city);
+            cacheLock.writeLock().lock();
             try {
-                WeatherResponse response = apiClient.getWeatherByCity(city);
-                cacheLock.writeLock().lock();
-                try {
-                    cache.put(city, response);
-                } finally {
-                    cacheLock.writeLock().unlock();
-                }
-            } catch (WeatherSDKException e) {
-                LOGGER.log(Level.WARNING, "Failed to refresh cached weather for city: " + city, e);
+                cache.refresh(city, response);
+            } finally {
+                cacheLock.writeLock().unlock();
             }
+            onFetched(city, response);
+        } catch (WeatherSDKException e) {
+            LOGGER.log(Level.WARNING, "Failed to refresh cached weather for city: " + city, e);
         }
     }
 
-    private static void ensureSameMode(Mode requestedMode, OpenWeatherSDK existing) {
-        if (existing.mode != requestedMode) {
-            throw new IllegalArgumentException(
-                    "An SDK instance with this API key already exists in a different mode: " + existing.mode
-            );
+    private Collection<String> forecastCitiesToRefresh() {
+        if (!cache.isRefreshLeader()) {
+            return Collections.emptyList();
+        }
+
+        String[] cached;
+        cacheLock.readLock().lock();
+        try {
+            cached = cache.getForecastCities();
+        } finally {
+            cacheLock.readLock().unlock();
+        }
+        return forecastReads.select(cached, Collections.emptyList(), refreshBudget, !cache.isShared());
+    }
+
+    @SuppressWarnings("try")
+    private void refreshForecast(String city) {
+        forecastReads.onRefresh(city);
+        try (RequestPriority.Scope ignored = RequestPriority.BACKGROUND.enter()) {
+            Forecast forecast = apiClient.getForecastByCity(city);
+            cacheLock.writeLock().lock();
+            try {
+                cache.putForecast(city, forecast);
+            } finally {
+                cacheLock.writeLock().unlock();
+            }
+        } catch (WeatherSDKException e) {
+            LOGGER.log(Level.WARNING, "Failed to refresh cached forecast for city: " + city, e);
+        }
+    }
+
+    private void onFetched(String cityName, WeatherResponse response) {
+        WeatherHistory current = history;
+        if (current != null) {
+            current.record(cityName, response);
+        }
+        subscriptions.publish(cityName, response);
+    }
+
+    private static void recordRead(ReadTracker reads, String cityName) {
+        if (reads != null) {
+            reads.recordRead(cityName);
+        }
+    }
+
+    @SuppressWarnings("try")
+    private Preloader.LoadResult loadIfAbsent(String cityName) throws WeatherSDKException {
+        String normalizedCityName = normaliseCityName(cityName);
+
+        cacheLock.readLock().lock();
+        try {
+            if (cache.contains(normalizedCityName)) {
+                return Preloader.LoadResult.ALREADY_CACHED;
+            }
+            if (!cache.hasCapacity()) {
+                return Preloader.LoadResult.CACHE_FULL;
+            }
+        } finally {
+            cacheLock.readLock().unlock();
+        }
+
+        WeatherResponse response;
+        try (RequestPriority.Scope ignored = RequestPriority.BACKGROUND.enter()) {
+            response = apiClient.getWeatherByCity(normalizedCityName);
+        }
+
+        Preloader.LoadResult result;
+        cacheLock.writeLock().lock();
+        try {
+            if (cache.putIfAbsent(normalizedCityName, response)) {
+                result = Preloader.LoadResult.LOADED;
+            } else {
+                result = cache.contains(normalizedCityName) ? Preloader.LoadResult.ALREADY_CACHED : Preloader.LoadResult.CACHE_FULL;
+            }
+        } finally {
+            cacheLock.writeLock().unlock();
         }
+        onFetched(normalizedCityName, response);
+        return result;
     }
 
-    private static void ensureSameUnits(Units requestedUnits, OpenWeatherSDK existing) {
-        if (existing.units != requestedUnits) {
+    private static void ensureSameMode(Mode requestedMode, OpenWeatherSDK existing) {
+        if (existing.mode != requestedMode) {
             throw new IllegalArgumentException(
-                    "An SDK instance with this API key already exists with different units: " + existing.units
+                    "An SDK instance with this API key already exists in a different mode: " + existing.mode
             );
         }
     }
@@ -309,10 +751,15 @@ public class OpenWeatherSDK implements AutoCloseable {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
-    private static String normaliseCityName(String cityName) {
+    static String normaliseCityName(String cityName) {
         if (cityName == null) {
             throw new IllegalArgumentException("City name must not be null or blank");
         }
+        // Canonical keys, the common case on the hit path, are returned as they are.
+        int length = cityName.length();
+        if (length > 0 && cityName.charAt(0) > ' ' && cityName.charAt(length - 1) > ' ') {
+            return cityName;
+        }
 
         String normalized = cityName.trim();
         if (normalized.isEmpty()) {
@@ -321,20 +768,23 @@ public class OpenWeatherSDK implements AutoCloseable {
         return normalized;
     }
 
-    private void shutdownScheduler() {
-        if (scheduler == null || scheduler.isShutdown()) {
-            return;
+    private void expireCacheEntries() {
+        cacheLock.writeLock().lock();
+        try {
+            cache.expireEntries();
+        } finally {
+            cacheLock.writeLock().unlock();
         }
+    }
 
-        scheduler.shutdown();
-        try {
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
+    private void release() {
+        if (polling != null) {
+            polling.cancel();
+            forecastPolling.cancel();
+        }
+        if (expiry != null) {
+            expiry.cancel(false);
         }
+        subscriptions.close();
     }
 }
-
@@ -0,0 +1,242 @@
+package org.example.sdk;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JVM-wide refresh scheduler shared by all SDK instances.
+ * <p>
+ * A single timer thread starts refresh cycles and a bounded pool of worker threads executes
+ * them, so the number of polling threads does not grow with the number of API keys. Each cycle
+ * is processed in small slices; after every slice the instance goes back to the end of the
+ * worker queue, so one instance with many cities cannot starve the others. Start times are
+ * spread across the polling interval instead of all instances firing at once.
+ * </p>
+ * <p>
+ * Periodic cache maintenance, such as active expiration, runs for instances in any mode on its
+ * own worker thread, so it is never queued behind refresh slices that block on upstream calls.
+ * </p>
+ */
+final class PollingScheduler {
+    private static final Logger LOGGER = Logger.getLogger(PollingScheduler.class.getName());
+    private static final int SLICE_SIZE = 8;
+    private static final int MAX_WORKERS = 4;
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+    private static final long DEREGISTER_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Work performed for one registered SDK instance.
+     */
+    interface PollingTask {
+        /**
+         * @return cities to refresh in the cycle that is starting
+         */
+        Collection<String> citiesToRefresh();
+
+        /**
+         * Refresh a single city. Failures must be handled by the task.
+         */
+        void refresh(String cityName);
+    }
+
+    private static final class Holder {
+        private static final PollingScheduler INSTANCE = new PollingScheduler();
+    }
+
+    private final ScheduledExecutorService timer;
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor maintenance;
+    private final AtomicLong registrations = new AtomicLong();
+
+    private PollingScheduler() {
+        ScheduledThreadPoolExecutor timerExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-polling-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timerExecutor.setRemoveOnCancelPolicy(true);
+        this.timer = timerExecutor;
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        int workerCount = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors()));
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-polling-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        workers.allowCoreThreadTimeOut(true);
+
+        this.maintenance = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.allowCoreThreadTimeOut(true);
+    }
+
+    static PollingScheduler shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Register a task to be run every {@code interval}. The first cycle starts after an offset
+     * within the interval that spreads consecutive registrations evenly.
+     *
+     * @param task     refresh work of one SDK instance
+     * @param interval time between cycle starts
+     * @return handle used to deregister
+     */
+    Registration register(PollingTask task, Duration interval) {
+        Objects.requireNonNull(task, "Polling task must not be null");
+        long intervalNanos = Objects.requireNonNull(interval, "Interval must not be null").toNanos();
+        double fraction = (registrations.getAndIncrement() * GOLDEN_RATIO_FRACTION) % 1.0;
+        Registration registration = new Registration(task, intervalNanos);
+        registration.scheduleCycle((long) (intervalNanos * fraction));
+        return registration;
+    }
+
+    /**
+     * Run a short maintenance task on the maintenance thread at a fixed rate. A run is skipped
+     * while the previous one is still in progress.
+     *
+     * @param task   maintenance work; failures are logged
+     * @param period time between runs
+     * @return handle used to stop the task
+     */
+    ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        Objects.requireNonNull(task, "Task must not be null");
+        long periodNanos = Objects.requireNonNull(period, "Period must not be null").toNanos();
+        AtomicBoolean inProgress = new AtomicBoolean();
+        return timer.scheduleAtFixedRate(() -> {
+            if (!inProgress.compareAndSet(false, true)) {
+                return;
+            }
+            maintenance.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Scheduled maintenance task failed", e);
+                } finally {
+                    inProgress.set(false);
+                }
+            });
+        }, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Handle of a registered instance.
+     */
+    final class Registration {
+        private final PollingTask task;
+        private final long intervalNanos;
+        private final ReentrantLock running = new ReentrantLock();
+        private final Queue<String> pending = new ArrayDeque<>();
+        private volatile boolean cancelled;
+        private volatile ScheduledFuture<?> nextCycle;
+        private long cycleStartedAt;
+
+        private Registration(PollingTask task, long intervalNanos) {
+            this.task = task;
+            this.intervalNanos = intervalNanos;
+        }
+
+        /**
+         * Stop scheduling cycles and wait briefly for a slice that is currently running.
+         */
+        void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> scheduled = nextCycle;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            try {
+                if (running.tryLock(DEREGISTER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    try {
+                        pending.clear();
+                    } finally {
+                        running.unlock();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void scheduleCycle(long delayNanos) {
+            if (cancelled) {
+                return;
+            }
+            nextCycle = timer.schedule(this::startCycle, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void startCycle() {
+            workers.execute(() -> {
+                if (!runExclusively(() -> {
+                    cycleStartedAt = System.nanoTime();
+                    pending.addAll(task.citiesToRefresh());
+                })) {
+                    return;
+                }
+                runSlice();
+            });
+        }
+
+        private void runSlice() {
+            boolean[] more = new boolean[1];
+            if (!runExclusively(() -> {
+                for (int i = 0; i < SLICE_SIZE && !cancelled; i++) {
+                    String city = pending.poll();
+                    if (city == null) {
+                        break;
+                    }
+                    task.refresh(city);
+                }
+                more[0] = !pending.isEmpty();
+            })) {
+                return;
+            }
+
+            if (more[0]) {
+                workers.execute(this::runSlice);
+            } else {
+                long elapsed = System.nanoTime() - cycleStartedAt;
+                scheduleCycle(Math.max(0, intervalNanos - elapsed));
+            }
+        }
+
+        private boolean runExclusively(Runnable action) {
+            if (cancelled) {
+                return false;
+            }
+            running.lock();
+            try {
+                if (cancelled) {
+                    return false;
+                }
+                action.run();
+                return true;
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Polling cycle failed", e);
+                return true;
+            } finally {
+                running.unlock();
+            }
+        }
+    }
+}
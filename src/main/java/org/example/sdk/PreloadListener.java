@@ -0,0 +1,16 @@
+package org.example.sdk;
+
+/**
+ * Receives progress updates while {@link OpenWeatherSDK#preload(Iterable, PreloadOptions)} runs.
+ * <p>
+ * Invoked from preload worker threads after each city completes; calls are never concurrent.
+ * </p>
+ */
+@FunctionalInterface
+public interface PreloadListener {
+
+    /**
+     * @param progress snapshot of the preload counters
+     */
+    void onProgress(PreloadProgress progress);
+}
@@ -0,0 +1,52 @@
+package org.example.sdk;
+
+import java.util.Objects;
+
+/**
+ * Concurrency and rate budget for a cache preload.
+ */
+public class PreloadOptions {
+    private static final PreloadListener NO_OP_LISTENER = progress -> {
+    };
+
+    private final int maxConcurrency;
+    private final double maxRequestsPerSecond;
+    private final PreloadListener listener;
+
+    /**
+     * @param maxConcurrency       maximum number of upstream requests in flight (must be positive)
+     * @param maxRequestsPerSecond maximum rate at which upstream requests are started (must be positive)
+     */
+    public PreloadOptions(int maxConcurrency, double maxRequestsPerSecond) {
+        this(maxConcurrency, maxRequestsPerSecond, NO_OP_LISTENER);
+    }
+
+    /**
+     * @param maxConcurrency       maximum number of upstream requests in flight (must be positive)
+     * @param maxRequestsPerSecond maximum rate at which upstream requests are started (must be positive)
+     * @param listener             progress listener (must not be null)
+     */
+    public PreloadOptions(int maxConcurrency, double maxRequestsPerSecond, PreloadListener listener) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be greater than zero");
+        }
+        if (!(maxRequestsPerSecond > 0)) {
+            throw new IllegalArgumentException("Max requests per second must be greater than zero");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.listener = Objects.requireNonNull(listener, "Listener must not be null");
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public double getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    public PreloadListener getListener() {
+        return listener;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.sdk;
+
+/**
+ * Immutable snapshot of preload counters.
+ * <p>
+ * {@code submitted} counts distinct cities handed to workers; each of them ends up
+ * {@code loaded}, {@code skipped} (already cached), {@code rejected} (the cache was full) or
+ * {@code failed}. The preload stops at the first rejection, so the cities after it are not
+ * submitted at all.
+ * </p>
+ */
+public class PreloadProgress {
+    private final int submitted;
+    private final int loaded;
+    private final int skipped;
+    private final int rejected;
+    private final int failed;
+
+    public PreloadProgress(int submitted, int loaded, int skipped, int failed) {
+        this(submitted, loaded, skipped, 0, failed);
+    }
+
+    public PreloadProgress(int submitted, int loaded, int skipped, int rejected, int failed) {
+        this.submitted = submitted;
+        this.loaded = loaded;
+        this.skipped = skipped;
+        this.rejected = rejected;
+        this.failed = failed;
+    }
+
+    public int getSubmitted() {
+        return submitted;
+    }
+
+    public int getLoaded() {
+        return loaded;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * @return number of cities not cached because the cache had no room for them
+     */
+    public int getRejected() {
+        return rejected;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return number of submitted cities that have finished, successfully or not
+     */
+    public int getCompleted() {
+        return loaded + skipped + rejected + failed;
+    }
+
+    @Override
+    public String toString() {
+        return "PreloadProgress{submitted=" + submitted + ", loaded=" + loaded
+                + ", skipped=" + skipped + ", rejected=" + rejected + ", failed=" + failed + '}';
+    }
+}
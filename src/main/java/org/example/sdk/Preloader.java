@@ -0,0 +1,154 @@
+package org.example.sdk;
+
+import org.example.sdk.exception.WeatherSDKException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a bulk cache preload within a concurrency and rate budget.
+ * <p>
+ * Cities are pulled lazily from the source iterator, so arbitrarily large inputs are never
+ * materialised. Blank names are ignored. Names are deduplicated on the same normalised key the
+ * cache uses, within a window of the most recent {@value #DEDUP_WINDOW} distinct names; a
+ * duplicate outside the window is still only fetched once, because the loader skips cities
+ * that are already cached.
+ * </p>
+ * <p>
+ * Once the cache reports that it is full, no further cities are submitted, since they could
+ * not be stored without evicting entries.
+ * </p>
+ */
+class Preloader {
+    private static final Logger LOGGER = Logger.getLogger(Preloader.class.getName());
+
+    static final int DEDUP_WINDOW = 10_000;
+
+    /**
+     * Outcome of loading one city.
+     */
+    enum LoadResult {
+        LOADED,
+        ALREADY_CACHED,
+        CACHE_FULL
+    }
+
+    /**
+     * Loads one city into the cache unless it is already present or the cache is full.
+     */
+    @FunctionalInterface
+    interface CityLoader {
+        LoadResult loadIfAbsent(String cityName) throws WeatherSDKException;
+    }
+
+    private final CityLoader loader;
+    private final PreloadOptions options;
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final Object listenerLock = new Object();
+
+    Preloader(CityLoader loader, PreloadOptions options) {
+        this.loader = loader;
+        this.options = options;
+    }
+
+    PreloadProgress run(Iterator<String> cities) throws InterruptedException {
+        int concurrency = options.getMaxConcurrency();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.getMaxRequestsPerSecond());
+        Semaphore permits = new Semaphore(concurrency);
+        Set<String> seen = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > DEDUP_WINDOW;
+            }
+        });
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            long nextStart = System.nanoTime();
+            while (rejected.get() == 0 && cities.hasNext()) {
+                String city = cities.next();
+                if (city == null || city.isBlank()) {
+                    continue;
+                }
+                String cityName = OpenWeatherSDK.normaliseCityName(city);
+                if (!seen.add(cityName)) {
+                    continue;
+                }
+
+                long wait = nextStart - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                nextStart = Math.max(nextStart, System.nanoTime()) + intervalNanos;
+
+                permits.acquire();
+                if (rejected.get() > 0) {
+                    permits.release();
+                    break;
+                }
+                submitted.incrementAndGet();
+                workers.execute(() -> {
+                    try {
+                        loadOne(cityName);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            permits.acquire(concurrency);
+            permits.release(concurrency);
+        } finally {
+            workers.shutdownNow();
+        }
+        return snapshot();
+    }
+
+    private void loadOne(String cityName) {
+        try {
+            switch (loader.loadIfAbsent(cityName)) {
+                case LOADED:
+                    loaded.incrementAndGet();
+                    break;
+                case ALREADY_CACHED:
+                    skipped.incrementAndGet();
+                    break;
+                default:
+                    rejected.incrementAndGet();
+                    break;
+            }
+        } catch (WeatherSDKException | RuntimeException e) {
+            failed.incrementAndGet();
+            LOGGER.log(Level.FINE, "Failed to preload weather for city: " + cityName, e);
+        }
+
+        synchronized (listenerLock) {
+            try {
+                options.getListener().onProgress(snapshot());
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Preload listener failed", e);
+            }
+        }
+    }
+
+    private PreloadProgress snapshot() {
+        return new PreloadProgress(submitted.get(), loaded.get(), skipped.get(), rejected.get(), failed.get());
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.sdk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks reads of cached cities and picks the ones a {@link Mode#POLLING} cycle refreshes.
+ * <p>
+ * A city is a candidate if it has been read, or looked up and missed, since its last refresh.
+ * Candidates are ranked by estimated read frequency, from a {@link FrequencySketch} that favours
+ * recent reads, and the most frequently read ones are refreshed until the budget is spent.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+final class ReadTracker {
+    private final FrequencySketch frequency;
+    private final Set<String> readSinceRefresh = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param sketchWidth counters per row of the frequency sketch
+     */
+    ReadTracker(int sketchWidth) {
+        this.frequency = new FrequencySketch(sketchWidth);
+    }
+
+    void recordRead(String cityName) {
+        frequency.increment(cityName);
+        if (!readSinceRefresh.contains(cityName)) {
+            readSinceRefresh.add(cityName);
+        }
+    }
+
+    /**
+     * Called when a refresh of the city starts, so it is only refreshed again once read again.
+     */
+    void onRefresh(String cityName) {
+        readSinceRefresh.remove(cityName);
+    }
+
+    /**
+     * Choose the cities to refresh in this cycle.
+     *
+     * @param cached     cities currently cached
+     * @param required   cities refreshed before any candidate, e.g. subscribed ones
+     * @param budget     maximum number of cities to return
+     * @param readsKnown {@code false} if the cache is shared between processes, whose reads are not
+     *                   visible here; every cached city is then a candidate and local reads only
+     *                   decide the order
+     * @return cities to refresh, required ones first, then candidates by descending read frequency
+     */
+    Collection<String> select(String[] cached, Collection<String> required, int budget, boolean readsKnown) {
+        readSinceRefresh.retainAll(new HashSet<>(Arrays.asList(cached)));
+
+        Set<String> cities = new LinkedHashSet<>(required);
+        if (cities.size() >= budget) {
+            return new ArrayList<>(cities).subList(0, budget);
+        }
+
+        List<String> candidates = new ArrayList<>();
+        for (String city : cached) {
+            if ((!readsKnown || readSinceRefresh.contains(city)) && !cities.contains(city)) {
+                candidates.add(city);
+            }
+        }
+        // Rank by estimated reads; the low half keeps the candidate index.
+        long[] ranked = new long[candidates.size()];
+        for (int i = 0; i < ranked.length; i++) {
+            ranked[i] = ((long) frequency.estimate(candidates.get(i)) << 32) | i;
+        }
+        Arrays.sort(ranked);
+        for (int i = ranked.length - 1; i >= 0 && cities.size() < budget; i--) {
+            cities.add(candidates.get((int) ranked[i]));
+        }
+        return cities;
+    }
+}
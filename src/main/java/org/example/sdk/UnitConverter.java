@@ -0,0 +1,248 @@
+package org.example.sdk;
+
+import org.example.sdk.history.HistoryMetric;
+import org.example.sdk.history.WindowStats;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.example.sdk.subscription.WeatherUpdate;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Converts weather data between measurement {@link Units} locally.
+ * <p>
+ * Temperatures are converted through Kelvin and wind speeds through meters per second;
+ * visibility is always in meters. Converted values are rounded to two decimals, the precision
+ * of the API. The latest conversions are memoised by source identity in a small direct-mapped
+ * table that is read and written without locking, so repeated reads of a cached entry convert it
+ * once and readers never contend. Caches that materialise a new response on every read simply
+ * miss the memo.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public final class UnitConverter {
+    private static final double ZERO_CELSIUS_IN_KELVIN = 273.15;
+    private static final double MPH_PER_METER_PER_SECOND = 2.2369362920544;
+    private static final int RESPONSE_MEMO_SLOTS = 1024;
+    private static final int FORECAST_MEMO_SLOTS = 64;
+
+    private final Units from;
+    private final Units to;
+    private final Memo<WeatherResponse, WeatherResponse> responses = new Memo<>(RESPONSE_MEMO_SLOTS);
+    private final Memo<Forecast, Forecast> forecasts = new Memo<>(FORECAST_MEMO_SLOTS);
+
+    /**
+     * @param from units of the source data
+     * @param to   units to convert to
+     */
+    public UnitConverter(Units from, Units to) {
+        this.from = Objects.requireNonNull(from, "Source units must not be null");
+        this.to = Objects.requireNonNull(to, "Target units must not be null");
+    }
+
+    public Units getFrom() {
+        return from;
+    }
+
+    public Units getTo() {
+        return to;
+    }
+
+    /**
+     * @return {@code true} if source and target units are the same and conversion returns its input
+     */
+    public boolean isIdentity() {
+        return from == to;
+    }
+
+    public double convertTemperature(double value) {
+        if (isIdentity() || Double.isNaN(value)) {
+            return value;
+        }
+        return round(fromKelvin(toKelvin(value, from), to));
+    }
+
+    public double convertSpeed(double value) {
+        if (isIdentity() || Double.isNaN(value)) {
+            return value;
+        }
+        double metersPerSecond = from == Units.IMPERIAL ? value / MPH_PER_METER_PER_SECOND : value;
+        return round(to == Units.IMPERIAL ? metersPerSecond * MPH_PER_METER_PER_SECOND : metersPerSecond);
+    }
+
+    /**
+     * @param response response in source units, may be {@code null}
+     * @return response in target units; the same instance for identity conversions
+     */
+    public WeatherResponse convert(WeatherResponse response) {
+        if (response == null || isIdentity()) {
+            return response;
+        }
+        WeatherResponse converted = responses.get(response);
+        if (converted == null) {
+            converted = new WeatherResponse(response.getWeather(), convert(response.getTemperature()),
+                    response.getVisibility(), convert(response.getWind()), response.getDatetime(),
+                    response.getSys(), response.getTimezone(), response.getName());
+            responses.put(response, converted);
+        }
+        return converted;
+    }
+
+    /**
+     * @param forecast forecast in source units, may be {@code null}
+     * @return forecast in target units; the same instance for identity conversions
+     */
+    public Forecast convert(Forecast forecast) {
+        if (forecast == null || isIdentity()) {
+            return forecast;
+        }
+        Forecast converted = forecasts.get(forecast);
+        if (converted == null) {
+            int size = forecast.size();
+            long[] timestamps = new long[size];
+            double[] temperatures = new double[size];
+            double[] feelsLike = new double[size];
+            double[] windSpeeds = new double[size];
+            double[] precipitation = new double[size];
+            int[] visibilities = new int[size];
+            String[] conditions = new String[size];
+            String[] descriptions = new String[size];
+            for (int i = 0; i < size; i++) {
+                timestamps[i] = forecast.getTimestamp(i);
+                temperatures[i] = convertTemperature(forecast.getTemperature(i));
+                feelsLike[i] = convertTemperature(forecast.getFeelsLike(i));
+                windSpeeds[i] = convertSpeed(forecast.getWindSpeed(i));
+                precipitation[i] = forecast.getPrecipitationProbability(i);
+                visibilities[i] = forecast.getVisibility(i);
+                conditions[i] = forecast.getCondition(i);
+                descriptions[i] = forecast.getDescription(i);
+            }
+            converted = new Forecast(forecast.getCityName(), forecast.getTimezone(), timestamps, temperatures,
+                    feelsLike, windSpeeds, precipitation, visibilities, conditions, descriptions);
+            forecasts.put(forecast, converted);
+        }
+        return converted;
+    }
+
+    /**
+     * @param update update in source units
+     * @return update in target units
+     */
+    public WeatherUpdate convert(WeatherUpdate update) {
+        if (isIdentity()) {
+            return update;
+        }
+        return new WeatherUpdate(update.getCityName(), convert(update.getPrevious()), convert(update.getCurrent()));
+    }
+
+    /**
+     * @param metric metric the aggregates were computed for
+     * @param stats  aggregates in source units
+     * @return aggregates in target units
+     */
+    public WindowStats convert(HistoryMetric metric, WindowStats stats) {
+        if (isIdentity()) {
+            return stats;
+        }
+        switch (metric) {
+            case TEMPERATURE:
+            case FEELS_LIKE:
+                return stats.map(this::convertTemperature);
+            case WIND_SPEED:
+                return stats.map(this::convertSpeed);
+            default:
+                return stats;
+        }
+    }
+
+    private Temperature convert(Temperature temperature) {
+        if (temperature == null) {
+            return null;
+        }
+        return new Temperature(convertTemperature(temperature.getTemp()), convertTemperature(temperature.getFeelsLike()));
+    }
+
+    private Wind convert(Wind wind) {
+        if (wind == null) {
+            return null;
+        }
+        return new Wind(convertSpeed(wind.getSpeed()));
+    }
+
+    private Double convertTemperature(Double value) {
+        return value == null ? null : convertTemperature(value.doubleValue());
+    }
+
+    private Double convertSpeed(Double value) {
+        return value == null ? null : convertSpeed(value.doubleValue());
+    }
+
+    private static double toKelvin(double value, Units units) {
+        switch (units) {
+            case METRIC:
+                return value + ZERO_CELSIUS_IN_KELVIN;
+            case IMPERIAL:
+                return (value - 32) * 5 / 9 + ZERO_CELSIUS_IN_KELVIN;
+            default:
+                return value;
+        }
+    }
+
+    private static double fromKelvin(double kelvin, Units units) {
+        switch (units) {
+            case METRIC:
+                return kelvin - ZERO_CELSIUS_IN_KELVIN;
+            case IMPERIAL:
+                return (kelvin - ZERO_CELSIUS_IN_KELVIN) * 9 / 5 + 32;
+            default:
+                return kelvin;
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * Direct-mapped identity cache. Each slot holds one immutable source/result pair, so a racing
+     * write can only replace a memoised conversion, never tear it.
+     */
+    private static final class Memo<S, T> {
+        private final AtomicReferenceArray<Slot<S, T>> slots;
+        private final int mask;
+
+        private Memo(int size) {
+            this.slots = new AtomicReferenceArray<>(size);
+            this.mask = size - 1;
+        }
+
+        private T get(S source) {
+            Slot<S, T> slot = slots.get(index(source));
+            return slot != null && slot.source == source ? slot.converted : null;
+        }
+
+        private void put(S source, T converted) {
+            slots.set(index(source), new Slot<>(source, converted));
+        }
+
+        private int index(S source) {
+            int hash = System.identityHashCode(source);
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+
+    private static final class Slot<S, T> {
+        private final S source;
+        private final T converted;
+
+        private Slot(S source, T converted) {
+            this.source = source;
+            this.converted = converted;
+        }
+    }
+}
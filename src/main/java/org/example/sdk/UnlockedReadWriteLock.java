@@ -0,0 +1,56 @@
+package org.example.sdk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Read-write lock that never blocks, used in place of the SDK cache lock for caches that are
+ * thread-safe on their own.
+ */
+final class UnlockedReadWriteLock implements ReadWriteLock {
+    static final UnlockedReadWriteLock INSTANCE = new UnlockedReadWriteLock();
+
+    private static final Lock UNLOCKED = new Lock() {
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void lockInterruptibly() {
+        }
+
+        @Override
+        public boolean tryLock() {
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) {
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported");
+        }
+    };
+
+    private UnlockedReadWriteLock() {
+    }
+
+    @Override
+    public Lock readLock() {
+        return UNLOCKED;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return UNLOCKED;
+    }
+}
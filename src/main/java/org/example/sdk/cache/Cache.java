@@ -1,5 +1,6 @@
 package org.example.sdk.cache;
 
+import org.example.sdk.model.Forecast;
 import org.example.sdk.model.WeatherResponse;
 
 /**
@@ -15,6 +16,20 @@ public interface Cache {
      */
     WeatherResponse get(String cityName);
 
+    /**
+     * Retrieve cached weather data for the provided city even if it has expired.
+     * <p>
+     * Used as a fallback when a fresh lookup cannot complete in time. Implementations that
+     * discard expired entries may return {@code null} for them.
+     * </p>
+     *
+     * @param cityName city identifier
+     * @return cached response, possibly expired, or {@code null} if not present
+     */
+    default WeatherResponse getStale(String cityName) {
+        return get(cityName);
+    }
+
     /**
      * Store weather data for the provided city.
      *
@@ -23,6 +38,62 @@ public interface Cache {
      */
     void put(String cityName, WeatherResponse weatherResponse);
 
+    /**
+     * Store weather data for the provided city only if no entry is present, without evicting
+     * other entries to make room.
+     *
+     * @param cityName        city identifier
+     * @param weatherResponse weather response payload
+     * @return {@code true} if the entry was stored
+     */
+    default boolean putIfAbsent(String cityName, WeatherResponse weatherResponse) {
+        if (contains(cityName)) {
+            return false;
+        }
+        put(cityName, weatherResponse);
+        return true;
+    }
+
+    /**
+     * Whether a new city can currently be stored without evicting another entry, i.e. whether
+     * {@link #putIfAbsent} has room for it. Lets bulk loaders stop before fetching data they could
+     * not store. The default reports {@code true}, for caches that cannot tell in advance.
+     *
+     * @return {@code false} if the cache is full
+     */
+    default boolean hasCapacity() {
+        return true;
+    }
+
+    /**
+     * Store refreshed weather data fetched in the background rather than on a caller's behalf.
+     * <p>
+     * A refresh is not a use of the entry: implementations should keep its position in the
+     * eviction order, so entries nobody reads still age out. Absent cities are stored without
+     * evicting other entries. The default falls back to {@link #put} for cached cities.
+     * </p>
+     *
+     * @param cityName        city identifier
+     * @param weatherResponse weather response payload
+     */
+    default void refresh(String cityName, WeatherResponse weatherResponse) {
+        if (contains(cityName)) {
+            put(cityName, weatherResponse);
+        } else {
+            putIfAbsent(cityName, weatherResponse);
+        }
+    }
+
+    /**
+     * Check whether an entry for the provided city is present, without affecting eviction order.
+     *
+     * @param cityName city identifier
+     * @return {@code true} if the cache holds an entry for the city
+     */
+    default boolean contains(String cityName) {
+        return get(cityName) != null;
+    }
+
     /**
      * @return list of cached city identifiers
      */
@@ -44,4 +115,89 @@ public interface Cache {
      * @return number of cached entries
      */
     int size();
+
+    /**
+     * Retrieve the cached forecast for the provided city.
+     *
+     * @param cityName city identifier
+     * @return cached forecast or {@code null} if not present, expired or unsupported by this cache
+     */
+    default Forecast getForecast(String cityName) {
+        return null;
+    }
+
+    /**
+     * Store a forecast for the provided city. Caches that do not hold forecasts ignore it.
+     *
+     * @param cityName city identifier
+     * @param forecast forecast payload
+     */
+    default void putForecast(String cityName, Forecast forecast) {
+    }
+
+    /**
+     * @return cities with a cached forecast
+     */
+    default String[] getForecastCities() {
+        return new String[0];
+    }
+
+    /**
+     * Whether the cache needs periodic {@link #expireEntries()} calls, to remove expired entries
+     * proactively rather than only skipping them on lookup, or to finish other deferred work.
+     *
+     * @return {@code true} if the owner should call {@link #expireEntries()} periodically
+     */
+    default boolean hasActiveExpiration() {
+        return false;
+    }
+
+    /**
+     * Remove entries whose expiry time has passed and fire due timer callbacks, or run whatever
+     * periodic maintenance the cache asked for through {@link #hasActiveExpiration()}.
+     * Called periodically, under the same external synchronization as writes, when
+     * {@link #hasActiveExpiration()} returns {@code true}.
+     */
+    default void expireEntries() {
+    }
+
+    /**
+     * Whether this process should refresh the cached entries in polling mode.
+     * <p>
+     * Caches shared between processes return {@code true} in exactly one of them, so the
+     * upstream refresh traffic does not grow with the number of processes.
+     * </p>
+     *
+     * @return {@code true} when this process is responsible for refreshing the cache
+     */
+    default boolean isRefreshLeader() {
+        return true;
+    }
+
+    /**
+     * Whether other processes read and write the same entries, so reads seen by this process
+     * are not all the reads of the cache.
+     *
+     * @return {@code true} if the cache is shared between processes
+     */
+    default boolean isShared() {
+        return false;
+    }
+
+    /**
+     * Whether the cache may be called concurrently without external synchronization.
+     * <p>
+     * The SDK guards caches that are not thread-safe with a read-write lock. Thread-safe caches
+     * are called without it, so their readers never wait for writers. Under the read lock,
+     * several threads may call {@link #get(String)}, {@link #getStale(String)},
+     * {@link #getForecast(String)}, {@link #contains(String)}, {@link #getAllCities()},
+     * {@link #getForecastCities()}, {@link #size()} and {@link #hasCapacity()} at once, so these lookups must not modify
+     * shared state without synchronizing it.
+     * </p>
+     *
+     * @return {@code true} if all methods are safe to call from several threads at once
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -7,19 +7,48 @@ import java.time.Instant;
 import java.util.Objects;
 
 /**
- * Represents a cached weather response alongside the timestamp when it was stored.
+ * Represents a cached weather response alongside the timestamps when it was stored and when it expires.
  * <p>
  * This class is used internally by the cache implementation to track when
- * entries were stored and determine if they are still valid based on TTL.
+ * entries were stored and determine if they are still valid based on TTL. When the cache
+ * expires entries actively, the entry also carries its own timer links, so no separate timer
+ * object is allocated per entry. Likewise it carries its links in the cache's recency list.
+ * </p>
+ * <p>
+ * Timestamps are kept as epoch milliseconds, so validity checks against
+ * {@link #isValid(long)} allocate nothing; the {@link Instant} accessors create their result
+ * on each call. Expiry times beyond the millisecond range are saturated.
  * </p>
  */
-public class CacheEntry {
+public class CacheEntry extends TimingWheel.Node {
+    private static final long MAX_EPOCH_SECONDS = Long.MAX_VALUE / 1000;
+
     private final WeatherResponse weatherResponse;
-    private final Instant storedAt;
+    private final long storedAtMillis;
+    private final long expiresAtMillis;
+    String cityName;
+    boolean refreshPending;
+    CacheEntry older;
+    CacheEntry newer;
 
     public CacheEntry(WeatherResponse weatherResponse, Instant storedAt) {
+        this(weatherResponse, storedAt, Instant.MAX);
+    }
+
+    public CacheEntry(WeatherResponse weatherResponse, Instant storedAt, Instant expiresAt) {
         this.weatherResponse = Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
-        this.storedAt = Objects.requireNonNull(storedAt, "StoredAt timestamp must not be null");
+        this.storedAtMillis = toMillis(Objects.requireNonNull(storedAt, "StoredAt timestamp must not be null"));
+        this.expiresAtMillis = toMillis(Objects.requireNonNull(expiresAt, "ExpiresAt timestamp must not be null"));
+    }
+
+    /**
+     * For subclasses that keep the response in another representation and override
+     * {@link #getWeatherResponse()}.
+     */
+    CacheEntry(Instant storedAt, Instant expiresAt) {
+        this.weatherResponse = null;
+        this.storedAtMillis = toMillis(Objects.requireNonNull(storedAt, "StoredAt timestamp must not be null"));
+        this.expiresAtMillis = toMillis(Objects.requireNonNull(expiresAt, "ExpiresAt timestamp must not be null"));
     }
 
     public WeatherResponse getWeatherResponse() {
@@ -27,7 +56,43 @@ public class CacheEntry {
     }
 
     public Instant getStoredAt() {
-        return storedAt;
+        return toInstant(storedAtMillis);
+    }
+
+    public Instant getExpiresAt() {
+        return toInstant(expiresAtMillis);
+    }
+
+    long storedAtMillis() {
+        return storedAtMillis;
+    }
+
+    /**
+     * @return expiry time in epoch milliseconds, {@link Long#MAX_VALUE} if the entry never expires
+     */
+    long expiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    /**
+     * Checks whether the cache entry is still valid against the expiry computed when it was stored.
+     *
+     * @param now current timestamp
+     * @return {@code true} when entry is still valid, {@code false} when it has expired
+     */
+    public boolean isValid(Instant now) {
+        Objects.requireNonNull(now, "Current timestamp must not be null");
+        return isValid(toMillis(now));
+    }
+
+    /**
+     * Allocation-free variant of {@link #isValid(Instant)}.
+     *
+     * @param nowMillis current time in epoch milliseconds
+     * @return {@code true} when entry is still valid, {@code false} when it has expired
+     */
+    public boolean isValid(long nowMillis) {
+        return nowMillis <= expiresAtMillis;
     }
 
     /**
@@ -40,6 +105,28 @@ public class CacheEntry {
     public boolean isValid(Duration ttl, Instant now) {
         Objects.requireNonNull(ttl, "TTL must not be null");
         Objects.requireNonNull(now, "Current timestamp must not be null");
-        return storedAt.plus(ttl).isAfter(now) || storedAt.plus(ttl).equals(now);
+        long ttlMillis = ttl.getSeconds() >= MAX_EPOCH_SECONDS ? Long.MAX_VALUE : ttl.toMillis();
+        long deadline = ttlMillis > 0 && storedAtMillis > Long.MAX_VALUE - ttlMillis ? Long.MAX_VALUE : storedAtMillis + ttlMillis;
+        return toMillis(now) <= deadline;
+    }
+
+    private static long toMillis(Instant instant) {
+        if (instant.getEpochSecond() >= MAX_EPOCH_SECONDS) {
+            return Long.MAX_VALUE;
+        }
+        if (instant.getEpochSecond() <= -MAX_EPOCH_SECONDS) {
+            return Long.MIN_VALUE;
+        }
+        return instant.toEpochMilli();
+    }
+
+    private static Instant toInstant(long millis) {
+        if (millis == Long.MAX_VALUE) {
+            return Instant.MAX;
+        }
+        if (millis == Long.MIN_VALUE) {
+            return Instant.MIN;
+        }
+        return Instant.ofEpochMilli(millis);
     }
 }
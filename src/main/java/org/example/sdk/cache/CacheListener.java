@@ -0,0 +1,34 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.WeatherResponse;
+
+/**
+ * Receives timer and removal notifications from a {@link WeatherCache} with active expiration.
+ * <p>
+ * Callbacks run synchronously on the thread that modifies or advances the cache, while the
+ * caller's cache lock is held. They must be fast and must not call back into the cache;
+ * slow work such as an upstream refresh should be handed off to another thread.
+ * </p>
+ */
+public interface CacheListener {
+
+    /**
+     * Called once per entry when it is within the configured refresh-ahead window of its expiry.
+     *
+     * @param cityName city identifier
+     * @param response response that is about to expire
+     */
+    default void onRefreshDue(String cityName, WeatherResponse response) {
+    }
+
+    /**
+     * Called after an entry has been removed from the cache.
+     * Entries replaced by {@link Cache#put(String, WeatherResponse)} are not reported.
+     *
+     * @param cityName city identifier
+     * @param response removed response
+     * @param cause    reason for the removal
+     */
+    default void onRemoval(String cityName, WeatherResponse response, RemovalCause cause) {
+    }
+}
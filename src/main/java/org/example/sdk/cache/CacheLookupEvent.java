@@ -0,0 +1,35 @@
+package org.example.sdk.cache;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a {@link WeatherCache#get(String)} lookup.
+ * <p>
+ * Lookups are by far the most frequent SDK operation, so the event is disabled by default and
+ * recorded without stack traces; enable {@value #NAME} in the recording settings to capture it.
+ * </p>
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("Cache Lookup")
+@Category({"OpenWeather SDK", "Cache"})
+@Description("Weather cache lookup with its outcome")
+@Enabled(false)
+@StackTrace(false)
+final class CacheLookupEvent extends jdk.jfr.Event {
+    static final String NAME = "org.example.sdk.CacheLookup";
+    static final String HIT = "hit";
+    static final String MISS = "miss";
+    static final String EXPIRED = "expired";
+
+    @Label("City")
+    String city;
+
+    @Label("Result")
+    @Description("hit, miss or expired")
+    String result;
+}
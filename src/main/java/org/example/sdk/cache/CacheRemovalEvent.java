@@ -0,0 +1,31 @@
+package org.example.sdk.cache;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for an entry leaving a {@link WeatherCache}, with the {@link RemovalCause}.
+ */
+@Name(CacheRemovalEvent.NAME)
+@Label("Cache Removal")
+@Category({"OpenWeather SDK", "Cache"})
+@Description("Weather cache entry evicted, expired or removed")
+@StackTrace(false)
+final class CacheRemovalEvent extends jdk.jfr.Event {
+    static final String NAME = "org.example.sdk.CacheRemoval";
+
+    @Label("City")
+    String city;
+
+    @Label("Cause")
+    String cause;
+
+    @Label("Entry Age")
+    @Description("Time the entry spent in the cache")
+    @Timespan(Timespan.MILLISECONDS)
+    long age;
+}
@@ -0,0 +1,32 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.WeatherResponse;
+
+/**
+ * Cached response of one city, as returned by {@link IndexedWeatherCache} queries.
+ */
+public final class CityWeather {
+    private final String cityName;
+    private final WeatherResponse response;
+
+    CityWeather(String cityName, WeatherResponse response) {
+        this.cityName = cityName;
+        this.response = response;
+    }
+
+    /**
+     * @return city identifier the response is cached under
+     */
+    public String getCityName() {
+        return cityName;
+    }
+
+    public WeatherResponse getResponse() {
+        return response;
+    }
+
+    @Override
+    public String toString() {
+        return cityName;
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Sys;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+
+import java.time.Instant;
+
+/**
+ * Cache entry that stores a response as primitive fields instead of the object graph of a
+ * {@link WeatherResponse}.
+ * <p>
+ * A parsed response consists of about twenty objects: the nested weather, temperature, wind and
+ * sys objects, boxed numbers and private copies of the condition strings. Here each number is a
+ * primitive field, with a presence bit for values that were {@code null}, the condition is a
+ * {@link ConditionTable} code shared by all entries, and the city name is not stored when it equals
+ * the cache key. {@link #getWeatherResponse()} materializes a new {@link WeatherResponse} on
+ * every call.
+ * </p>
+ */
+final class CompactCacheEntry extends CacheEntry {
+    private static final int WEATHER = 1;
+    private static final int TEMPERATURE = 1 << 1;
+    private static final int TEMP = 1 << 2;
+    private static final int FEELS_LIKE = 1 << 3;
+    private static final int VISIBILITY = 1 << 4;
+    private static final int WIND = 1 << 5;
+    private static final int WIND_SPEED = 1 << 6;
+    private static final int DATETIME = 1 << 7;
+    private static final int SYS = 1 << 8;
+    private static final int SUNRISE = 1 << 9;
+    private static final int SUNSET = 1 << 10;
+    private static final int TIMEZONE = 1 << 11;
+    private static final int NAME_IS_KEY = 1 << 12;
+
+    private final double temp;
+    private final double feelsLike;
+    private final double windSpeed;
+    private final long datetime;
+    private final long sunrise;
+    private final long sunset;
+    private final int visibility;
+    private final int timezone;
+    private final String name;
+    private final short presence;
+    private final char condition;
+
+    private CompactCacheEntry(String cityName, WeatherResponse response, int condition, Instant storedAt, Instant expiresAt) {
+        super(storedAt, expiresAt);
+        this.cityName = cityName;
+        int bits = 0;
+        if (response.getWeather() != null) {
+            bits |= WEATHER;
+        }
+        Temperature temperature = response.getTemperature();
+        double tempValue = 0;
+        double feelsLikeValue = 0;
+        if (temperature != null) {
+            bits |= TEMPERATURE;
+            if (temperature.getTemp() != null) {
+                bits |= TEMP;
+                tempValue = temperature.getTemp();
+            }
+            if (temperature.getFeelsLike() != null) {
+                bits |= FEELS_LIKE;
+                feelsLikeValue = temperature.getFeelsLike();
+            }
+        }
+        Wind wind = response.getWind();
+        double windSpeedValue = 0;
+        if (wind != null) {
+            bits |= WIND;
+            if (wind.getSpeed() != null) {
+                bits |= WIND_SPEED;
+                windSpeedValue = wind.getSpeed();
+            }
+        }
+        Sys sys = response.getSys();
+        long sunriseValue = 0;
+        long sunsetValue = 0;
+        if (sys != null) {
+            bits |= SYS;
+            if (sys.getSunrise() != null) {
+                bits |= SUNRISE;
+                sunriseValue = sys.getSunrise();
+            }
+            if (sys.getSunset() != null) {
+                bits |= SUNSET;
+                sunsetValue = sys.getSunset();
+            }
+        }
+        if (response.getVisibility() != null) {
+            bits |= VISIBILITY;
+        }
+        if (response.getDatetime() != null) {
+            bits |= DATETIME;
+        }
+        if (response.getTimezone() != null) {
+            bits |= TIMEZONE;
+        }
+        String responseName = response.getName();
+        if (responseName != null && responseName.equals(cityName)) {
+            bits |= NAME_IS_KEY;
+            responseName = null;
+        }
+        this.temp = tempValue;
+        this.feelsLike = feelsLikeValue;
+        this.windSpeed = windSpeedValue;
+        this.sunrise = sunriseValue;
+        this.sunset = sunsetValue;
+        this.visibility = (bits & VISIBILITY) != 0 ? response.getVisibility() : 0;
+        this.datetime = (bits & DATETIME) != 0 ? response.getDatetime() : 0;
+        this.timezone = (bits & TIMEZONE) != 0 ? response.getTimezone() : 0;
+        this.name = responseName;
+        this.presence = (short) bits;
+        this.condition = (char) condition;
+    }
+
+    /**
+     * @return compact entry for the response, or {@code null} if its condition cannot be coded
+     * because the {@link ConditionTable} is full
+     */
+    static CompactCacheEntry encode(String cityName, WeatherResponse response, Instant storedAt, Instant expiresAt) {
+        int condition = 0;
+        WeatherInfo weather = response.getWeather();
+        if (weather != null) {
+            condition = ConditionTable.codeOf(weather.getMain(), weather.getDescription());
+            if (condition == ConditionTable.NO_CODE) {
+                return null;
+            }
+        }
+        return new CompactCacheEntry(cityName, response, condition, storedAt, expiresAt);
+    }
+
+    @Override
+    public WeatherResponse getWeatherResponse() {
+        return new WeatherResponse(
+                has(WEATHER) ? new WeatherInfo(ConditionTable.main(condition), ConditionTable.description(condition)) : null,
+                has(TEMPERATURE) ? new Temperature(has(TEMP) ? temp : null, has(FEELS_LIKE) ? feelsLike : null) : null,
+                has(VISIBILITY) ? visibility : null,
+                has(WIND) ? new Wind(has(WIND_SPEED) ? windSpeed : null) : null,
+                has(DATETIME) ? datetime : null,
+                has(SYS) ? new Sys(has(SUNRISE) ? sunrise : null, has(SUNSET) ? sunset : null) : null,
+                has(TIMEZONE) ? timezone : null,
+                has(NAME_IS_KEY) ? cityName : name);
+    }
+
+    private boolean has(int bit) {
+        return (presence & bit) != 0;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * {@link WeatherCache} that keeps responses in a compact, deduplicated form, for caches holding
+ * many thousands of cities.
+ * <p>
+ * Entries store the response as primitive fields with presence bits, share one copy of each
+ * weather condition string across the JVM and do not repeat a city name that equals its key,
+ * which takes about a third of the heap of a {@link WeatherCache} entry. The price is paid on
+ * reads: every {@link #get(String)} materializes a new {@link WeatherResponse}, so callers must
+ * not rely on getting the same instance twice. Eviction, expiry, listeners and forecasts behave
+ * exactly as in {@link WeatherCache}.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe. External synchronization must be
+ * provided by the caller when used in a multi-threaded environment.
+ * </p>
+ */
+public class CompactWeatherCache extends WeatherCache {
+
+    /**
+     * @param ttl     time-to-live for cache entries
+     * @param maxSize maximum number of cached cities
+     */
+    public CompactWeatherCache(Duration ttl, int maxSize) {
+        this(new FixedTtlExpiryPolicy(ttl), maxSize);
+    }
+
+    /**
+     * @param expiryPolicy policy deciding when each entry expires
+     * @param maxSize      maximum number of cached cities
+     */
+    public CompactWeatherCache(ExpiryPolicy expiryPolicy, int maxSize) {
+        super(expiryPolicy, maxSize, Duration.ZERO, null, Clock.systemUTC());
+    }
+
+    /**
+     * Create a compact cache that expires entries actively and reports them to the given listener.
+     *
+     * @param expiryPolicy policy deciding when each entry expires
+     * @param maxSize      maximum number of cached cities
+     * @param refreshAhead how long before expiry {@link CacheListener#onRefreshDue} fires;
+     *                     {@link Duration#ZERO} disables refresh-ahead callbacks
+     * @param listener     receiver of refresh and removal notifications
+     */
+    public CompactWeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Duration refreshAhead, CacheListener listener) {
+        super(expiryPolicy, maxSize, refreshAhead, Objects.requireNonNull(listener, "Cache listener must not be null"),
+                Clock.systemUTC());
+    }
+
+    @Override
+    CacheEntry createEntry(String cityName, WeatherResponse weatherResponse, Instant storedAt, Instant expiresAt) {
+        CacheEntry entry = CompactCacheEntry.encode(cityName, weatherResponse, storedAt, expiresAt);
+        return entry != null ? entry : super.createEntry(cityName, weatherResponse, storedAt, expiresAt);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.sdk.cache;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM-wide dictionary of weather conditions ({@code main} and {@code description} pairs) for
+ * {@link CompactCacheEntry}.
+ * <p>
+ * OpenWeatherMap reports a few dozen distinct conditions per language, so every entry can refer to
+ * its condition by a {@code char} code and all entries share one copy of each string. The table
+ * only grows; once {@value #MAX_CODES} pairs are known, {@link #codeOf} reports that no code is
+ * available and the caller stores the response uncompressed.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+final class ConditionTable {
+    static final int NO_CODE = -1;
+    private static final int MAX_CODES = Character.MAX_VALUE + 1;
+
+    private static final ConcurrentHashMap<Condition, Integer> CODES = new ConcurrentHashMap<>();
+    private static volatile Condition[] conditions = new Condition[64];
+    private static int size;
+
+    private ConditionTable() {
+    }
+
+    /**
+     * @return code of the pair, assigning one if it is new, or {@link #NO_CODE} if the table is full
+     */
+    static int codeOf(String main, String description) {
+        Condition condition = new Condition(main, description);
+        Integer code = CODES.get(condition);
+        if (code != null) {
+            return code;
+        }
+        return assign(condition);
+    }
+
+    static String main(int code) {
+        return conditions[code].main;
+    }
+
+    static String description(int code) {
+        return conditions[code].description;
+    }
+
+    private static synchronized int assign(Condition condition) {
+        Integer existing = CODES.get(condition);
+        if (existing != null) {
+            return existing;
+        }
+        if (size == MAX_CODES) {
+            return NO_CODE;
+        }
+        Condition[] current = conditions;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, Math.min(MAX_CODES, current.length * 2));
+        }
+        current[size] = condition;
+        // Publish the array before the code: readers look a code up only after obtaining it here.
+        conditions = current;
+        CODES.put(condition, size);
+        return size++;
+    }
+
+    private static final class Condition {
+        private final String main;
+        private final String description;
+
+        private Condition(String main, String description) {
+            this.main = main;
+            this.description = description;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Condition)) {
+                return false;
+            }
+            Condition other = (Condition) o;
+            return Objects.equals(main, other.main) && Objects.equals(description, other.description);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(main) + Objects.hashCode(description);
+        }
+    }
+}
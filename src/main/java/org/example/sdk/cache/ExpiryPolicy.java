@@ -0,0 +1,40 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Decides how long a cached weather response stays valid.
+ */
+@FunctionalInterface
+public interface ExpiryPolicy {
+    /**
+     * Forecast lifetime used by policies that do not override {@link #forecastExpiresAt}.
+     */
+    Duration DEFAULT_FORECAST_TTL = Duration.ofMinutes(10);
+
+    /**
+     * Compute the expiry time for a response that is being stored.
+     *
+     * @param cityName city identifier
+     * @param response weather response being stored
+     * @param storedAt time the response is stored
+     * @return instant after which the entry is no longer served; must not be before {@code storedAt}
+     */
+    Instant expiresAt(String cityName, WeatherResponse response, Instant storedAt);
+
+    /**
+     * Compute the expiry time for a forecast that is being stored.
+     *
+     * @param cityName city identifier
+     * @param forecast forecast being stored
+     * @param storedAt time the forecast is stored
+     * @return instant after which the forecast is no longer served; must not be before {@code storedAt}
+     */
+    default Instant forecastExpiresAt(String cityName, Forecast forecast, Instant storedAt) {
+        return storedAt.plus(DEFAULT_FORECAST_TTL);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.sdk.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Elects a single leader among all processes on a host that point at the same lock file.
+ * <p>
+ * Leadership is represented by an exclusive {@link FileLock} on the lock file. The operating
+ * system releases the lock when the owning process exits, so a crashed leader is replaced
+ * by whichever process calls {@link #isLeader()} next.
+ * </p>
+ * <p>
+ * Within a single JVM only one election object per lock file can win, because
+ * overlapping file locks held by the same JVM are rejected.
+ * </p>
+ */
+public class FileLockLeaderElection implements AutoCloseable {
+    private final Path lockFile;
+    private FileChannel channel;
+    private FileLock lock;
+    private boolean closed;
+
+    /**
+     * @param lockFile file used for the election; created if missing
+     */
+    public FileLockLeaderElection(Path lockFile) {
+        this.lockFile = Objects.requireNonNull(lockFile, "Lock file must not be null");
+    }
+
+    /**
+     * Check whether this process is the leader, trying to acquire leadership if it is free.
+     *
+     * @return {@code true} when this process currently holds leadership
+     */
+    public synchronized boolean isLeader() {
+        if (closed) {
+            return false;
+        }
+        if (lock != null && lock.isValid()) {
+            return true;
+        }
+        try {
+            if (channel == null || !channel.isOpen()) {
+                channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            }
+            lock = channel.tryLock();
+            return lock != null;
+        } catch (OverlappingFileLockException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to acquire leader lock: " + lockFile, e);
+        }
+    }
+
+    /**
+     * Give up leadership, allowing another process to take over.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        try {
+            if (lock != null && lock.isValid()) {
+                lock.release();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to release leader lock: " + lockFile, e);
+        } finally {
+            lock = null;
+            channel = null;
+        }
+    }
+}
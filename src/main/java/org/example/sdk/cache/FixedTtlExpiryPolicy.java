@@ -0,0 +1,39 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Expires every entry, current weather and forecast alike, a fixed duration after it was stored.
+ */
+public class FixedTtlExpiryPolicy implements ExpiryPolicy {
+    private final Duration ttl;
+
+    /**
+     * @param ttl time-to-live for cache entries (must be positive)
+     */
+    public FixedTtlExpiryPolicy(Duration ttl) {
+        this.ttl = Objects.requireNonNull(ttl, "TTL must not be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be greater than zero");
+        }
+    }
+
+    @Override
+    public Instant expiresAt(String cityName, WeatherResponse response, Instant storedAt) {
+        return storedAt.plus(ttl);
+    }
+
+    @Override
+    public Instant forecastExpiresAt(String cityName, Forecast forecast, Instant storedAt) {
+        return storedAt.plus(ttl);
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.history.HistoryMetric;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@link WeatherCache} with secondary indexes for queries such as "the 10 hottest cities" or
+ * "all cities with wind above 15 m/s", without iterating {@link #getAllCities()}.
+ * <p>
+ * Every write updates a sorted index per configured {@link HistoryMetric} and an index by
+ * weather condition ({@code Rain}, {@code Clear}, ...), at O(log n) per index. Top-N and range
+ * queries then take O(log n + k) for k results. Responses without a value for a metric are
+ * left out of its index. Values are in the units the responses were cached in, i.e. the units
+ * of the SDK instance that owns the cache.
+ * </p>
+ * <p>
+ * The cache always expires entries actively, so indexes only hold live entries; queries also
+ * skip entries that expired since the last {@link #expireEntries()}.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> Writes need external synchronization as for {@link WeatherCache}, which
+ * the SDK provides. Queries are thread-safe and need no external lock: they run under the
+ * indexes' own lock and each one returns a consistent snapshot, reflecting every write that
+ * completed before it and none that started after it.
+ * </p>
+ */
+public class IndexedWeatherCache extends WeatherCache {
+    private static final CacheListener NO_LISTENER = new CacheListener() {
+    };
+
+    private final Clock clock;
+    private final Set<HistoryMetric> metrics;
+    private final Object indexLock = new Object();
+    private final Map<String, Indexed> indexed = new HashMap<>();
+    private final Map<HistoryMetric, TreeSet<Indexed>> sorted = new EnumMap<>(HistoryMetric.class);
+    private final Map<String, TreeMap<String, Indexed>> byCondition = new HashMap<>();
+
+    /**
+     * Index temperature and wind speed.
+     *
+     * @param ttl     time-to-live for cache entries
+     * @param maxSize maximum number of cached cities
+     */
+    public IndexedWeatherCache(Duration ttl, int maxSize) {
+        this(new FixedTtlExpiryPolicy(ttl), maxSize, EnumSet.of(HistoryMetric.TEMPERATURE, HistoryMetric.WIND_SPEED));
+    }
+
+    /**
+     * @param expiryPolicy policy deciding when each entry expires
+     * @param maxSize      maximum number of cached cities
+     * @param metrics      metrics to keep sorted indexes for; conditions are always indexed
+     */
+    public IndexedWeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Set<HistoryMetric> metrics) {
+        this(expiryPolicy, maxSize, metrics, Duration.ZERO, NO_LISTENER);
+    }
+
+    /**
+     * Create an indexed cache that also reports refresh and removal notifications to a listener.
+     *
+     * @param expiryPolicy policy deciding when each entry expires
+     * @param maxSize      maximum number of cached cities
+     * @param metrics      metrics to keep sorted indexes for; conditions are always indexed
+     * @param refreshAhead how long before expiry {@link CacheListener#onRefreshDue} fires;
+     *                     {@link Duration#ZERO} disables refresh-ahead callbacks
+     * @param listener     receiver of refresh and removal notifications
+     */
+    public IndexedWeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Set<HistoryMetric> metrics,
+                               Duration refreshAhead, CacheListener listener) {
+        this(expiryPolicy, maxSize, metrics, refreshAhead, listener, Clock.systemUTC());
+    }
+
+    IndexedWeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Set<HistoryMetric> metrics,
+                        Duration refreshAhead, CacheListener listener, Clock clock) {
+        super(expiryPolicy, maxSize, refreshAhead, Objects.requireNonNull(listener, "Cache listener must not be null"), clock);
+        Objects.requireNonNull(metrics, "Metrics must not be null");
+        this.clock = clock;
+        this.metrics = metrics.isEmpty() ? EnumSet.noneOf(HistoryMetric.class) : EnumSet.copyOf(metrics);
+        for (HistoryMetric metric : this.metrics) {
+            sorted.put(metric, new TreeSet<>(order(metric)));
+        }
+    }
+
+    /**
+     * @return metrics with a sorted index
+     */
+    public Set<HistoryMetric> getIndexedMetrics() {
+        return Collections.unmodifiableSet(metrics);
+    }
+
+    /**
+     * Cities with the highest values of a metric, e.g. the hottest cities.
+     *
+     * @param metric indexed metric
+     * @param limit  maximum number of results
+     * @return up to {@code limit} cities, highest value first
+     * @throws IllegalArgumentException if the metric is not indexed
+     */
+    public List<CityWeather> top(HistoryMetric metric, int limit) {
+        return first(metric, limit, true);
+    }
+
+    /**
+     * Cities with the lowest values of a metric, e.g. the coldest cities.
+     *
+     * @param metric indexed metric
+     * @param limit  maximum number of results
+     * @return up to {@code limit} cities, lowest value first
+     * @throws IllegalArgumentException if the metric is not indexed
+     */
+    public List<CityWeather> bottom(HistoryMetric metric, int limit) {
+        return first(metric, limit, false);
+    }
+
+    /**
+     * Cities whose metric lies within {@code [min, max]}; pass infinite bounds for open ranges
+     * and {@link Math#nextUp(double)} for an exclusive lower bound.
+     *
+     * @param metric indexed metric
+     * @param min    lowest value, inclusive
+     * @param max    highest value, inclusive
+     * @return matching cities, lowest value first
+     * @throws IllegalArgumentException if the metric is not indexed
+     */
+    public List<CityWeather> range(HistoryMetric metric, double min, double max) {
+        return range(metric, min, max, null);
+    }
+
+    /**
+     * Cities whose metric lies within {@code [min, max]} and that report the given condition,
+     * e.g. rainy cities below 5 degrees.
+     *
+     * @param metric    indexed metric
+     * @param min       lowest value, inclusive
+     * @param max       highest value, inclusive
+     * @param condition main weather condition, compared case-insensitively; {@code null} for any
+     * @return matching cities, lowest value first
+     * @throws IllegalArgumentException if the metric is not indexed
+     */
+    public List<CityWeather> range(HistoryMetric metric, double min, double max, String condition) {
+        TreeSet<Indexed> index = index(metric);
+        if (!(min <= max)) {
+            return new ArrayList<>();
+        }
+        String conditionKey = condition == null ? null : conditionKey(condition);
+        synchronized (indexLock) {
+            long now = clock.millis();
+            List<CityWeather> result = new ArrayList<>();
+            for (Indexed candidate : index.subSet(Indexed.probe(metric, min, -1), true, Indexed.probe(metric, max, 1), true)) {
+                if (conditionKey == null || conditionKey.equals(candidate.conditionKey)) {
+                    add(result, candidate, now);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Cities that report a main weather condition, e.g. {@code "Rain"}.
+     *
+     * @param condition main weather condition, compared case-insensitively
+     * @return matching cities in name order
+     */
+    public List<CityWeather> withCondition(String condition) {
+        Objects.requireNonNull(condition, "Condition must not be null");
+        synchronized (indexLock) {
+            TreeMap<String, Indexed> cities = byCondition.get(conditionKey(condition));
+            if (cities == null) {
+                return new ArrayList<>();
+            }
+            long now = clock.millis();
+            List<CityWeather> result = new ArrayList<>(cities.size());
+            for (Indexed candidate : cities.values()) {
+                add(result, candidate, now);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * @return number of cached cities per main weather condition, keyed in lower case
+     */
+    public Map<String, Integer> countByCondition() {
+        synchronized (indexLock) {
+            Map<String, Integer> counts = new TreeMap<>();
+            for (Map.Entry<String, TreeMap<String, Indexed>> entry : byCondition.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().size());
+            }
+            return counts;
+        }
+    }
+
+    @Override
+    void entryChanged(String cityName, CacheEntry previous, CacheEntry entry) {
+        Indexed added = entry == null ? null : new Indexed(cityName, entry, entry.getWeatherResponse());
+        synchronized (indexLock) {
+            Indexed removed = added == null ? indexed.remove(cityName) : indexed.put(cityName, added);
+            if (removed != null) {
+                unindex(removed);
+            }
+            if (added != null) {
+                index(added);
+            }
+        }
+    }
+
+    @Override
+    void entriesCleared() {
+        synchronized (indexLock) {
+            indexed.clear();
+            byCondition.clear();
+            for (TreeSet<Indexed> index : sorted.values()) {
+                index.clear();
+            }
+        }
+    }
+
+    private List<CityWeather> first(HistoryMetric metric, int limit, boolean highest) {
+        TreeSet<Indexed> index = index(metric);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        synchronized (indexLock) {
+            long now = clock.millis();
+            List<CityWeather> result = new ArrayList<>(Math.min(limit, index.size()));
+            Iterator<Indexed> candidates = highest ? index.descendingIterator() : index.iterator();
+            while (result.size() < limit && candidates.hasNext()) {
+                add(result, candidates.next(), now);
+            }
+            return result;
+        }
+    }
+
+    private TreeSet<Indexed> index(HistoryMetric metric) {
+        Objects.requireNonNull(metric, "Metric must not be null");
+        TreeSet<Indexed> index = sorted.get(metric);
+        if (index == null) {
+            throw new IllegalArgumentException("Metric is not indexed: " + metric);
+        }
+        return index;
+    }
+
+    private void index(Indexed entry) {
+        for (Map.Entry<HistoryMetric, TreeSet<Indexed>> index : sorted.entrySet()) {
+            if (!Double.isNaN(entry.values[index.getKey().ordinal()])) {
+                index.getValue().add(entry);
+            }
+        }
+        if (entry.conditionKey != null) {
+            byCondition.computeIfAbsent(entry.conditionKey, key -> new TreeMap<>()).put(entry.cityName, entry);
+        }
+    }
+
+    private void unindex(Indexed entry) {
+        for (Map.Entry<HistoryMetric, TreeSet<Indexed>> index : sorted.entrySet()) {
+            if (!Double.isNaN(entry.values[index.getKey().ordinal()])) {
+                index.getValue().remove(entry);
+            }
+        }
+        if (entry.conditionKey != null) {
+            TreeMap<String, Indexed> cities = byCondition.get(entry.conditionKey);
+            if (cities != null && cities.remove(entry.cityName) != null && cities.isEmpty()) {
+                byCondition.remove(entry.conditionKey);
+            }
+        }
+    }
+
+    private static void add(List<CityWeather> result, Indexed candidate, long now) {
+        if (candidate.entry.isValid(now)) {
+            result.add(new CityWeather(candidate.cityName, candidate.response));
+        }
+    }
+
+    private static String conditionKey(String condition) {
+        return condition.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Orders by metric value, then city name; probes sort before or after all entries with their value.
+     */
+    private static Comparator<Indexed> order(HistoryMetric metric) {
+        int slot = metric.ordinal();
+        return (a, b) -> {
+            int byValue = Double.compare(a.values[slot], b.values[slot]);
+            if (byValue != 0) {
+                return byValue;
+            }
+            if (a.bound != 0 || b.bound != 0) {
+                return Integer.compare(a.bound, b.bound);
+            }
+            return a.cityName.compareTo(b.cityName);
+        };
+    }
+
+    /**
+     * Index record of one cached city, with the metric values extracted once at write time.
+     */
+    private static final class Indexed {
+        private static final HistoryMetric[] METRICS = HistoryMetric.values();
+
+        private final String cityName;
+        private final CacheEntry entry;
+        private final WeatherResponse response;
+        private final double[] values;
+        private final String conditionKey;
+        private final int bound;
+
+        private Indexed(String cityName, CacheEntry entry, WeatherResponse response) {
+            this.cityName = cityName;
+            this.entry = entry;
+            this.response = response;
+            this.values = new double[METRICS.length];
+            for (HistoryMetric metric : METRICS) {
+                values[metric.ordinal()] = metric.extract(response);
+            }
+            String condition = response.getWeather() == null ? null : response.getWeather().getMain();
+            this.conditionKey = condition == null || condition.isBlank() ? null : conditionKey(condition);
+            this.bound = 0;
+        }
+
+        private Indexed(HistoryMetric metric, double value, int bound) {
+            this.cityName = null;
+            this.entry = null;
+            this.response = null;
+            this.values = new double[METRICS.length];
+            values[metric.ordinal()] = value;
+            this.conditionKey = null;
+            this.bound = bound;
+        }
+
+        /**
+         * Search key sorting before ({@code bound < 0}) or after ({@code bound > 0}) every entry with the value.
+         */
+        private static Indexed probe(HistoryMetric metric, double value, int bound) {
+            return new Indexed(metric, value, bound);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Expires entries when the provider is expected to publish the next observation.
+ * <p>
+ * OpenWeatherMap reports the observation time as {@code dt}. The next observation is expected
+ * one update interval later, so an entry stored right before an upstream update expires early
+ * and an entry stored right after one lives for almost the full interval. When the next
+ * observation is already overdue the entry is rechecked after a short retry delay.
+ * </p>
+ * <p>
+ * During volatile conditions (thunderstorms, squalls, tornadoes or strong wind) a shorter
+ * update interval is assumed. The strong-wind threshold is in m/s; wind speeds of cached data
+ * requested in imperial units are converted from mph before the comparison, so the policy must
+ * be told the units the data is requested in. Per-city overrides replace the computation with a
+ * fixed TTL.
+ * The result is always clamped to {@code [minTtl, maxTtl]} from the store time.
+ * </p>
+ */
+public class ObservationAwareExpiryPolicy implements ExpiryPolicy {
+    private static final Duration DEFAULT_UPDATE_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_VOLATILE_UPDATE_INTERVAL = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_OVERDUE_RETRY = Duration.ofMinutes(2);
+    private static final Duration DEFAULT_MIN_TTL = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_MAX_TTL = Duration.ofMinutes(30);
+    private static final double DEFAULT_VOLATILE_WIND_SPEED = 17.2;
+    private static final double METERS_PER_SECOND_PER_MPH = 0.44704;
+    private static final Set<String> VOLATILE_CONDITIONS = Set.of("Thunderstorm", "Squall", "Tornado");
+
+    private final Duration updateInterval;
+    private final Duration volatileUpdateInterval;
+    private final Duration overdueRetry;
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final double volatileWindSpeed;
+    private final double windSpeedToMetersPerSecond;
+    private final Map<String, Duration> overrides = new ConcurrentHashMap<>();
+
+    /**
+     * Create a policy for metric or standard data with a 10 minute update interval (5 minutes in
+     * volatile conditions), TTLs clamped to 1-30 minutes and a strong-wind threshold of 17.2 m/s.
+     */
+    public ObservationAwareExpiryPolicy() {
+        this("metric");
+    }
+
+    /**
+     * Create a policy with the defaults of {@link #ObservationAwareExpiryPolicy()} for data
+     * requested in the given units.
+     *
+     * @param units units the cached data is requested in: "metric", "imperial", or "standard"
+     */
+    public ObservationAwareExpiryPolicy(String units) {
+        this(DEFAULT_UPDATE_INTERVAL, DEFAULT_VOLATILE_UPDATE_INTERVAL, DEFAULT_OVERDUE_RETRY,
+                DEFAULT_MIN_TTL, DEFAULT_MAX_TTL, DEFAULT_VOLATILE_WIND_SPEED, units);
+    }
+
+    /**
+     * Create a policy for metric or standard data.
+     *
+     * @param updateInterval         expected time between upstream observations
+     * @param volatileUpdateInterval expected time between observations during volatile conditions
+     * @param overdueRetry           delay before rechecking when the next observation is overdue
+     * @param minTtl                 lower bound for the computed TTL
+     * @param maxTtl                 upper bound for the computed TTL
+     * @param volatileWindSpeed      wind speed in m/s treated as volatile
+     */
+    public ObservationAwareExpiryPolicy(Duration updateInterval, Duration volatileUpdateInterval, Duration overdueRetry,
+                                        Duration minTtl, Duration maxTtl, double volatileWindSpeed) {
+        this(updateInterval, volatileUpdateInterval, overdueRetry, minTtl, maxTtl, volatileWindSpeed, "metric");
+    }
+
+    /**
+     * @param updateInterval         expected time between upstream observations
+     * @param volatileUpdateInterval expected time between observations during volatile conditions
+     * @param overdueRetry           delay before rechecking when the next observation is overdue
+     * @param minTtl                 lower bound for the computed TTL
+     * @param maxTtl                 upper bound for the computed TTL
+     * @param volatileWindSpeed      wind speed in m/s treated as volatile
+     * @param units                  units the cached data is requested in: "metric", "imperial", or "standard"
+     */
+    public ObservationAwareExpiryPolicy(Duration updateInterval, Duration volatileUpdateInterval, Duration overdueRetry,
+                                        Duration minTtl, Duration maxTtl, double volatileWindSpeed, String units) {
+        Objects.requireNonNull(units, "Units must not be null");
+        switch (units) {
+            case "metric":
+            case "standard":
+                this.windSpeedToMetersPerSecond = 1;
+                break;
+            case "imperial":
+                this.windSpeedToMetersPerSecond = METERS_PER_SECOND_PER_MPH;
+                break;
+            default:
+                throw new IllegalArgumentException("Units must be metric, imperial or standard: " + units);
+        }
+        this.updateInterval = requirePositive(updateInterval, "Update interval");
+        this.volatileUpdateInterval = requirePositive(volatileUpdateInterval, "Volatile update interval");
+        this.overdueRetry = requirePositive(overdueRetry, "Overdue retry");
+        this.minTtl = requirePositive(minTtl, "Min TTL");
+        this.maxTtl = requirePositive(maxTtl, "Max TTL");
+        if (maxTtl.compareTo(minTtl) < 0) {
+            throw new IllegalArgumentException("Max TTL must not be less than min TTL");
+        }
+        this.volatileWindSpeed = volatileWindSpeed;
+    }
+
+    /**
+     * Use a fixed TTL for the given city instead of the observation-based computation.
+     *
+     * @param cityName city identifier as used for cache keys
+     * @param ttl      time-to-live for the city's entries (must be positive)
+     */
+    public void overrideTtl(String cityName, Duration ttl) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        overrides.put(cityName, requirePositive(ttl, "TTL"));
+    }
+
+    /**
+     * Remove a per-city TTL override, if present.
+     *
+     * @param cityName city identifier as used for cache keys
+     */
+    public void clearOverride(String cityName) {
+        if (cityName != null) {
+            overrides.remove(cityName);
+        }
+    }
+
+    @Override
+    public Instant expiresAt(String cityName, WeatherResponse response, Instant storedAt) {
+        Duration override = cityName == null ? null : overrides.get(cityName);
+        if (override != null) {
+            return storedAt.plus(override);
+        }
+
+        Duration interval = isVolatile(response) ? volatileUpdateInterval : updateInterval;
+        Instant expiresAt;
+        Long observedAt = response == null ? null : response.getDatetime();
+        if (observedAt == null) {
+            expiresAt = storedAt.plus(interval);
+        } else {
+            Instant nextObservation = Instant.ofEpochSecond(observedAt).plus(interval);
+            expiresAt = nextObservation.isAfter(storedAt) ? nextObservation : storedAt.plus(overdueRetry);
+        }
+
+        Instant earliest = storedAt.plus(minTtl);
+        Instant latest = storedAt.plus(maxTtl);
+        if (expiresAt.isBefore(earliest)) {
+            return earliest;
+        }
+        return expiresAt.isAfter(latest) ? latest : expiresAt;
+    }
+
+    /**
+     * Forecasts are recomputed upstream only every few hours, so they are kept for the maximum
+     * TTL unless the city has an override.
+     */
+    @Override
+    public Instant forecastExpiresAt(String cityName, Forecast forecast, Instant storedAt) {
+        Duration override = cityName == null ? null : overrides.get(cityName);
+        return storedAt.plus(override != null ? override : maxTtl);
+    }
+
+    private boolean isVolatile(WeatherResponse response) {
+        if (response == null) {
+            return false;
+        }
+        if (response.getWeather() != null && VOLATILE_CONDITIONS.contains(response.getWeather().getMain())) {
+            return true;
+        }
+        return response.getWind() != null && response.getWind().getSpeed() != null
+                && response.getWind().getSpeed() * windSpeedToMetersPerSecond >= volatileWindSpeed;
+    }
+
+    private static Duration requirePositive(Duration value, String name) {
+        Objects.requireNonNull(value, name + " must not be null");
+        if (value.isNegative() || value.isZero()) {
+            throw new IllegalArgumentException(name + " must be greater than zero");
+        }
+        return value;
+    }
+}
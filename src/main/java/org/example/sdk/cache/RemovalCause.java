@@ -0,0 +1,19 @@
+package org.example.sdk.cache;
+
+/**
+ * Reason why an entry left the cache.
+ */
+public enum RemovalCause {
+    /**
+     * The entry reached its expiry time and was removed by active expiration.
+     */
+    EXPIRED,
+    /**
+     * The entry was evicted to keep the cache within its maximum size.
+     */
+    SIZE,
+    /**
+     * The entry was removed through {@link Cache#remove(String)} or {@link Cache#clear()}.
+     */
+    EXPLICIT
+}
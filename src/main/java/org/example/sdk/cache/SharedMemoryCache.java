@@ -0,0 +1,523 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.WeatherResponseJson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Weather cache stored in a memory-mapped file that is shared by every SDK process on a host.
+ * <p>
+ * The file holds a fixed number of equally sized slots. A city is hashed to a short probe
+ * window of slots; when the window is full the entry with the oldest store time is replaced.
+ * </p>
+ * <p>
+ * Each slot is guarded by a sequence counter (seqlock). Readers never block: they read the
+ * counter, copy the slot and re-read the counter, retrying when a write was in progress.
+ * Writers are serialised by an in-process lock plus an exclusive file lock, bump the counter
+ * to an odd value, write the slot and publish it by bumping the counter back to even.
+ * </p>
+ * <p>
+ * In {@link org.example.sdk.Mode#POLLING} only one process per file refreshes the shared
+ * entries; see {@link #isRefreshLeader()}.
+ * </p>
+ * <p>
+ * Forecasts are not supported: a forecast does not fit a slot, so {@link #getForecast(String)}
+ * always misses and every forecast lookup goes to the API. Use a {@link WeatherCache} in each
+ * process when forecasts should be cached.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public class SharedMemoryCache implements Cache, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(SharedMemoryCache.class.getName());
+    private static final Map<Path, ReentrantLock> WRITE_LOCKS = new ConcurrentHashMap<>();
+    private static final VarHandle LONG_HANDLE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final int DEFAULT_SLOT_COUNT = 1024;
+    private static final int DEFAULT_SLOT_SIZE = 1024;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private static final int MAGIC = 0x4F574D43;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SLOT_COUNT_OFFSET = 8;
+    private static final int SLOT_SIZE_OFFSET = 12;
+
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final int STORED_AT_OFFSET = 8;
+    private static final int KEY_HASH_OFFSET = 16;
+    private static final int KEY_LENGTH_OFFSET = 20;
+    private static final int VALUE_LENGTH_OFFSET = 24;
+    private static final int DATA_OFFSET = 32;
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final int PROBE_LIMIT = 8;
+    private static final int MAX_READ_ATTEMPTS = 64;
+
+    private final Path file;
+    private final int slotCount;
+    private final int slotSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ReentrantLock writeLock;
+    private final FileLockLeaderElection leaderElection;
+    private volatile boolean closed;
+
+    /**
+     * Open or create a shared cache file with default geometry (1024 slots of 1 KiB) and a 10 minute TTL.
+     *
+     * @param file path of the shared cache file
+     */
+    public SharedMemoryCache(Path file) {
+        this(file, DEFAULT_SLOT_COUNT, DEFAULT_TTL);
+    }
+
+    /**
+     * Open or create a shared cache file.
+     * <p>
+     * All processes sharing a file must use the same slot count; a mismatch is rejected.
+     * </p>
+     *
+     * @param file      path of the shared cache file
+     * @param slotCount number of slots (maximum number of cached cities)
+     * @param ttl       time-to-live for cache entries
+     */
+    public SharedMemoryCache(Path file, int slotCount, Duration ttl) {
+        this(file, slotCount, DEFAULT_SLOT_SIZE, ttl, Clock.systemUTC());
+    }
+
+    SharedMemoryCache(Path file, int slotCount, int slotSize, Duration ttl, Clock clock) {
+        Objects.requireNonNull(file, "File must not be null");
+        this.ttl = Objects.requireNonNull(ttl, "TTL must not be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be greater than zero");
+        }
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("Slot count must be greater than zero");
+        }
+        if (slotSize < DATA_OFFSET + MAX_KEY_LENGTH || slotSize % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Slot size must be a multiple of 8 and at least " + (DATA_OFFSET + MAX_KEY_LENGTH));
+        }
+        this.file = file.toAbsolutePath().normalize();
+        this.slotCount = slotCount;
+        this.slotSize = slotSize;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+        this.writeLock = WRITE_LOCKS.computeIfAbsent(this.file, p -> new ReentrantLock());
+
+        try {
+            this.channel = FileChannel.open(this.file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open shared cache file: " + this.file, e);
+        }
+        try {
+            this.buffer = lockAndMap(HEADER_SIZE + (long) slotCount * slotSize);
+            this.leaderElection = new FileLockLeaderElection(Path.of(this.file + ".leader"));
+        } catch (IOException e) {
+            closeChannelAfter(e);
+            throw new UncheckedIOException("Failed to open shared cache file: " + this.file, e);
+        } catch (RuntimeException | Error e) {
+            closeChannelAfter(e);
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer lockAndMap(long length) throws IOException {
+        writeLock.lock();
+        try {
+            FileLock headerLock = channel.lock(0, HEADER_SIZE, false);
+            try {
+                return mapFile(length);
+            } finally {
+                headerLock.release();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Close the file handle when the constructor fails, keeping the original failure.
+     */
+    private void closeChannelAfter(Throwable failure) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Map the file and initialise or validate its header; called while holding the header lock.
+     */
+    private MappedByteBuffer mapFile(long length) throws IOException {
+        boolean fresh = channel.size() == 0;
+        if (!fresh && channel.size() != length) {
+            throw new IllegalStateException("Shared cache geometry mismatch for file: " + this.file);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        mapped.order(ByteOrder.nativeOrder());
+        if (fresh) {
+            mapped.putInt(MAGIC_OFFSET, MAGIC);
+            mapped.putInt(VERSION_OFFSET, VERSION);
+            mapped.putInt(SLOT_COUNT_OFFSET, slotCount);
+            mapped.putInt(SLOT_SIZE_OFFSET, slotSize);
+        } else {
+            validateHeader(mapped);
+        }
+        return mapped;
+    }
+
+    @Override
+    public WeatherResponse get(String cityName) {
+        return lookup(cityName, false);
+    }
+
+    @Override
+    public WeatherResponse getStale(String cityName) {
+        return lookup(cityName, true);
+    }
+
+    private WeatherResponse lookup(String cityName, boolean allowExpired) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        if (closed) {
+            return null;
+        }
+        byte[] key = cityName.getBytes(StandardCharsets.UTF_8);
+        if (key.length > MAX_KEY_LENGTH) {
+            return null;
+        }
+        int hash = Arrays.hashCode(key);
+        int start = slotIndex(hash);
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            SlotSnapshot snapshot = readSlot((start + probe) % slotCount);
+            if (snapshot != null && snapshot.matches(hash, key)) {
+                if (!allowExpired && clock.millis() > snapshot.storedAt + ttl.toMillis()) {
+                    return null;
+                }
+                return decode(snapshot.value);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(String cityName, WeatherResponse weatherResponse) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
+        if (closed) {
+            return;
+        }
+        byte[] key = cityName.getBytes(StandardCharsets.UTF_8);
+        byte[] value;
+        try {
+            value = WeatherResponseJson.toBytes(weatherResponse);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to encode weather for shared cache: " + cityName, e);
+            return;
+        }
+        if (key.length > MAX_KEY_LENGTH || DATA_OFFSET + key.length + value.length > slotSize) {
+            LOGGER.fine(() -> "Entry too large for shared cache slot, skipping: " + cityName);
+            return;
+        }
+
+        int hash = Arrays.hashCode(key);
+        withWriteLock(() -> {
+            int target = findSlotForWrite(hash, key);
+            writeSlot(target, hash, key, value, clock.millis());
+        });
+    }
+
+    @Override
+    public String[] getAllCities() {
+        if (closed) {
+            return new String[0];
+        }
+        List<String> cities = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            SlotSnapshot snapshot = readSlot(slot);
+            if (snapshot != null) {
+                cities.add(new String(snapshot.key, StandardCharsets.UTF_8));
+            }
+        }
+        return cities.toArray(new String[0]);
+    }
+
+    @Override
+    public void clear() {
+        if (closed) {
+            return;
+        }
+        withWriteLock(() -> {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (keyLength(slot) != 0) {
+                    writeSlot(slot, 0, new byte[0], new byte[0], 0);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void remove(String cityName) {
+        if (cityName == null || closed) {
+            return;
+        }
+        byte[] key = cityName.getBytes(StandardCharsets.UTF_8);
+        if (key.length > MAX_KEY_LENGTH) {
+            return;
+        }
+        int hash = Arrays.hashCode(key);
+        withWriteLock(() -> {
+            int start = slotIndex(hash);
+            for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+                int slot = (start + probe) % slotCount;
+                if (slotHoldsKey(slot, hash, key)) {
+                    writeSlot(slot, 0, new byte[0], new byte[0], 0);
+                    return;
+                }
+            }
+        });
+    }
+
+    @Override
+    public int size() {
+        if (closed) {
+            return 0;
+        }
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (readSlot(slot) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Only the process holding the leader lock for this file refreshes shared entries,
+     * so upstream polling traffic does not grow with the number of processes.
+     */
+    @Override
+    public boolean isRefreshLeader() {
+        return !closed && leaderElection.isLeader();
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * Release the leader lock and the file handle. The mapping itself is released by the garbage collector.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        leaderElection.close();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close shared cache file: " + file, e);
+        }
+    }
+
+    private void validateHeader(MappedByteBuffer mapped) {
+        if (mapped.getInt(MAGIC_OFFSET) != MAGIC || mapped.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IllegalStateException("File is not a shared weather cache: " + file);
+        }
+        if (mapped.getInt(SLOT_COUNT_OFFSET) != slotCount || mapped.getInt(SLOT_SIZE_OFFSET) != slotSize) {
+            throw new IllegalStateException("Shared cache geometry mismatch for file: " + file);
+        }
+    }
+
+    private int slotIndex(int hash) {
+        return (hash & 0x7fffffff) % slotCount;
+    }
+
+    private int slotBase(int slot) {
+        return HEADER_SIZE + slot * slotSize;
+    }
+
+    private int keyLength(int slot) {
+        return buffer.getInt(slotBase(slot) + KEY_LENGTH_OFFSET);
+    }
+
+    /**
+     * Lock-free seqlock read of a slot.
+     *
+     * @return slot contents, or {@code null} if the slot is empty or kept changing under the reader
+     */
+    private SlotSnapshot readSlot(int slot) {
+        int base = slotBase(slot);
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long before = (long) LONG_HANDLE.getAcquire(buffer, base + SEQUENCE_OFFSET);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            int keyLength = buffer.getInt(base + KEY_LENGTH_OFFSET);
+            int valueLength = buffer.getInt(base + VALUE_LENGTH_OFFSET);
+            if (keyLength == 0) {
+                VarHandle.loadLoadFence();
+                if ((long) LONG_HANDLE.getAcquire(buffer, base + SEQUENCE_OFFSET) == before) {
+                    return null;
+                }
+                continue;
+            }
+            if (keyLength < 0 || keyLength > MAX_KEY_LENGTH || valueLength < 0
+                    || DATA_OFFSET + keyLength + valueLength > slotSize) {
+                continue;
+            }
+            long storedAt = buffer.getLong(base + STORED_AT_OFFSET);
+            int keyHash = buffer.getInt(base + KEY_HASH_OFFSET);
+            byte[] key = new byte[keyLength];
+            byte[] value = new byte[valueLength];
+            buffer.get(base + DATA_OFFSET, key, 0, keyLength);
+            buffer.get(base + DATA_OFFSET + keyLength, value, 0, valueLength);
+
+            VarHandle.loadLoadFence();
+            if ((long) LONG_HANDLE.getAcquire(buffer, base + SEQUENCE_OFFSET) == before) {
+                return new SlotSnapshot(keyHash, key, value, storedAt);
+            }
+        }
+        return null;
+    }
+
+    private boolean slotHoldsKey(int slot, int hash, byte[] key) {
+        int base = slotBase(slot);
+        int keyLength = buffer.getInt(base + KEY_LENGTH_OFFSET);
+        if (keyLength != key.length || buffer.getInt(base + KEY_HASH_OFFSET) != hash) {
+            return false;
+        }
+        byte[] stored = new byte[keyLength];
+        buffer.get(base + DATA_OFFSET, stored, 0, keyLength);
+        return Arrays.equals(stored, key);
+    }
+
+    /**
+     * Pick the slot to write: the slot already holding the key, else the first empty slot,
+     * else the slot with the oldest entry in the probe window. Caller must hold the write lock.
+     */
+    private int findSlotForWrite(int hash, byte[] key) {
+        int start = slotIndex(hash);
+        int firstEmpty = -1;
+        int oldest = start;
+        long oldestStoredAt = Long.MAX_VALUE;
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int slot = (start + probe) % slotCount;
+            if (slotHoldsKey(slot, hash, key)) {
+                return slot;
+            }
+            if (keyLength(slot) == 0) {
+                if (firstEmpty < 0) {
+                    firstEmpty = slot;
+                }
+                continue;
+            }
+            long storedAt = buffer.getLong(slotBase(slot) + STORED_AT_OFFSET);
+            if (storedAt < oldestStoredAt) {
+                oldestStoredAt = storedAt;
+                oldest = slot;
+            }
+        }
+        return firstEmpty >= 0 ? firstEmpty : oldest;
+    }
+
+    /**
+     * Seqlock write of a slot. Caller must hold the write lock. An odd sequence left behind by a
+     * writer that crashed mid-write is completed rather than incremented past.
+     */
+    private void writeSlot(int slot, int hash, byte[] key, byte[] value, long storedAt) {
+        int base = slotBase(slot);
+        long sequence = (long) LONG_HANDLE.getVolatile(buffer, base + SEQUENCE_OFFSET);
+        long writing = (sequence & 1) == 0 ? sequence + 1 : sequence;
+        LONG_HANDLE.setVolatile(buffer, base + SEQUENCE_OFFSET, writing);
+        VarHandle.storeStoreFence();
+
+        buffer.putLong(base + STORED_AT_OFFSET, storedAt);
+        buffer.putInt(base + KEY_HASH_OFFSET, hash);
+        buffer.putInt(base + KEY_LENGTH_OFFSET, key.length);
+        buffer.putInt(base + VALUE_LENGTH_OFFSET, value.length);
+        buffer.put(base + DATA_OFFSET, key, 0, key.length);
+        buffer.put(base + DATA_OFFSET + key.length, value, 0, value.length);
+
+        LONG_HANDLE.setRelease(buffer, base + SEQUENCE_OFFSET, writing + 1);
+    }
+
+    private void withWriteLock(Runnable action) {
+        writeLock.lock();
+        try {
+            FileLock fileLock = channel.lock(0, HEADER_SIZE, false);
+            try {
+                action.run();
+            } finally {
+                fileLock.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to lock shared cache file: " + file, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private WeatherResponse decode(byte[] value) {
+        try {
+            return WeatherResponseJson.fromBytes(value);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to decode shared cache entry", e);
+            return null;
+        }
+    }
+
+    private static final class SlotSnapshot {
+        private final int keyHash;
+        private final byte[] key;
+        private final byte[] value;
+        private final long storedAt;
+
+        private SlotSnapshot(int keyHash, byte[] key, byte[] value, long storedAt) {
+            this.keyHash = keyHash;
+            this.key = key;
+            this.value = value;
+            this.storedAt = storedAt;
+        }
+
+        private boolean matches(int hash, byte[] expectedKey) {
+            return keyHash == hash && Arrays.equals(key, expectedKey);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-optimized cache for {@link org.example.sdk.Mode#POLLING}, where entries change mostly in
+ * background refresh cycles.
+ * <p>
+ * All entries live in an immutable map that is replaced as a whole: writers copy the current map,
+ * apply their changes and publish the copy through a volatile field. A lookup is one volatile
+ * read and one hash lookup, without locks, so readers never wait for writers or for each other.
+ * The cache is thread-safe, and the SDK calls it without its own cache lock.
+ * </p>
+ * <p>
+ * Copying costs time proportional to the cache size, so background refreshes of cached cities
+ * through {@link #refresh(String, WeatherResponse)} are staged and published together: when a
+ * batch reaches an eighth of the cache, and at the latest on the next {@link #expireEntries()},
+ * which the SDK calls every second. Until then readers see the previous, still valid, response.
+ * Refreshes of expired entries, and every {@link #put(String, WeatherResponse)}, are published
+ * immediately, so a put is visible to the next lookup.
+ * </p>
+ * <p>
+ * Like {@link WeatherCache}, expired entries are kept until capacity runs out, so
+ * {@link #getStale(String)} can serve them when a refresh fails or times out. When the cache
+ * is full, expired entries are evicted first; lookups do not record recency, so among valid
+ * entries the city stored first is evicted (FIFO). Forecasts are kept in a second snapshot map
+ * with the same capacity and are published immediately.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public class SnapshotWeatherCache implements Cache {
+    private static final int MIN_BATCH = 64;
+
+    private final ExpiryPolicy expiryPolicy;
+    private final int maxSize;
+    private final Clock clock;
+    private final Object writeLock = new Object();
+    private final Map<String, CacheEntry> pending = new LinkedHashMap<>();
+    private volatile Map<String, CacheEntry> entries = Collections.emptyMap();
+    private volatile Map<String, ForecastEntry> forecasts = Collections.emptyMap();
+
+    /**
+     * @param ttl     time-to-live for cache entries
+     * @param maxSize maximum number of cached cities
+     */
+    public SnapshotWeatherCache(Duration ttl, int maxSize) {
+        this(new FixedTtlExpiryPolicy(ttl), maxSize);
+    }
+
+    /**
+     * @param expiryPolicy policy deciding when each entry expires
+     * @param maxSize      maximum number of cached cities
+     */
+    public SnapshotWeatherCache(ExpiryPolicy expiryPolicy, int maxSize) {
+        this(expiryPolicy, maxSize, Clock.systemUTC());
+    }
+
+    SnapshotWeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Clock clock) {
+        this.expiryPolicy = Objects.requireNonNull(expiryPolicy, "Expiry policy must not be null");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be greater than zero");
+        }
+        this.maxSize = maxSize;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+    }
+
+    @Override
+    public WeatherResponse get(String cityName) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        CacheEntry entry = entries.get(cityName);
+        if (entry == null || !entry.isValid(clock.millis())) {
+            return null;
+        }
+        return entry.getWeatherResponse();
+    }
+
+    @Override
+    public WeatherResponse getStale(String cityName) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        CacheEntry entry = entries.get(cityName);
+        return entry == null ? null : entry.getWeatherResponse();
+    }
+
+    @Override
+    public void put(String cityName, WeatherResponse weatherResponse) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
+        synchronized (writeLock) {
+            publish(cityName, newEntry(cityName, weatherResponse));
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String cityName, WeatherResponse weatherResponse) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
+        synchronized (writeLock) {
+            Map<String, CacheEntry> current = entries;
+            if (current.containsKey(cityName) || current.size() >= maxSize) {
+                return false;
+            }
+            publish(cityName, newEntry(cityName, weatherResponse));
+            return true;
+        }
+    }
+
+    /**
+     * Stages the response for cities with a valid entry, to be published with the next batch;
+     * expired entries are replaced immediately. Absent cities are stored only if the cache has
+     * spare capacity.
+     */
+    @Override
+    public void refresh(String cityName, WeatherResponse weatherResponse) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
+        synchronized (writeLock) {
+            CacheEntry current = entries.get(cityName);
+            if (current == null) {
+                putIfAbsent(cityName, weatherResponse);
+                return;
+            }
+            CacheEntry entry = newEntry(cityName, weatherResponse);
+            if (current.isValid(entry.storedAtMillis())) {
+                stage(cityName, entry);
+            } else {
+                publish(cityName, entry);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasCapacity() {
+        return entries.size() < maxSize;
+    }
+
+    @Override
+    public boolean contains(String cityName) {
+        return cityName != null && entries.containsKey(cityName);
+    }
+
+    @Override
+    public String[] getAllCities() {
+        return entries.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            pending.clear();
+            entries = Collections.emptyMap();
+            forecasts = Collections.emptyMap();
+        }
+    }
+
+    @Override
+    public void remove(String cityName) {
+        if (cityName == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            pending.remove(cityName);
+            if (entries.containsKey(cityName)) {
+                Map<String, CacheEntry> next = new LinkedHashMap<>(entries);
+                next.remove(cityName);
+                entries = next;
+            }
+            if (forecasts.containsKey(cityName)) {
+                Map<String, ForecastEntry> next = new LinkedHashMap<>(forecasts);
+                next.remove(cityName);
+                forecasts = next;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Forecast getForecast(String cityName) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        ForecastEntry entry = forecasts.get(cityName);
+        if (entry == null || clock.instant().isAfter(entry.expiresAt)) {
+            return null;
+        }
+        return entry.forecast;
+    }
+
+    @Override
+    public void putForecast(String cityName, Forecast forecast) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(forecast, "Forecast must not be null");
+        Instant storedAt = clock.instant();
+        Instant expiresAt = expiryPolicy.forecastExpiresAt(cityName, forecast, storedAt);
+        ForecastEntry entry = new ForecastEntry(forecast, expiresAt.isBefore(storedAt) ? storedAt : expiresAt);
+        synchronized (writeLock) {
+            Map<String, ForecastEntry> next = new LinkedHashMap<>(forecasts);
+            next.put(cityName, entry);
+            Iterator<String> eldest = next.keySet().iterator();
+            while (next.size() > maxSize) {
+                eldest.next();
+                eldest.remove();
+            }
+            forecasts = next;
+        }
+    }
+
+    @Override
+    public String[] getForecastCities() {
+        return forecasts.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Always {@code true}: the periodic {@link #expireEntries()} publishes staged refreshes.
+     * Expired entries are not removed by it; they stay available to {@link #getStale(String)}.
+     */
+    @Override
+    public boolean hasActiveExpiration() {
+        return true;
+    }
+
+    /**
+     * Publish staged refreshes, if there are any.
+     */
+    @Override
+    public void expireEntries() {
+        synchronized (writeLock) {
+            if (!pending.isEmpty()) {
+                publish(null, null);
+            }
+        }
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    private void stage(String cityName, CacheEntry entry) {
+        pending.put(cityName, entry);
+        if (pending.size() >= Math.max(MIN_BATCH, entries.size() / 8)) {
+            publish(null, null);
+        }
+    }
+
+    /**
+     * Copy the current map with the staged refreshes and the given entry applied, then publish it.
+     * Staged refreshes of cities that have been evicted or removed in the meantime are dropped.
+     * Over capacity, expired entries are evicted before valid ones.
+     */
+    private void publish(String cityName, CacheEntry entry) {
+        LinkedHashMap<String, CacheEntry> next = new LinkedHashMap<>(entries);
+        for (Map.Entry<String, CacheEntry> staged : pending.entrySet()) {
+            next.replace(staged.getKey(), staged.getValue());
+        }
+        pending.clear();
+        if (cityName != null) {
+            next.put(cityName, entry);
+        }
+        if (next.size() > maxSize) {
+            long now = clock.millis();
+            for (Iterator<CacheEntry> it = next.values().iterator(); it.hasNext() && next.size() > maxSize; ) {
+                if (!it.next().isValid(now)) {
+                    it.remove();
+                }
+            }
+            for (Iterator<CacheEntry> it = next.values().iterator(); it.hasNext() && next.size() > maxSize; ) {
+                it.next();
+                it.remove();
+            }
+        }
+        entries = next;
+    }
+
+    private CacheEntry newEntry(String cityName, WeatherResponse weatherResponse) {
+        Instant storedAt = clock.instant();
+        Instant expiresAt = expiryPolicy.expiresAt(cityName, weatherResponse, storedAt);
+        CacheEntry entry = new CacheEntry(weatherResponse, storedAt, expiresAt.isBefore(storedAt) ? storedAt : expiresAt);
+        entry.cityName = cityName;
+        return entry;
+    }
+
+    private static final class ForecastEntry {
+        private final Forecast forecast;
+        private final Instant expiresAt;
+
+        private ForecastEntry(Forecast forecast, Instant expiresAt) {
+            this.forecast = forecast;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
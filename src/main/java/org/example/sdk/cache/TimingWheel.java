@@ -0,0 +1,199 @@
+package org.example.sdk.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with intrusive nodes.
+ * <p>
+ * Four levels of 64 slots cover {@code 64^4} ticks (about 194 days at one-second ticks).
+ * A node is placed in the lowest level whose span contains its deadline and is cascaded to
+ * lower levels as time approaches it, so scheduling and cancelling are O(1) and advancing
+ * costs O(1) per tick plus the work for nodes that are actually due or cascaded. Deadlines
+ * beyond the top level are parked in it and re-placed when they come around.
+ * </p>
+ * <p>
+ * Timer state lives in the scheduled objects themselves (see {@link Node}), so no timer
+ * objects are allocated per entry. Nodes fire at most one tick late and never early.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe.
+ * </p>
+ */
+final class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    /**
+     * Intrusive timer state embedded in scheduled objects.
+     */
+    abstract static class Node {
+        private Node next;
+        private Node prev;
+        private long deadlineTick;
+        private int bucket = -1;
+
+        boolean isScheduled() {
+            return bucket >= 0;
+        }
+    }
+
+    private final long tickMillis;
+    private final Node[] buckets = new Node[LEVELS * SLOTS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis   resolution of the wheel in milliseconds
+     * @param startMillis  current time in epoch milliseconds
+     */
+    TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be greater than zero");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedule (or reschedule) a node to fire at the given time.
+     *
+     * @param node           node to schedule
+     * @param deadlineMillis epoch milliseconds at or after which the node fires
+     */
+    void schedule(Node node, long deadlineMillis) {
+        cancel(node);
+        node.deadlineTick = Math.floorDiv(deadlineMillis, tickMillis) + (Math.floorMod(deadlineMillis, tickMillis) == 0 ? 0 : 1);
+        place(node);
+        size++;
+    }
+
+    /**
+     * Remove a node from the wheel if it is scheduled.
+     */
+    void cancel(Node node) {
+        if (!node.isScheduled()) {
+            return;
+        }
+        if (node.prev == null) {
+            buckets[node.bucket] = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.next = null;
+        node.prev = null;
+        node.bucket = -1;
+        size--;
+    }
+
+    /**
+     * Advance the wheel to the given time, handing every due node to {@code onDue}.
+     * Due nodes are unscheduled before the callback runs, so the callback may reschedule them.
+     *
+     * @param nowMillis current time in epoch milliseconds
+     * @param onDue     callback for due nodes
+     */
+    void advance(long nowMillis, Consumer<Node> onDue) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            cascade();
+            Node node = detachBucket((int) (currentTick & SLOT_MASK));
+            while (node != null) {
+                Node next = node.next;
+                node.next = null;
+                node.prev = null;
+                if (node.deadlineTick <= currentTick) {
+                    onDue.accept(node);
+                } else {
+                    place(node);
+                    size++;
+                }
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * @return number of scheduled nodes
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Unschedule all nodes.
+     */
+    void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            Node node = detachBucket(i);
+            while (node != null) {
+                Node next = node.next;
+                node.next = null;
+                node.prev = null;
+                node = next;
+            }
+        }
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            long lowerBits = currentTick & ((1L << (SLOT_BITS * level)) - 1);
+            if (lowerBits != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Node node = detachBucket(level * SLOTS + slot);
+            while (node != null) {
+                Node next = node.next;
+                node.next = null;
+                node.prev = null;
+                place(node);
+                size++;
+                node = next;
+            }
+        }
+    }
+
+    private void place(Node node) {
+        long due = Math.max(node.deadlineTick, currentTick + 1);
+        long delta = due - currentTick;
+        if (delta >= MAX_SPAN) {
+            due = currentTick + MAX_SPAN - 1;
+            delta = MAX_SPAN - 1;
+        }
+        int level = 0;
+        while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((due >>> (SLOT_BITS * level)) & SLOT_MASK);
+        int bucket = level * SLOTS + slot;
+
+        node.bucket = bucket;
+        node.prev = null;
+        node.next = buckets[bucket];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        buckets[bucket] = node;
+    }
+
+    private Node detachBucket(int bucket) {
+        Node head = buckets[bucket];
+        buckets[bucket] = null;
+        for (Node node = head; node != null; node = node.next) {
+            node.bucket = -1;
+            size--;
+        }
+        return head;
+    }
+}
@@ -1,55 +1,160 @@
 package org.example.sdk.cache;
 
+import jdk.jfr.EventType;
+import org.example.sdk.model.Forecast;
 import org.example.sdk.model.WeatherResponse;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
- * In-memory LRU (Least Recently Used) cache for weather responses with a fixed maximum size and TTL.
+ * In-memory LRU (Least Recently Used) cache for weather responses with a fixed maximum size and
+ * configurable expiry.
  * <p>
- * This implementation uses a LinkedHashMap with access-order iteration to implement LRU eviction.
- * When the cache reaches its maximum size (default: 10 cities), the least recently used entry
- * is automatically removed when a new entry is added.
+ * This implementation keeps entries in a hash map and threads them on an intrusive recency list
+ * to implement LRU eviction. When the cache reaches its maximum size (default: 10 cities), the
+ * least recently used entry is automatically removed when a new entry is added. Lookups only
+ * queue the entry in a small concurrent read buffer; the next write drains it and moves the
+ * entries to the most recently used end. When many lookups happen between writes, lookups beyond
+ * the buffer size are dropped, which only coarsens the eviction order.
+ * {@link #refresh(String, WeatherResponse)} replaces an entry in place, so background refreshes do
+ * not keep entries alive.
  * </p>
  * <p>
- * Cache entries expire after the configured TTL (default: 10 minutes). Expired entries are
- * automatically removed when accessed.
+ * Cache entries expire according to the configured {@link ExpiryPolicy} (default: a fixed
+ * 10 minute TTL, see also {@link ObservationAwareExpiryPolicy}). Expired entries are not
+ * returned by {@link #get(String)} but are retained until replaced or evicted, so they can
+ * still be served through {@link #getStale(String)} when a fresh lookup times out.
+ * </p>
+ * <p>
+ * Caches created with a {@link CacheListener} expire entries actively instead: every entry is
+ * scheduled on a hierarchical timing wheel with one-second resolution and removed as soon as
+ * {@link #expireEntries()} (or the next write) observes its expiry, so expired entries no
+ * longer occupy LRU slots. The listener is notified of expirations, evictions and explicit
+ * removals, and optionally once per entry shortly before it expires, for refresh-ahead.
+ * </p>
+ * <p>
+ * Lookups and removals are reported as {@code org.example.sdk.CacheLookup} and
+ * {@code org.example.sdk.CacheRemoval} Flight Recorder events when a recording enables them.
+ * </p>
+ * <p>
+ * Forecasts are kept in a separate map with the same capacity. Their lifetime comes from
+ * {@link ExpiryPolicy#forecastExpiresAt}, and they always expire lazily. Lookups leave them in
+ * place and a full map evicts the forecast written least recently; since polling refreshes only
+ * forecasts that are read, that is also the least recently used one.
  * </p>
  * <p>
  * <b>Thread Safety:</b> This class is not thread-safe. External synchronization must be
- * provided by the caller when used in a multi-threaded environment.
+ * provided by the caller when used in a multi-threaded environment. Lookups
+ * ({@link #get(String)}, {@link #getStale(String)}, {@link #getForecast(String)},
+ * {@link #contains(String)}, {@link #getAllCities()}, {@link #getForecastCities()},
+ * {@link #size()} and {@link #hasCapacity()}) do not modify the cache structure, so they may
+ * run concurrently with each other, e.g. under the read lock of a read-write lock, as long as
+ * no write runs at the same time.
  * </p>
  */
 public class WeatherCache implements Cache {
     private static final int DEFAULT_MAX_SIZE = 10;
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    private static final long TICK_MILLIS = 1000;
+    private static final int READ_BUFFER_SIZE = 256;
+    private static final Logger LOGGER = Logger.getLogger(WeatherCache.class.getName());
+    private static final EventType LOOKUP_EVENT = EventType.getEventType(CacheLookupEvent.class);
+    private static final EventType REMOVAL_EVENT = EventType.getEventType(CacheRemovalEvent.class);
+    private static final CacheListener NO_LISTENER = new CacheListener() {
+    };
 
     private final Map<String, CacheEntry> cache;
-    private final Duration ttl;
+    private final Map<String, ForecastEntry> forecasts;
+    private final ExpiryPolicy expiryPolicy;
     private final int maxSize;
     private final Clock clock;
+    private final CacheListener listener;
+    private final TimingWheel wheel;
+    private final long refreshAheadMillis;
+    private final Queue<CacheEntry> readBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedReads = new AtomicInteger();
+    private CacheEntry eldest;
+    private CacheEntry youngest;
 
     public WeatherCache() {
         this(DEFAULT_TTL, DEFAULT_MAX_SIZE, Clock.systemUTC());
     }
 
+    /**
+     * Create a cache with custom TTL and capacity, e.g. to hold a large preloaded city list.
+     *
+     * @param ttl     time-to-live for cache entries
+     * @param maxSize maximum number of cached cities
+     */
+    public WeatherCache(Duration ttl, int maxSize) {
+        this(ttl, maxSize, Clock.systemUTC());
+    }
+
+    /**
+     * Create a cache whose entry lifetimes are computed by the given policy.
+     *
+     * @param expiryPolicy policy deciding when each entry expires
+     * @param maxSize      maximum number of cached cities
+     */
+    public WeatherCache(ExpiryPolicy expiryPolicy, int maxSize) {
+        this(expiryPolicy, maxSize, Clock.systemUTC());
+    }
+
+    /**
+     * Create a cache that expires entries actively and reports them to the given listener.
+     *
+     * @param expiryPolicy policy deciding when each entry expires
+     * @param maxSize      maximum number of cached cities
+     * @param refreshAhead how long before expiry {@link CacheListener#onRefreshDue} fires;
+     *                     {@link Duration#ZERO} disables refresh-ahead callbacks
+     * @param listener     receiver of refresh and removal notifications
+     */
+    public WeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Duration refreshAhead, CacheListener listener) {
+        this(expiryPolicy, maxSize, refreshAhead, Objects.requireNonNull(listener, "Cache listener must not be null"), Clock.systemUTC());
+    }
+
     WeatherCache(Duration ttl, int maxSize, Clock clock) {
-        this.ttl = Objects.requireNonNull(ttl, "TTL must not be null");
-        if (ttl.isNegative() || ttl.isZero()) {
-            throw new IllegalArgumentException("TTL must be greater than zero");
-        }
+        this(new FixedTtlExpiryPolicy(ttl), maxSize, clock);
+    }
+
+    WeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Clock clock) {
+        this(expiryPolicy, maxSize, Duration.ZERO, null, clock);
+    }
+
+    /**
+     * @param listener receiver of notifications, or {@code null} to disable active expiration
+     */
+    WeatherCache(ExpiryPolicy expiryPolicy, int maxSize, Duration refreshAhead, CacheListener listener, Clock clock) {
+        this.expiryPolicy = Objects.requireNonNull(expiryPolicy, "Expiry policy must not be null");
         if (maxSize <= 0) {
             throw new IllegalArgumentException("Max size must be greater than zero");
         }
+        Objects.requireNonNull(refreshAhead, "Refresh-ahead duration must not be null");
+        if (refreshAhead.isNegative()) {
+            throw new IllegalArgumentException("Refresh-ahead duration must not be negative");
+        }
         this.maxSize = maxSize;
         this.clock = Objects.requireNonNull(clock, "Clock must not be null");
-        this.cache = new LinkedHashMap<>(maxSize + 1, 0.75f, true) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+        this.wheel = listener == null ? null : new TimingWheel(TICK_MILLIS, clock.millis());
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        this.cache = new HashMap<>();
+        this.forecasts = new LinkedHashMap<>() {
             @Override
-            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            protected boolean removeEldestEntry(Map.Entry<String, ForecastEntry> eldest) {
                 return size() > WeatherCache.this.maxSize;
             }
         };
@@ -60,32 +165,117 @@ public class WeatherCache implements Cache {
         Objects.requireNonNull(cityName, "City name must not be null");
         CacheEntry entry = cache.get(cityName);
         if (entry == null) {
+            recordLookup(cityName, CacheLookupEvent.MISS);
             return null;
         }
+        recordAccess(entry);
 
-        if (entry.isValid(ttl, clock.instant())) {
+        if (entry.isValid(clock.millis())) {
+            recordLookup(cityName, CacheLookupEvent.HIT);
             return entry.getWeatherResponse();
         }
-
-        cache.remove(cityName);
+        recordLookup(cityName, CacheLookupEvent.EXPIRED);
         return null;
     }
 
+    @Override
+    public WeatherResponse getStale(String cityName) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        CacheEntry entry = cache.get(cityName);
+        if (entry == null) {
+            return null;
+        }
+        recordAccess(entry);
+        return entry.getWeatherResponse();
+    }
+
     @Override
     public void put(String cityName, WeatherResponse weatherResponse) {
         Objects.requireNonNull(cityName, "City name must not be null");
         Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
-        cache.put(cityName, new CacheEntry(weatherResponse, clock.instant()));
+        expireEntries();
+        store(cityName, newEntry(cityName, weatherResponse));
+    }
+
+    /**
+     * Stores the entry only when the city is absent and the cache has spare capacity,
+     * so existing entries are neither replaced nor evicted.
+     */
+    @Override
+    public boolean putIfAbsent(String cityName, WeatherResponse weatherResponse) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
+        expireEntries();
+        if (cache.containsKey(cityName) || cache.size() >= maxSize) {
+            return false;
+        }
+        store(cityName, newEntry(cityName, weatherResponse));
+        return true;
+    }
+
+    /**
+     * Replaces the entry for the city without changing its position in the eviction order.
+     * Absent cities are stored only if the cache has spare capacity.
+     */
+    @Override
+    public void refresh(String cityName, WeatherResponse weatherResponse) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(weatherResponse, "WeatherResponse must not be null");
+        expireEntries();
+        CacheEntry previous = cache.get(cityName);
+        if (previous == null) {
+            putIfAbsent(cityName, weatherResponse);
+            return;
+        }
+        CacheEntry entry = newEntry(cityName, weatherResponse);
+        cache.put(cityName, entry);
+        replaceInList(previous, entry);
+        unschedule(previous);
+        schedule(cityName, entry);
+        entryChanged(cityName, previous, entry);
+    }
+
+    /**
+     * Expired entries count until the next write removes them, as they do in
+     * {@link #putIfAbsent(String, WeatherResponse)}.
+     */
+    @Override
+    public boolean hasCapacity() {
+        return cache.size() < maxSize;
+    }
+
+    @Override
+    public boolean contains(String cityName) {
+        return cityName != null && cache.containsKey(cityName);
     }
 
     @Override
     public String[] getAllCities() {
-        return cache.keySet().toArray(new String[0]);
+        String[] cities = new String[cache.size()];
+        int i = 0;
+        for (CacheEntry entry = eldest; entry != null; entry = entry.newer) {
+            cities[i++] = entry.cityName;
+        }
+        return cities;
     }
 
     @Override
     public void clear() {
+        List<CacheEntry> removed = listener == NO_LISTENER && !REMOVAL_EVENT.isEnabled()
+                ? List.of() : new ArrayList<>(cache.values());
         cache.clear();
+        readBuffer.clear();
+        bufferedReads.set(0);
+        eldest = null;
+        youngest = null;
+        forecasts.clear();
+        if (wheel != null) {
+            wheel.clear();
+        }
+        entriesCleared();
+        for (CacheEntry entry : removed) {
+            notifyRemoval(entry, RemovalCause.EXPLICIT);
+        }
     }
 
     @Override
@@ -93,11 +283,264 @@ public class WeatherCache implements Cache {
         if (cityName == null) {
             return;
         }
-        cache.remove(cityName);
+        forecasts.remove(cityName);
+        CacheEntry removed = cache.remove(cityName);
+        if (removed != null) {
+            unlink(removed);
+            unschedule(removed);
+            entryChanged(cityName, removed, null);
+            notifyRemoval(removed, RemovalCause.EXPLICIT);
+        }
     }
 
     @Override
     public int size() {
         return cache.size();
     }
+
+    @Override
+    public Forecast getForecast(String cityName) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        ForecastEntry entry = forecasts.get(cityName);
+        if (entry == null || clock.instant().isAfter(entry.expiresAt)) {
+            return null;
+        }
+        return entry.forecast;
+    }
+
+    @Override
+    public void putForecast(String cityName, Forecast forecast) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(forecast, "Forecast must not be null");
+        Instant storedAt = clock.instant();
+        Instant expiresAt = expiryPolicy.forecastExpiresAt(cityName, forecast, storedAt);
+        // Re-insert, so the map stays in write order.
+        forecasts.remove(cityName);
+        forecasts.put(cityName, new ForecastEntry(forecast, expiresAt.isBefore(storedAt) ? storedAt : expiresAt));
+    }
+
+    @Override
+    public String[] getForecastCities() {
+        return forecasts.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public boolean hasActiveExpiration() {
+        return wheel != null;
+    }
+
+    /**
+     * Advance the timing wheel to the current time, removing expired entries and firing
+     * refresh-ahead callbacks. Does nothing for caches that expire lazily.
+     */
+    @Override
+    public void expireEntries() {
+        if (wheel != null) {
+            wheel.advance(clock.millis(), this::onTimer);
+        }
+    }
+
+    private void store(String cityName, CacheEntry entry) {
+        drainReads();
+        CacheEntry previous = cache.put(cityName, entry);
+        if (previous != null) {
+            unlink(previous);
+            unschedule(previous);
+        }
+        linkYoungest(entry);
+        schedule(cityName, entry);
+        entryChanged(cityName, previous, entry);
+
+        if (cache.size() > maxSize) {
+            CacheEntry victim = eldest;
+            cache.remove(victim.cityName);
+            unlink(victim);
+            unschedule(victim);
+            entryChanged(victim.cityName, victim, null);
+            notifyRemoval(victim, RemovalCause.SIZE);
+        }
+    }
+
+    private void linkYoungest(CacheEntry entry) {
+        entry.older = youngest;
+        entry.newer = null;
+        if (youngest == null) {
+            eldest = entry;
+        } else {
+            youngest.newer = entry;
+        }
+        youngest = entry;
+    }
+
+    private void unlink(CacheEntry entry) {
+        if (entry.older == null) {
+            eldest = entry.newer;
+        } else {
+            entry.older.newer = entry.newer;
+        }
+        if (entry.newer == null) {
+            youngest = entry.older;
+        } else {
+            entry.newer.older = entry.older;
+        }
+        entry.older = null;
+        entry.newer = null;
+    }
+
+    /**
+     * Queue a looked-up entry for {@link #drainReads()}. Concurrent lookups must not relink the
+     * recency list, so only the thread-safe buffer is touched here.
+     */
+    private void recordAccess(CacheEntry entry) {
+        if (bufferedReads.get() < READ_BUFFER_SIZE) {
+            bufferedReads.incrementAndGet();
+            readBuffer.offer(entry);
+        }
+    }
+
+    /**
+     * Apply buffered lookups to the recency list, oldest first. Entries replaced since the lookup
+     * move the current entry of their city; removed ones are skipped.
+     */
+    private void drainReads() {
+        CacheEntry read;
+        while ((read = readBuffer.poll()) != null) {
+            bufferedReads.decrementAndGet();
+            CacheEntry current = cache.get(read.cityName);
+            if (current != null) {
+                moveToYoungest(current);
+            }
+        }
+    }
+
+    private void moveToYoungest(CacheEntry entry) {
+        if (entry != youngest) {
+            unlink(entry);
+            linkYoungest(entry);
+        }
+    }
+
+    private void replaceInList(CacheEntry previous, CacheEntry entry) {
+        entry.older = previous.older;
+        entry.newer = previous.newer;
+        if (entry.older == null) {
+            eldest = entry;
+        } else {
+            entry.older.newer = entry;
+        }
+        if (entry.newer == null) {
+            youngest = entry;
+        } else {
+            entry.newer.older = entry;
+        }
+        previous.older = null;
+        previous.newer = null;
+    }
+
+    private void schedule(String cityName, CacheEntry entry) {
+        entry.cityName = cityName;
+        if (wheel == null || entry.expiresAtMillis() == Long.MAX_VALUE) {
+            return;
+        }
+        long expiresAt = entry.expiresAtMillis();
+        long refreshAt = expiresAt - refreshAheadMillis;
+        entry.refreshPending = refreshAheadMillis > 0 && refreshAt > entry.storedAtMillis();
+        wheel.schedule(entry, entry.refreshPending ? refreshAt : expiresAt);
+    }
+
+    private void unschedule(CacheEntry entry) {
+        if (wheel != null) {
+            wheel.cancel(entry);
+        }
+    }
+
+    private void onTimer(TimingWheel.Node node) {
+        CacheEntry entry = (CacheEntry) node;
+        if (entry.refreshPending) {
+            entry.refreshPending = false;
+            wheel.schedule(entry, entry.expiresAtMillis());
+            try {
+                listener.onRefreshDue(entry.cityName, entry.getWeatherResponse());
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Cache listener failed for city: " + entry.cityName, e);
+            }
+            return;
+        }
+        if (cache.remove(entry.cityName, entry)) {
+            unlink(entry);
+            entryChanged(entry.cityName, entry, null);
+            notifyRemoval(entry, RemovalCause.EXPIRED);
+        }
+    }
+
+    /**
+     * Checks the event type first, so lookups allocate no event object while no recording enables it.
+     */
+    private static void recordLookup(String cityName, String result) {
+        if (!LOOKUP_EVENT.isEnabled()) {
+            return;
+        }
+        CacheLookupEvent event = new CacheLookupEvent();
+        if (event.shouldCommit()) {
+            event.city = cityName;
+            event.result = result;
+            event.commit();
+        }
+    }
+
+    private void notifyRemoval(CacheEntry entry, RemovalCause cause) {
+        CacheRemovalEvent event = REMOVAL_EVENT.isEnabled() ? new CacheRemovalEvent() : null;
+        if (event != null && event.shouldCommit()) {
+            event.city = entry.cityName;
+            event.cause = cause.name();
+            event.age = clock.millis() - entry.storedAtMillis();
+            event.commit();
+        }
+        if (listener == NO_LISTENER) {
+            return;
+        }
+        try {
+            listener.onRemoval(entry.cityName, entry.getWeatherResponse(), cause);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Cache listener failed for city: " + entry.cityName, e);
+        }
+    }
+
+    private CacheEntry newEntry(String cityName, WeatherResponse weatherResponse) {
+        Instant storedAt = clock.instant();
+        Instant expiresAt = expiryPolicy.expiresAt(cityName, weatherResponse, storedAt);
+        return createEntry(cityName, weatherResponse, storedAt, expiresAt.isBefore(storedAt) ? storedAt : expiresAt);
+    }
+
+    /**
+     * Called after the entry of a city was added, replaced or removed, before listeners are
+     * notified; {@code previous} is null for a new city and {@code entry} is null for a removal.
+     */
+    void entryChanged(String cityName, CacheEntry previous, CacheEntry entry) {
+    }
+
+    /**
+     * Called after {@link #clear()} dropped all entries, instead of once per entry.
+     */
+    void entriesCleared() {
+    }
+
+    /**
+     * Create the entry that holds a response; subclasses may choose another representation.
+     */
+    CacheEntry createEntry(String cityName, WeatherResponse weatherResponse, Instant storedAt, Instant expiresAt) {
+        CacheEntry entry = new CacheEntry(weatherResponse, storedAt, expiresAt);
+        entry.cityName = cityName;
+        return entry;
+    }
+
+    private static final class ForecastEntry {
+        private final Forecast forecast;
+        private final Instant expiresAt;
+
+        private ForecastEntry(Forecast forecast, Instant expiresAt) {
+            this.forecast = forecast;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
@@ -0,0 +1,125 @@
+package org.example.sdk.client;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD concurrency limit driven by measured latency.
+ * <p>
+ * The limit grows by roughly one per limit's worth of successful calls (additive increase)
+ * while latency stays within {@code tolerance} times the minimum observed latency and the
+ * limit is actually being used. It shrinks multiplicatively when a call is dropped (timeout,
+ * throttling, server or transport error) or when latency exceeds the tolerance, which is the
+ * signal that upstream is queueing. The minimum latency is re-learned periodically so that a
+ * permanent shift in upstream latency does not pin the limit at its floor.
+ * </p>
+ * <p>
+ * A limit may be shared by several {@link ConcurrencyLimitingApiClient}s, each counting its own
+ * requests in flight; requests queued in any of them are woken when the limit grows.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimit {
+    private static final long MIN_LATENCY_RESET_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double tolerance;
+    private final List<Runnable> growthListeners = new CopyOnWriteArrayList<>();
+    private double limit;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private long minLatencyResetAt;
+
+    /**
+     * Start at 20 in-flight requests, allow 1-200, back off by 10% and tolerate twice the minimum latency.
+     */
+    public AdaptiveConcurrencyLimit() {
+        this(20, 1, 200, 0.9, 2.0);
+    }
+
+    /**
+     * @param initialLimit starting limit
+     * @param minLimit     lower bound for the limit (at least 1)
+     * @param maxLimit     upper bound for the limit
+     * @param backoffRatio multiplicative decrease factor, in (0, 1)
+     * @param tolerance    latency, as a multiple of the minimum latency, above which the limit decreases
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("Backoff ratio must be in (0, 1)");
+        }
+        if (!(tolerance >= 1)) {
+            throw new IllegalArgumentException("Tolerance must be at least 1");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.tolerance = tolerance;
+        this.minLatencyResetAt = System.nanoTime() + MIN_LATENCY_RESET_NANOS;
+    }
+
+    /**
+     * @return current number of requests allowed in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Feed the outcome of one call into the limit.
+     *
+     * @param latencyNanos latency of the call
+     * @param inFlight     requests in flight when the call started, including itself
+     * @param dropped      whether the call failed in a way that signals overload
+     */
+    public void onSample(long latencyNanos, int inFlight, boolean dropped) {
+        boolean grew;
+        synchronized (this) {
+            int before = (int) limit;
+            update(latencyNanos, inFlight, dropped);
+            grew = (int) limit > before;
+        }
+        // Outside the monitor: listeners take their client's lock, under which getLimit() is called.
+        if (grew) {
+            for (Runnable listener : growthListeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Run the listener every time the limit grows, after the new limit is visible to {@link #getLimit()}.
+     */
+    void addGrowthListener(Runnable listener) {
+        growthListeners.add(listener);
+    }
+
+    private void update(long latencyNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (now - minLatencyResetAt >= 0) {
+            minLatencyNanos = latencyNanos;
+            minLatencyResetAt = now + MIN_LATENCY_RESET_NANOS;
+        } else {
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        }
+
+        if (latencyNanos > minLatencyNanos * tolerance) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+}
@@ -1,8 +1,47 @@
 package org.example.sdk.client;
 
+import org.example.sdk.exception.UnsupportedFeatureException;
 import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.model.Forecast;
 import org.example.sdk.model.WeatherResponse;
 
+import java.time.Duration;
+
 public interface ApiClient {
     WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException;
+
+    /**
+     * Retrieve weather for the city, giving up once the timeout elapses.
+     * <p>
+     * Implementations should cancel the underlying request on expiry or when the calling thread
+     * is interrupted, and report expiry as a
+     * {@link org.example.sdk.exception.WeatherTimeoutException}. The default implementation
+     * cannot enforce the timeout and simply delegates to {@link #getWeatherByCity(String)}.
+     * </p>
+     *
+     * @param cityName name of the city to query
+     * @param timeout  remaining time budget for the call
+     * @return weather response containing current weather data
+     * @throws WeatherSDKException if the request fails or times out
+     */
+    default WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+        return getWeatherByCity(cityName);
+    }
+
+    /**
+     * Retrieve the 5-day forecast in 3-hour steps for the city.
+     * <p>
+     * The default implementation supports no forecasts and always throws
+     * {@link UnsupportedFeatureException}, so clients that only serve current weather need not
+     * implement it.
+     * </p>
+     *
+     * @param cityName name of the city to query
+     * @return forecast in columnar form
+     * @throws UnsupportedFeatureException if this client only serves current weather
+     * @throws WeatherSDKException         if the request fails
+     */
+    default Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+        throw new UnsupportedFeatureException("Forecast is not supported by " + getClass().getName());
+    }
 }
@@ -0,0 +1,195 @@
+package org.example.sdk.client;
+
+import org.example.sdk.exception.APIException;
+import org.example.sdk.exception.CityNotFoundException;
+import org.example.sdk.exception.ConcurrencyLimitExceededException;
+import org.example.sdk.exception.UnsupportedFeatureException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ApiClient} decorator that bounds the number of upstream requests in flight.
+ * <p>
+ * The bound is an {@link AdaptiveConcurrencyLimit} that follows measured latency, so when
+ * OpenWeatherMap slows down fewer requests are let through instead of piling up. Requests over
+ * the limit wait up to {@code maxQueueWait} for a slot and are otherwise rejected with a
+ * {@link ConcurrencyLimitExceededException} without contacting the API. A timed call whose own
+ * timeout runs out first fails with a {@link WeatherTimeoutException} instead, like any other
+ * expired deadline. Queued requests are woken when a slot is freed or the limit grows.
+ * </p>
+ */
+public class ConcurrencyLimitingApiClient implements ApiClient {
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVER_ERROR = 500;
+
+    private final ApiClient delegate;
+    private final AdaptiveConcurrencyLimit limit;
+    private final long maxQueueWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private final AtomicLong rejected = new AtomicLong();
+    private int inFlight;
+
+    /**
+     * Use the default adaptive limit and shed requests over the limit immediately.
+     *
+     * @param delegate client performing the actual requests
+     */
+    public ConcurrencyLimitingApiClient(ApiClient delegate) {
+        this(delegate, new AdaptiveConcurrencyLimit(), Duration.ZERO);
+    }
+
+    /**
+     * @param delegate     client performing the actual requests
+     * @param limit        adaptive limit deciding how many requests may be in flight
+     * @param maxQueueWait how long a request over the limit may wait for a slot before being rejected
+     */
+    public ConcurrencyLimitingApiClient(ApiClient delegate, AdaptiveConcurrencyLimit limit, Duration maxQueueWait) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        this.limit = Objects.requireNonNull(limit, "Limit must not be null");
+        Objects.requireNonNull(maxQueueWait, "Max queue wait must not be null");
+        if (maxQueueWait.isNegative()) {
+            throw new IllegalArgumentException("Max queue wait must not be negative");
+        }
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        limit.addGrowthListener(this::signalWaiters);
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+        int inFlightAtStart = acquire(maxQueueWaitNanos, false);
+        return invoke(() -> delegate.getWeatherByCity(cityName), inFlightAtStart);
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+        long start = System.nanoTime();
+        long timeoutNanos = timeout.toNanos();
+        int inFlightAtStart = acquire(Math.min(maxQueueWaitNanos, timeoutNanos), timeoutNanos <= maxQueueWaitNanos);
+        Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+        return invoke(() -> delegate.getWeatherByCity(cityName, remaining), inFlightAtStart);
+    }
+
+    @Override
+    public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+        int inFlightAtStart = acquire(maxQueueWaitNanos, false);
+        return invoke(() -> delegate.getForecastByCity(cityName), inFlightAtStart);
+    }
+
+    /**
+     * @return current adaptive limit
+     */
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    /**
+     * @return requests currently in flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of requests rejected because the limit was reached
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @param maxWaitNanos  how long to wait for a slot
+     * @param deadlineBound whether the wait is bounded by the caller's timeout rather than the
+     *                      queue wait; running out of it is then reported as a timeout
+     */
+    private int acquire(long maxWaitNanos, boolean deadlineBound) throws WeatherSDKException {
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= limit.getLimit()) {
+                if (remaining <= 0) {
+                    if (deadlineBound) {
+                        throw new WeatherTimeoutException("Deadline expired while waiting for an upstream slot");
+                    }
+                    rejected.incrementAndGet();
+                    throw new ConcurrencyLimitExceededException("Upstream concurrency limit reached", limit.getLimit());
+                }
+                remaining = slotFreed.awaitNanos(remaining);
+            }
+            return ++inFlight;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WeatherSDKException("Interrupted while waiting for an upstream slot", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wake queued requests after the limit grew, which may happen on another client sharing it.
+     */
+    private void signalWaiters() {
+        lock.lock();
+        try {
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T invoke(Call<T> call, int inFlightAtStart) throws WeatherSDKException {
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            T response = call.execute();
+            dropped = false;
+            return response;
+        } catch (WeatherSDKException e) {
+            dropped = isOverloadSignal(e);
+            throw e;
+        } finally {
+            limit.onSample(System.nanoTime() - start, inFlightAtStart, dropped);
+            release();
+        }
+    }
+
+    private static boolean isOverloadSignal(WeatherSDKException e) {
+        if (e instanceof CityNotFoundException || e instanceof UnsupportedFeatureException) {
+            return false;
+        }
+        if (e instanceof APIException) {
+            int status = ((APIException) e).getStatusCode();
+            return status == HTTP_TOO_MANY_REQUESTS || status >= HTTP_SERVER_ERROR;
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T execute() throws WeatherSDKException;
+    }
+}
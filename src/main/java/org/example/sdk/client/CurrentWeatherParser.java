@@ -0,0 +1,171 @@
+package org.example.sdk.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.sdk.model.Sys;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+
+import java.io.IOException;
+
+/**
+ * Maps a current-weather API response straight into a {@link WeatherResponse} with the
+ * streaming parser.
+ * <p>
+ * The mapping is written out by hand, so no reflection or annotation introspection happens on
+ * the first request, and the intermediate upstream model is never built.
+ * </p>
+ */
+final class CurrentWeatherParser {
+    private final JsonFactory jsonFactory;
+
+    CurrentWeatherParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    WeatherResponse parse(String json) throws IOException {
+        WeatherResponse response = new WeatherResponse();
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "weather":
+                        response.setWeather(readWeather(parser, value));
+                        break;
+                    case "main":
+                        response.setTemperature(readMain(parser, value));
+                        break;
+                    case "wind":
+                        response.setWind(readWind(parser, value));
+                        break;
+                    case "sys":
+                        response.setSys(readSys(parser, value));
+                        break;
+                    case "visibility":
+                        response.setVisibility(readInteger(parser, value));
+                        break;
+                    case "dt":
+                        response.setDatetime(readLong(parser, value));
+                        break;
+                    case "timezone":
+                        response.setTimezone(readInteger(parser, value));
+                        break;
+                    case "name":
+                        response.setName(value == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        return response;
+    }
+
+    private static WeatherInfo readWeather(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        WeatherInfo info = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (info != null) {
+                parser.skipChildren();
+                continue;
+            }
+            String main = null;
+            String description = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("main".equals(field)) {
+                    main = token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else if ("description".equals(field)) {
+                    description = token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            info = new WeatherInfo(main, description);
+        }
+        return info;
+    }
+
+    private static Temperature readMain(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Double temp = null;
+        Double feelsLike = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("temp".equals(field)) {
+                temp = readDouble(parser, token);
+            } else if ("feels_like".equals(field)) {
+                feelsLike = readDouble(parser, token);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Temperature(temp, feelsLike);
+    }
+
+    private static Wind readWind(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Double speed = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("speed".equals(field)) {
+                speed = readDouble(parser, token);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Wind(speed);
+    }
+
+    private static Sys readSys(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Long sunrise = null;
+        Long sunset = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("sunrise".equals(field)) {
+                sunrise = readLong(parser, token);
+            } else if ("sunset".equals(field)) {
+                sunset = readLong(parser, token);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Sys(sunrise, sunset);
+    }
+
+    private static Double readDouble(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsDouble();
+    }
+
+    private static Long readLong(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+    }
+
+    private static Integer readInteger(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+    }
+}
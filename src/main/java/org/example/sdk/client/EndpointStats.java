@@ -0,0 +1,64 @@
+package org.example.sdk.client;
+
+/**
+ * Point-in-time routing statistics of one endpoint of a {@link RoutingApiClient}.
+ */
+public final class EndpointStats {
+    private final String name;
+    private final long latencyNanos;
+    private final double errorRate;
+    private final boolean healthy;
+    private final long requestCount;
+    private final long failureCount;
+
+    EndpointStats(String name, long latencyNanos, double errorRate, boolean healthy, long requestCount, long failureCount) {
+        this.name = name;
+        this.latencyNanos = latencyNanos;
+        this.errorRate = errorRate;
+        this.healthy = healthy;
+        this.requestCount = requestCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * @return base URL of the endpoint, or the delegate client's {@code toString()}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return moving average of call latency in nanoseconds, or {@code -1} before the first call
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * @return moving average of the failure rate, in [0, 1]
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * @return false while the endpoint is ejected after consecutive failures
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(java.util.Locale.ROOT, "%s: %s, latency %.1f ms, errors %.0f%%, %d requests, %d failures",
+                name, healthy ? "healthy" : "ejected", latencyNanos / 1e6, errorRate * 100, requestCount, failureCount);
+    }
+}
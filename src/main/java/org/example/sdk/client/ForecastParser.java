@@ -0,0 +1,204 @@
+package org.example.sdk.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.sdk.model.Forecast;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Streams a 5-day forecast response straight into {@link Forecast} columns, without building
+ * an intermediate object per time step.
+ */
+final class ForecastParser {
+    private static final int DEFAULT_CAPACITY = 40;
+
+    private final JsonFactory jsonFactory;
+
+    private long[] timestamps;
+    private double[] temperatures;
+    private double[] feelsLike;
+    private double[] windSpeeds;
+    private double[] precipitationProbabilities;
+    private int[] visibilities;
+    private String[] conditions;
+    private String[] descriptions;
+    private int size;
+    private String cityName;
+    private int timezone;
+
+    ForecastParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    Forecast parse(String json) throws IOException {
+        allocate(DEFAULT_CAPACITY);
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("list".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readStep(parser);
+                    }
+                } else if ("city".equals(field) && value == JsonToken.START_OBJECT) {
+                    readCity(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new Forecast(cityName, timezone,
+                Arrays.copyOf(timestamps, size), Arrays.copyOf(temperatures, size), Arrays.copyOf(feelsLike, size),
+                Arrays.copyOf(windSpeeds, size), Arrays.copyOf(precipitationProbabilities, size),
+                Arrays.copyOf(visibilities, size), Arrays.copyOf(conditions, size), Arrays.copyOf(descriptions, size));
+    }
+
+    private void readStep(JsonParser parser) throws IOException {
+        if (size == timestamps.length) {
+            grow();
+        }
+        int step = size++;
+        temperatures[step] = Double.NaN;
+        feelsLike[step] = Double.NaN;
+        windSpeeds[step] = Double.NaN;
+        precipitationProbabilities[step] = Double.NaN;
+        visibilities[step] = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "dt":
+                    timestamps[step] = parser.getValueAsLong();
+                    break;
+                case "visibility":
+                    visibilities[step] = parser.getValueAsInt(-1);
+                    break;
+                case "pop":
+                    precipitationProbabilities[step] = parser.getValueAsDouble(Double.NaN);
+                    break;
+                case "main":
+                    readMain(parser, value, step);
+                    break;
+                case "wind":
+                    readWind(parser, value, step);
+                    break;
+                case "weather":
+                    readWeather(parser, value, step);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    private void readMain(JsonParser parser, JsonToken value, int step) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("temp".equals(field)) {
+                temperatures[step] = parser.getValueAsDouble(Double.NaN);
+            } else if ("feels_like".equals(field)) {
+                feelsLike[step] = parser.getValueAsDouble(Double.NaN);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readWind(JsonParser parser, JsonToken value, int step) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("speed".equals(field)) {
+                windSpeeds[step] = parser.getValueAsDouble(Double.NaN);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readWeather(JsonParser parser, JsonToken value, int step) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        boolean first = true;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (!first) {
+                parser.skipChildren();
+                continue;
+            }
+            first = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("main".equals(field)) {
+                    conditions[step] = parser.getValueAsString();
+                } else if ("description".equals(field)) {
+                    descriptions[step] = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readCity(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                cityName = parser.getValueAsString();
+            } else if ("timezone".equals(field)) {
+                timezone = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        timestamps = new long[capacity];
+        temperatures = new double[capacity];
+        feelsLike = new double[capacity];
+        windSpeeds = new double[capacity];
+        precipitationProbabilities = new double[capacity];
+        visibilities = new int[capacity];
+        conditions = new String[capacity];
+        descriptions = new String[capacity];
+        size = 0;
+        cityName = null;
+        timezone = 0;
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        temperatures = Arrays.copyOf(temperatures, capacity);
+        feelsLike = Arrays.copyOf(feelsLike, capacity);
+        windSpeeds = Arrays.copyOf(windSpeeds, capacity);
+        precipitationProbabilities = Arrays.copyOf(precipitationProbabilities, capacity);
+        visibilities = Arrays.copyOf(visibilities, capacity);
+        conditions = Arrays.copyOf(conditions, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected JSON token " + actual + ", expected " + expected);
+        }
+    }
+}
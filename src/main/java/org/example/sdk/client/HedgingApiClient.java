@@ -0,0 +1,335 @@
+package org.example.sdk.client;
+
+import org.example.sdk.exception.APIException;
+import org.example.sdk.exception.CityNotFoundException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ApiClient} decorator that hedges slow upstream requests.
+ * <p>
+ * If a request has not completed after the hedge delay, one duplicate request is sent and the
+ * first response wins; the other request is cancelled. The hedge delay tracks the configured
+ * latency percentile (for example p95) of recent calls, and a token budget caps hedges at a
+ * fixed fraction of all calls so hedging can never more than slightly increase upstream load.
+ * </p>
+ * <p>
+ * The primary attempt runs on the calling thread; only the hedge runs on a pool thread. When
+ * the hedge wins, the calling thread is interrupted to abandon the primary, so the delegate must
+ * honour interruption, as {@link WeatherApiClient} does. That interrupt is cleared before the call
+ * returns; an interrupt the caller had already received is kept.
+ * </p>
+ * <p>
+ * Attempts always go through {@link ApiClient#getWeatherByCity(String, Duration)} so the losing
+ * attempt can be cancelled. Calls without an explicit timeout are therefore bounded by a default
+ * call timeout, 30 seconds unless configured otherwise, and fail with a
+ * {@link WeatherTimeoutException} when it elapses.
+ * </p>
+ */
+public class HedgingApiClient implements ApiClient, AutoCloseable {
+    private static final Duration DEFAULT_CALL_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MIN_SAMPLES = 20;
+    private static final double MAX_BUDGET_TOKENS = 10.0;
+    private static final int HTTP_CLIENT_ERROR = 400;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final ApiClient delegate;
+    private final double hedgePercentile;
+    private final double maxHedgeRatio;
+    private final Duration minHedgeDelay;
+    private final Duration defaultCallTimeout;
+    private final LatencyTracker latencies = new LatencyTracker();
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timerExecutor;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private double budgetTokens;
+
+    /**
+     * Hedge at the p95 latency, with at most 5% extra calls and a 10 ms minimum delay.
+     *
+     * @param delegate client performing the actual requests
+     */
+    public HedgingApiClient(ApiClient delegate) {
+        this(delegate, 95.0, 0.05, Duration.ofMillis(10));
+    }
+
+    /**
+     * @param delegate        client performing the actual requests
+     * @param hedgePercentile latency percentile after which a hedge is sent, in (0, 100]
+     * @param maxHedgeRatio   maximum fraction of calls that may be hedged, in [0, 1]
+     * @param minHedgeDelay   lower bound for the hedge delay
+     */
+    public HedgingApiClient(ApiClient delegate, double hedgePercentile, double maxHedgeRatio, Duration minHedgeDelay) {
+        this(delegate, hedgePercentile, maxHedgeRatio, minHedgeDelay, DEFAULT_CALL_TIMEOUT);
+    }
+
+    /**
+     * @param delegate           client performing the actual requests
+     * @param hedgePercentile    latency percentile after which a hedge is sent, in (0, 100]
+     * @param maxHedgeRatio      maximum fraction of calls that may be hedged, in [0, 1]
+     * @param minHedgeDelay      lower bound for the hedge delay
+     * @param defaultCallTimeout bound for calls made without an explicit timeout
+     */
+    public HedgingApiClient(ApiClient delegate, double hedgePercentile, double maxHedgeRatio, Duration minHedgeDelay,
+                            Duration defaultCallTimeout) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        if (!(hedgePercentile > 0 && hedgePercentile <= 100)) {
+            throw new IllegalArgumentException("Hedge percentile must be in (0, 100]");
+        }
+        if (!(maxHedgeRatio >= 0 && maxHedgeRatio <= 1)) {
+            throw new IllegalArgumentException("Max hedge ratio must be in [0, 1]");
+        }
+        this.hedgePercentile = hedgePercentile;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.minHedgeDelay = Objects.requireNonNull(minHedgeDelay, "Min hedge delay must not be null");
+        this.defaultCallTimeout = Objects.requireNonNull(defaultCallTimeout, "Default call timeout must not be null");
+        if (defaultCallTimeout.isNegative() || defaultCallTimeout.isZero()) {
+            throw new IllegalArgumentException("Default call timeout must be greater than zero");
+        }
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-hedging");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-hedging-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        this.timerExecutor = timer;
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+        return getWeatherByCity(cityName, defaultCallTimeout);
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+        Objects.requireNonNull(timeout, "Timeout must not be null");
+        long deadline = System.nanoTime() + timeout.toNanos();
+        calls.incrementAndGet();
+        addBudget();
+
+        long hedgeDelay = hedgeDelayNanos();
+        if (hedgeDelay >= remaining(deadline)) {
+            return attempt(cityName, deadline);
+        }
+
+        Race race = new Race(Thread.currentThread());
+        RequestPriority priority = RequestPriority.current();
+        ScheduledFuture<?> timer = timerExecutor.schedule(() -> startHedge(race, cityName, deadline, priority),
+                hedgeDelay, TimeUnit.NANOSECONDS);
+        WeatherResponse response = null;
+        WeatherSDKException failure = null;
+        try {
+            response = attempt(cityName, deadline);
+        } catch (WeatherSDKException e) {
+            failure = e;
+        }
+
+        Future<WeatherResponse> hedge;
+        boolean restoreInterrupt = false;
+        synchronized (race) {
+            race.primaryDone = true;
+            hedge = race.hedge;
+            if (race.hedgeWon) {
+                // The hedge interrupted this thread to abandon the primary attempt; clear the flag
+                // until the hedge result is collected, then restore an interrupt of the caller's own.
+                Thread.interrupted();
+                restoreInterrupt = race.callerInterrupted;
+            }
+        }
+        timer.cancel(false);
+        if (hedge == null) {
+            if (failure != null) {
+                throw failure;
+            }
+            return response;
+        }
+
+        try {
+            if (failure == null && !race.hedgeWon) {
+                return response;
+            }
+            if (failure != null && !race.hedgeWon && isDefinitive(failure)) {
+                throw failure;
+            }
+            try {
+                return hedge.get(remaining(deadline), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                WeatherSDKException hedgeFailure = asSdkException(e.getCause());
+                throw failure == null || isDefinitive(hedgeFailure) ? hedgeFailure : failure;
+            } catch (TimeoutException e) {
+                throw new WeatherTimeoutException("Timed out after " + timeout.toMillis() + " ms requesting weather for city: " + cityName, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WeatherSDKException("Interrupted while requesting weather for city: " + cityName, e);
+            }
+        } finally {
+            hedge.cancel(true);
+            if (restoreInterrupt) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Forecast lookups are not hedged; they are rare, large and refreshed in the background.
+     */
+    @Override
+    public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+        return delegate.getForecastByCity(cityName);
+    }
+
+    /**
+     * @return current hedge delay, derived from recent latencies
+     */
+    public Duration getHedgeDelay() {
+        return Duration.ofNanos(hedgeDelayNanos());
+    }
+
+    /**
+     * @return number of calls made through this client
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    /**
+     * @return number of duplicate requests sent
+     */
+    public long getHedgeCount() {
+        return hedges.get();
+    }
+
+    @Override
+    public void close() {
+        timerExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Sends the hedge, at the caller's priority, unless the primary attempt has already finished.
+     * A hedge that completes first, or fails definitively, interrupts the calling thread so it
+     * abandons the primary.
+     */
+    @SuppressWarnings("try")
+    private void startHedge(Race race, String cityName, long deadline, RequestPriority priority) {
+        synchronized (race) {
+            if (race.primaryDone || remaining(deadline) == 0 || !tryAcquireHedge()) {
+                return;
+            }
+            hedges.incrementAndGet();
+            race.hedge = executor.submit(() -> {
+                WeatherResponse response;
+                try (RequestPriority.Scope ignored = priority.enter()) {
+                    response = attempt(cityName, deadline);
+                } catch (WeatherSDKException e) {
+                    if (isDefinitive(e)) {
+                        race.finish();
+                    }
+                    throw e;
+                }
+                race.finish();
+                return response;
+            });
+        }
+    }
+
+    /**
+     * Calls the delegate and records the attempt's latency. Attempts that time out, fail or are
+     * cancelled are recorded at their elapsed time, so a slow upstream raises the hedge delay
+     * instead of leaving only the fast answers in the window.
+     */
+    private WeatherResponse attempt(String cityName, long deadline) throws WeatherSDKException {
+        long start = System.nanoTime();
+        try {
+            return delegate.getWeatherByCity(cityName, Duration.ofNanos(remaining(deadline)));
+        } finally {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    private long hedgeDelayNanos() {
+        if (latencies.count() < MIN_SAMPLES) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(minHedgeDelay.toNanos(), latencies.percentile(hedgePercentile));
+    }
+
+    private synchronized void addBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + maxHedgeRatio);
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (budgetTokens < 1.0) {
+            return false;
+        }
+        budgetTokens -= 1.0;
+        return true;
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    /**
+     * Coordination between the primary attempt on the calling thread and the hedge.
+     */
+    private static final class Race {
+        private final Thread caller;
+        private Future<WeatherResponse> hedge;
+        private boolean primaryDone;
+        private boolean callerInterrupted;
+        private volatile boolean hedgeWon;
+
+        private Race(Thread caller) {
+            this.caller = caller;
+        }
+
+        private synchronized void finish() {
+            if (!primaryDone) {
+                hedgeWon = true;
+                callerInterrupted = caller.isInterrupted();
+                caller.interrupt();
+            }
+        }
+    }
+
+    private static boolean isDefinitive(WeatherSDKException failure) {
+        if (failure instanceof CityNotFoundException) {
+            return true;
+        }
+        if (failure instanceof APIException) {
+            int status = ((APIException) failure).getStatusCode();
+            return status >= HTTP_CLIENT_ERROR && status < HTTP_SERVER_ERROR && status != HTTP_TOO_MANY_REQUESTS;
+        }
+        return false;
+    }
+
+    private static WeatherSDKException asSdkException(Throwable cause) {
+        if (cause instanceof WeatherSDKException) {
+            return (WeatherSDKException) cause;
+        }
+        return new WeatherSDKException("Hedged request failed: " + cause.getMessage(), cause);
+    }
+}
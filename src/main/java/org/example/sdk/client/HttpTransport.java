@@ -0,0 +1,45 @@
+package org.example.sdk.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP backend used by {@link WeatherApiClient} to fetch OpenWeatherMap responses.
+ * <p>
+ * A transport only performs {@code GET} requests and returns the status code and body; building
+ * URLs, mapping error statuses and parsing JSON stay in the client. The SDK ships
+ * {@link OkHttpTransport}, the default, and {@link JdkHttpTransport}, which uses
+ * {@code java.net.http.HttpClient} and can carry many concurrent calls over one HTTP/2 connection.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> Implementations must be thread-safe; one transport is typically shared by
+ * every client in the process.
+ * </p>
+ */
+public interface HttpTransport {
+
+    /**
+     * Perform a {@code GET} request on the calling thread.
+     *
+     * @param uri request URI, including the query string
+     * @return status code and body of the response, whatever the status
+     * @throws IOException if no response was received
+     */
+    TransportResponse get(URI uri) throws IOException;
+
+    /**
+     * Start a {@code GET} request without blocking the calling thread.
+     * <p>
+     * The returned future completes with the response, or exceptionally with an
+     * {@link IOException} if no response was received within the timeout. Cancelling the future
+     * aborts the request.
+     * </p>
+     *
+     * @param uri     request URI, including the query string
+     * @param timeout time budget of the whole exchange (positive)
+     * @return future response
+     */
+    CompletableFuture<TransportResponse> getAsync(URI uri, Duration timeout);
+}
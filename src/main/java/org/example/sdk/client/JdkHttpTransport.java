@@ -0,0 +1,103 @@
+package org.example.sdk.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link HttpTransport} backed by the JDK's {@link HttpClient}.
+ * <p>
+ * The default client prefers HTTP/2: against {@code https} endpoints that negotiate it, all
+ * concurrent calls to a host are multiplexed over a single connection instead of one connection
+ * per in-flight request, and {@link #getAsync} needs no thread per call. Servers that only speak
+ * HTTP/1.1, including plain {@code http} stubs that ignore the {@code h2c} upgrade, are served
+ * over a pool of HTTP/1.1 connections as usual.
+ * </p>
+ * <p>
+ * Without an explicit {@link HttpClient} the transport uses one client shared by the process,
+ * created on first use, so every transport shares its connections and selector thread.
+ * </p>
+ * <p>
+ * The JDK client has no request timeout of its own, so {@link #get(URI)} bounds each request by
+ * {@value #DEFAULT_REQUEST_TIMEOUT_SECONDS} seconds, in line with OkHttp's default timeouts.
+ * </p>
+ */
+public final class JdkHttpTransport implements HttpTransport {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final long DEFAULT_REQUEST_TIMEOUT_SECONDS = 10;
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(DEFAULT_REQUEST_TIMEOUT_SECONDS);
+
+    private static final class ClientHolder {
+        private static final HttpClient CLIENT = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+    }
+
+    private final HttpClient client;
+
+    /**
+     * Transport using the shared HTTP/2-preferring client.
+     */
+    public JdkHttpTransport() {
+        this.client = null;
+    }
+
+    /**
+     * @param client JDK HTTP client to send requests with (must not be null)
+     */
+    public JdkHttpTransport(HttpClient client) {
+        this.client = Objects.requireNonNull(client, "HTTP client must not be null");
+    }
+
+    @Override
+    public TransportResponse get(URI uri) throws IOException {
+        try {
+            HttpResponse<String> response = client().send(buildRequest(uri, DEFAULT_REQUEST_TIMEOUT), HttpResponse.BodyHandlers.ofString());
+            return new TransportResponse(response.statusCode(), response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for " + uri.getHost());
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> getAsync(URI uri, Duration timeout) {
+        Objects.requireNonNull(timeout, "Timeout must not be null");
+        CompletableFuture<HttpResponse<String>> pending =
+                client().sendAsync(buildRequest(uri, timeout), HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<TransportResponse> result = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                pending.cancel(true);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        pending.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                result.complete(new TransportResponse(response.statusCode(), response.body()));
+            }
+        });
+        return result;
+    }
+
+    private static HttpRequest buildRequest(URI uri, Duration timeout) {
+        return HttpRequest.newBuilder(uri).GET().timeout(timeout).build();
+    }
+
+    private HttpClient client() {
+        return client != null ? client : ClientHolder.CLIENT;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.sdk.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of recent call latencies with cheap percentile queries.
+ * <p>
+ * Samples are written into a fixed-size ring without locking. Percentiles are computed from a
+ * sorted copy of the window and cached until a number of new samples have been recorded, so
+ * frequent queries stay cheap.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public class LatencyTracker {
+    private static final int DEFAULT_WINDOW = 1024;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long[] sortedSnapshot = new long[0];
+    private volatile long snapshotAt = -1;
+
+    public LatencyTracker() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window number of most recent samples kept
+     */
+    public LatencyTracker(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be greater than zero");
+        }
+        this.samples = new AtomicLongArray(window);
+    }
+
+    /**
+     * @param latencyNanos observed latency in nanoseconds
+     */
+    public void record(long latencyNanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), Math.max(0, latencyNanos));
+    }
+
+    /**
+     * @return total number of samples recorded since creation
+     */
+    public long count() {
+        return recorded.get();
+    }
+
+    /**
+     * @param percentile percentile in the range (0, 100]
+     * @return latency at the percentile in nanoseconds, or {@code -1} when no samples were recorded
+     */
+    public long percentile(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]");
+        }
+        long[] sorted = snapshot();
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+
+    private long[] snapshot() {
+        long total = recorded.get();
+        if (snapshotAt >= 0 && total - snapshotAt < RECOMPUTE_EVERY) {
+            return sortedSnapshot;
+        }
+        int size = (int) Math.min(total, samples.length());
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        sortedSnapshot = copy;
+        snapshotAt = total;
+        return copy;
+    }
+}
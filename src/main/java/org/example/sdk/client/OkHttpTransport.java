@@ -0,0 +1,111 @@
+package org.example.sdk.client;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpTransport} backed by OkHttp, the default transport of {@link WeatherApiClient}.
+ * <p>
+ * Without an explicit {@link OkHttpClient} the transport uses the SDK's shared client, whose
+ * connection pool and dispatcher are shared by every client in the process and which reports
+ * network phase timings to Flight Recorder. A custom client only gets those timings if it was
+ * built with the same event listener, so its calls are reported without phases.
+ * </p>
+ */
+public final class OkHttpTransport implements HttpTransport {
+    private final OkHttpClient client;
+
+    /**
+     * Transport using the SDK's shared OkHttp client, created on first use.
+     */
+    public OkHttpTransport() {
+        this.client = null;
+    }
+
+    /**
+     * @param client OkHttp client to send requests with (must not be null)
+     */
+    public OkHttpTransport(OkHttpClient client) {
+        this.client = Objects.requireNonNull(client, "HTTP client must not be null");
+    }
+
+    @Override
+    public TransportResponse get(URI uri) throws IOException {
+        return get(uri, null);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> getAsync(URI uri, Duration timeout) {
+        return getAsync(uri, timeout, null);
+    }
+
+    /**
+     * Variant of {@link #get(URI)} that reports the network phases into the event.
+     */
+    TransportResponse get(URI uri, UpstreamCallEvent event) throws IOException {
+        try (Response response = client().newCall(buildRequest(uri, event)).execute()) {
+            return read(response);
+        }
+    }
+
+    /**
+     * Variant of {@link #getAsync(URI, Duration)} that reports the network phases into the event.
+     */
+    CompletableFuture<TransportResponse> getAsync(URI uri, Duration timeout, UpstreamCallEvent event) {
+        Objects.requireNonNull(timeout, "Timeout must not be null");
+        Call call = client().newCall(buildRequest(uri, event));
+        call.timeout().timeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        CompletableFuture<TransportResponse> result = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                call.cancel();
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call completedCall, Response response) {
+                try (response) {
+                    result.complete(read(response));
+                } catch (IOException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        return result;
+    }
+
+    private static Request buildRequest(URI uri, UpstreamCallEvent event) {
+        Request request = new Request.Builder()
+                .url(HttpUrl.get(uri))
+                .get()
+                .build();
+        return event != null ? event.tag(request) : request;
+    }
+
+    private static TransportResponse read(Response response) throws IOException {
+        ResponseBody body = response.body();
+        return new TransportResponse(response.code(), body != null ? body.string() : "");
+    }
+
+    private OkHttpClient client() {
+        return client != null ? client : SharedHttp.client();
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.sdk.client;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * OkHttp listener that records network phase timings into the {@link UpstreamCallEvent} tagged on
+ * the request.
+ * <p>
+ * Calls without a tagged event, i.e. all calls while no recording enables the event, get
+ * {@link EventListener#NONE} and cost nothing. OkHttp reports the events of one call
+ * sequentially, so the listener needs no synchronization.
+ * </p>
+ */
+final class PhaseTimingListener extends EventListener {
+    static final EventListener.Factory FACTORY = call -> {
+        UpstreamCallEvent event = call.request().tag(UpstreamCallEvent.class);
+        return event == null ? EventListener.NONE : new PhaseTimingListener(event);
+    };
+
+    private final UpstreamCallEvent event;
+    private long dnsStart;
+    private long connectStart;
+    private long tlsBeforeConnect;
+    private long secureConnectStart;
+    private long requestStart;
+    private long requestEnd;
+    private long responseStart;
+
+    private PhaseTimingListener(UpstreamCallEvent event) {
+        this.event = event;
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        event.dns += System.nanoTime() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+        tlsBeforeConnect = event.tls;
+        event.connectionReused = false;
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        event.tls += System.nanoTime() - secureConnectStart;
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        connectEnded();
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+                              IOException ioe) {
+        connectEnded();
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestEnd = System.nanoTime();
+        event.requestSend = requestEnd - requestStart;
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        responseStart = System.nanoTime();
+        event.serverWait = responseStart - requestEnd;
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        event.download = System.nanoTime() - responseStart;
+    }
+
+    private void connectEnded() {
+        // OkHttp reports the TLS handshake inside the connect phase; keep the two apart.
+        event.connect += System.nanoTime() - connectStart - (event.tls - tlsBeforeConnect);
+    }
+}
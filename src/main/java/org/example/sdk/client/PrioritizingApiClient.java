@@ -0,0 +1,244 @@
+package org.example.sdk.client;
+
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ApiClient} decorator that queues upstream requests by {@link RequestPriority}.
+ * <p>
+ * At most {@code maxConcurrency} requests are in flight. When a slot frees up it goes to a
+ * waiting {@link RequestPriority#INTERACTIVE} request first, so cache misses a user is waiting on
+ * do not queue behind a polling cycle or a preload. {@link RequestPriority#BACKGROUND} requests
+ * only start while no interactive request is waiting, and never occupy more than
+ * {@code backgroundShare} of the slots, which keeps the rest free for interactive bursts.
+ * </p>
+ * <p>
+ * Requests wait as long as needed, except those made with a timeout, which give up with a
+ * {@link WeatherTimeoutException} once it elapses. Queue wait times are tracked per priority
+ * over a sliding window.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public class PrioritizingApiClient implements ApiClient {
+    private static final int DEFAULT_MAX_CONCURRENCY = 32;
+    private static final double DEFAULT_BACKGROUND_SHARE = 0.5;
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    private final ApiClient delegate;
+    private final int maxConcurrency;
+    private final int maxBackground;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition interactiveTurn = lock.newCondition();
+    private final Condition backgroundTurn = lock.newCondition();
+    private final int[] inFlight = new int[PRIORITIES.length];
+    private final int[] waiting = new int[PRIORITIES.length];
+    private final AtomicLongArray requests = new AtomicLongArray(PRIORITIES.length);
+    private final LatencyTracker[] queueWait = new LatencyTracker[PRIORITIES.length];
+    private int totalInFlight;
+
+    /**
+     * Allow 32 requests in flight, at most half of them background requests.
+     *
+     * @param delegate client performing the actual requests
+     */
+    public PrioritizingApiClient(ApiClient delegate) {
+        this(delegate, DEFAULT_MAX_CONCURRENCY, DEFAULT_BACKGROUND_SHARE);
+    }
+
+    /**
+     * @param delegate        client performing the actual requests
+     * @param maxConcurrency  upstream requests allowed in flight (must be positive)
+     * @param backgroundShare fraction of {@code maxConcurrency} background requests may occupy, in
+     *                        (0, 1]; rounded down, but at least one slot
+     */
+    public PrioritizingApiClient(ApiClient delegate, int maxConcurrency, double backgroundShare) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be greater than zero");
+        }
+        if (!(backgroundShare > 0 && backgroundShare <= 1)) {
+            throw new IllegalArgumentException("Background share must be in (0, 1]");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.maxBackground = Math.max(1, (int) Math.floor(maxConcurrency * backgroundShare));
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            queueWait[i] = new LatencyTracker();
+        }
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+        RequestPriority priority = acquire(Long.MAX_VALUE);
+        try {
+            return delegate.getWeatherByCity(cityName);
+        } finally {
+            release(priority);
+        }
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+        long start = System.nanoTime();
+        RequestPriority priority = acquire(timeout.toNanos());
+        try {
+            return delegate.getWeatherByCity(cityName, timeout.minusNanos(System.nanoTime() - start));
+        } finally {
+            release(priority);
+        }
+    }
+
+    @Override
+    public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+        RequestPriority priority = acquire(Long.MAX_VALUE);
+        try {
+            return delegate.getForecastByCity(cityName);
+        } finally {
+            release(priority);
+        }
+    }
+
+    /**
+     * @return upstream requests allowed in flight
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return slots background requests may occupy at once
+     */
+    public int getMaxBackground() {
+        return maxBackground;
+    }
+
+    /**
+     * @param priority request priority
+     * @return requests of the priority currently in flight
+     */
+    public int getInFlight(RequestPriority priority) {
+        lock.lock();
+        try {
+            return inFlight[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param priority request priority
+     * @return requests of the priority currently waiting for a slot
+     */
+    public int getWaiting(RequestPriority priority) {
+        lock.lock();
+        try {
+            return waiting[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param priority request priority
+     * @return requests of the priority that were given a slot since creation
+     */
+    public long getRequestCount(RequestPriority priority) {
+        return requests.get(priority.ordinal());
+    }
+
+    /**
+     * @param priority   request priority
+     * @param percentile percentile in the range (0, 100]
+     * @return time recent requests of the priority waited for a slot, in nanoseconds, or {@code -1}
+     *         when none was made yet
+     */
+    public long getQueueWaitNanos(RequestPriority priority, double percentile) {
+        return queueWait[priority.ordinal()].percentile(percentile);
+    }
+
+    private RequestPriority acquire(long maxWaitNanos) throws WeatherSDKException {
+        RequestPriority priority = RequestPriority.current();
+        int lane = priority.ordinal();
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            if (!canStart(priority)) {
+                waiting[lane]++;
+                try {
+                    Condition turn = priority == RequestPriority.INTERACTIVE ? interactiveTurn : backgroundTurn;
+                    while (!canStart(priority)) {
+                        if (remaining <= 0) {
+                            throw new WeatherTimeoutException("Timed out after " + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)
+                                    + " ms waiting for an upstream slot");
+                        }
+                        remaining = remaining == Long.MAX_VALUE ? awaitUnbounded(turn) : turn.awaitNanos(remaining);
+                    }
+                } finally {
+                    waiting[lane]--;
+                }
+            }
+            inFlight[lane]++;
+            totalInFlight++;
+            requests.incrementAndGet(lane);
+            queueWait[lane].record(System.nanoTime() - start);
+            return priority;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WeatherSDKException("Interrupted while waiting for an upstream slot", e);
+        } finally {
+            // Pass the turn on: a woken waiter that gave up, or a free slot left after this one.
+            signalNext();
+            lock.unlock();
+        }
+    }
+
+    private void release(RequestPriority priority) {
+        lock.lock();
+        try {
+            inFlight[priority.ordinal()]--;
+            totalInFlight--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean canStart(RequestPriority priority) {
+        if (totalInFlight >= maxConcurrency) {
+            return false;
+        }
+        if (priority == RequestPriority.INTERACTIVE) {
+            return true;
+        }
+        return waiting[RequestPriority.INTERACTIVE.ordinal()] == 0
+                && inFlight[RequestPriority.BACKGROUND.ordinal()] < maxBackground;
+    }
+
+    private void signalNext() {
+        if (totalInFlight >= maxConcurrency) {
+            return;
+        }
+        if (waiting[RequestPriority.INTERACTIVE.ordinal()] > 0) {
+            interactiveTurn.signal();
+        } else if (waiting[RequestPriority.BACKGROUND.ordinal()] > 0
+                && inFlight[RequestPriority.BACKGROUND.ordinal()] < maxBackground) {
+            backgroundTurn.signal();
+        }
+    }
+
+    private static long awaitUnbounded(Condition turn) throws InterruptedException {
+        turn.await();
+        return Long.MAX_VALUE;
+    }
+}
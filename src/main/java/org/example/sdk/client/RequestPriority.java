@@ -0,0 +1,73 @@
+package org.example.sdk.client;
+
+/**
+ * Priority of upstream requests made by the current thread.
+ * <p>
+ * Requests are {@link #INTERACTIVE} unless the thread has entered another priority with
+ * {@link #enter()}. The SDK marks its own polling refreshes and preloads as {@link #BACKGROUND};
+ * {@link PrioritizingApiClient} reads the priority to order requests. The priority is bound to the
+ * calling thread; decorators that hand requests to other threads, such as the hedged duplicates of
+ * {@link HedgingApiClient}, capture {@link #current()} when the request is submitted and enter it
+ * on the thread that sends it.
+ * </p>
+ */
+public enum RequestPriority {
+    /**
+     * A caller is waiting for the result, e.g. a cache miss in {@code getWeather}.
+     */
+    INTERACTIVE,
+
+    /**
+     * Work nobody is waiting on: polling refreshes and preloads.
+     */
+    BACKGROUND;
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @return priority of requests made by the calling thread
+     */
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+
+    /**
+     * Make this the priority of the calling thread until the returned scope is closed.
+     * <pre>{@code
+     * RequestPriority priority = RequestPriority.current();
+     * executor.execute(() -> {
+     *     try (RequestPriority.Scope scope = priority.enter()) {
+     *         client.getWeatherByCity(city);
+     *     }
+     * });
+     * }</pre>
+     *
+     * @return scope restoring the previous priority when closed
+     */
+    public Scope enter() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(this);
+        return scope;
+    }
+
+    /**
+     * Restores the priority that was in effect before {@link RequestPriority#enter()}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final RequestPriority previous;
+
+        private Scope(RequestPriority previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package org.example.sdk.client;
+
+import org.example.sdk.exception.APIException;
+import org.example.sdk.exception.CityNotFoundException;
+import org.example.sdk.exception.UnsupportedFeatureException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ApiClient} that spreads calls over several equivalent endpoints, such as regional
+ * egress proxies and mirrors of the OpenWeatherMap API, and fails over between them.
+ * <p>
+ * Each endpoint keeps exponentially weighted moving averages of its call latency and failure
+ * rate. A call goes to the healthy endpoint with the lowest expected time per successful call
+ * (latency divided by success rate); endpoints without samples are tried first. Every
+ * {@value #EXPLORE_EVERY}th call goes to the least recently used healthy endpoint instead, so the
+ * averages of idle endpoints stay current and a recovered endpoint wins traffic back.
+ * </p>
+ * <p>
+ * A failed call, i.e. a network error, timeout, 429 or 5xx, is retried on the next best endpoint
+ * that has not been tried for it, within the caller's timeout. While another endpoint is left to
+ * try, an attempt may use at most half of the remaining timeout, so a hung endpoint always leaves
+ * time for a failover. Answers that are the same on
+ * every endpoint, such as 404 for an unknown city, are returned as they are. After
+ * {@code failureThreshold} consecutive failures an endpoint is ejected for {@code cooldown};
+ * then a single trial call decides whether it rejoins or stays ejected for another cooldown.
+ * When every endpoint is ejected, the one whose cooldown ends first is still tried. An unchecked
+ * exception from an endpoint counts as a failure of that endpoint and is thrown without failover.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public class RoutingApiClient implements ApiClient {
+    private static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    private static final Duration DEFAULT_COOLDOWN = Duration.ofSeconds(10);
+    private static final double SMOOTHING = 0.2;
+    private static final double MAX_ERROR_RATE = 0.95;
+    private static final int EXPLORE_EVERY = 20;
+    private static final int HTTP_CLIENT_ERROR = 400;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final List<Endpoint> endpoints;
+    private final int failureThreshold;
+    private final long cooldownNanos;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failovers = new AtomicLong();
+
+    /**
+     * Route over one {@link WeatherApiClient} per base URL.
+     *
+     * @param apiKey   OpenWeatherMap API key
+     * @param units    units to use: "metric", "imperial", or "standard"
+     * @param baseUrls full URLs of the current-weather endpoint on each proxy or mirror (must not be empty)
+     */
+    public RoutingApiClient(String apiKey, String units, List<String> baseUrls) {
+        this(clients(apiKey, units, baseUrls), DEFAULT_FAILURE_THRESHOLD, DEFAULT_COOLDOWN);
+    }
+
+    /**
+     * Eject endpoints for 10 seconds after 3 consecutive failures.
+     *
+     * @param endpoints clients of the equivalent endpoints (must not be empty)
+     */
+    public RoutingApiClient(List<? extends ApiClient> endpoints) {
+        this(endpoints, DEFAULT_FAILURE_THRESHOLD, DEFAULT_COOLDOWN);
+    }
+
+    /**
+     * @param endpoints        clients of the equivalent endpoints (must not be empty)
+     * @param failureThreshold consecutive failures after which an endpoint is ejected (must be positive)
+     * @param cooldown         how long an ejected endpoint receives no calls (must not be negative)
+     */
+    public RoutingApiClient(List<? extends ApiClient> endpoints, int failureThreshold, Duration cooldown) {
+        Objects.requireNonNull(endpoints, "Endpoints must not be null");
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Endpoints must not be empty");
+        }
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be greater than zero");
+        }
+        Objects.requireNonNull(cooldown, "Cooldown must not be null");
+        if (cooldown.isNegative()) {
+            throw new IllegalArgumentException("Cooldown must not be negative");
+        }
+        List<Endpoint> list = new ArrayList<>(endpoints.size());
+        for (ApiClient client : endpoints) {
+            list.add(new Endpoint(Objects.requireNonNull(client, "Endpoint must not be null")));
+        }
+        this.endpoints = List.copyOf(list);
+        this.failureThreshold = failureThreshold;
+        this.cooldownNanos = cooldown.toNanos();
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+        return route((client, remaining) -> client.getWeatherByCity(cityName), Long.MAX_VALUE, cityName);
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+        Objects.requireNonNull(timeout, "Timeout must not be null");
+        return route((client, remaining) -> client.getWeatherByCity(cityName, Duration.ofNanos(remaining)),
+                timeout.toNanos(), cityName);
+    }
+
+    @Override
+    public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+        return route((client, remaining) -> client.getForecastByCity(cityName), Long.MAX_VALUE, cityName);
+    }
+
+    /**
+     * @return routing statistics of every endpoint, in configuration order
+     */
+    public List<EndpointStats> getEndpointStats() {
+        List<EndpointStats> stats = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            stats.add(endpoint.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * @return number of calls made through this client
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    /**
+     * @return number of times a failed call was retried on another endpoint
+     */
+    public long getFailoverCount() {
+        return failovers.get();
+    }
+
+    private <T> T route(Call<T> call, long timeoutNanos, String cityName) throws WeatherSDKException {
+        long start = System.nanoTime();
+        long deadline = timeoutNanos == Long.MAX_VALUE ? Long.MAX_VALUE : start + timeoutNanos;
+        boolean explore = calls.incrementAndGet() % EXPLORE_EVERY == 0;
+        boolean[] tried = new boolean[endpoints.size()];
+        WeatherSDKException lastFailure = null;
+
+        for (int attempt = 0; attempt < tried.length; attempt++) {
+            long remaining = deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            if (remaining != Long.MAX_VALUE && attempt < tried.length - 1) {
+                remaining = Math.max(1, remaining / 2);
+            }
+            int index = select(tried, explore && attempt == 0);
+            tried[index] = true;
+            Endpoint endpoint = endpoints.get(index);
+            if (attempt > 0) {
+                failovers.incrementAndGet();
+            }
+
+            long attemptStart = System.nanoTime();
+            try {
+                T result = call.execute(endpoint.client, remaining);
+                endpoint.onSuccess(System.nanoTime() - attemptStart);
+                return result;
+            } catch (WeatherSDKException e) {
+                if (isDefinitive(e)) {
+                    endpoint.onSuccess(System.nanoTime() - attemptStart);
+                    throw e;
+                }
+                endpoint.onFailure(System.nanoTime() - attemptStart, failureThreshold, cooldownNanos);
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                lastFailure = e;
+            } catch (RuntimeException | Error e) {
+                // Not a routing failure, so it is not retried, but the attempt still has to end:
+                // an endpoint whose trial call threw would otherwise stay claimed for good.
+                endpoint.onFailure(System.nanoTime() - attemptStart, failureThreshold, cooldownNanos);
+                throw e;
+            }
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+        throw new WeatherTimeoutException("Timed out after " + (timeoutNanos / 1_000_000) + " ms requesting weather for city: " + cityName);
+    }
+
+    /**
+     * Pick the untried endpoint to call next and mark it in use. An ejected endpoint whose
+     * cooldown has ended is checked and claimed for its trial call under one monitor, so only one
+     * caller sends the trial; callers that lose the race pick another endpoint.
+     */
+    private int select(boolean[] tried, boolean explore) {
+        boolean[] unavailable = new boolean[tried.length];
+        while (true) {
+            long now = System.nanoTime();
+            int best = -1;
+            double bestScore = Double.MAX_VALUE;
+            int fallback = -1;
+            long fallbackUntil = Long.MAX_VALUE;
+            for (int i = 0; i < tried.length; i++) {
+                if (tried[i]) {
+                    continue;
+                }
+                Endpoint endpoint = endpoints.get(i);
+                synchronized (endpoint) {
+                    if (unavailable[i] || !endpoint.isAvailable(now)) {
+                        if (endpoint.ejectedUntil - now < fallbackUntil) {
+                            fallback = i;
+                            fallbackUntil = endpoint.ejectedUntil - now;
+                        }
+                        continue;
+                    }
+                    double score = explore ? -(double) (now - endpoint.lastUsed) : endpoint.score();
+                    if (best < 0 || score < bestScore) {
+                        best = i;
+                        bestScore = score;
+                    }
+                }
+            }
+            if (best < 0) {
+                endpoints.get(fallback).claim(now, true);
+                return fallback;
+            }
+            if (endpoints.get(best).claim(now, false)) {
+                return best;
+            }
+            unavailable[best] = true;
+        }
+    }
+
+    private static boolean isDefinitive(WeatherSDKException failure) {
+        if (failure instanceof CityNotFoundException || failure instanceof UnsupportedFeatureException) {
+            return true;
+        }
+        if (failure instanceof APIException) {
+            int status = ((APIException) failure).getStatusCode();
+            return status >= HTTP_CLIENT_ERROR && status < HTTP_SERVER_ERROR && status != HTTP_TOO_MANY_REQUESTS;
+        }
+        return false;
+    }
+
+    private static List<ApiClient> clients(String apiKey, String units, List<String> baseUrls) {
+        Objects.requireNonNull(baseUrls, "Base URLs must not be null");
+        List<ApiClient> clients = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            clients.add(new WeatherApiClient(apiKey, units, baseUrl));
+        }
+        return clients;
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        /**
+         * @param remainingNanos time left of the caller's timeout, {@link Long#MAX_VALUE} without one
+         */
+        T execute(ApiClient client, long remainingNanos) throws WeatherSDKException;
+    }
+
+    /**
+     * Routing state of one endpoint, guarded by its monitor.
+     */
+    private static final class Endpoint {
+        private final ApiClient client;
+        private final String name;
+        private double latencyNanos = Double.NaN;
+        private double errorRate;
+        private int consecutiveFailures;
+        private long ejectedUntil;
+        private boolean ejected;
+        private boolean trialInFlight;
+        private long lastUsed;
+        private long requests;
+        private long failures;
+
+        private Endpoint(ApiClient client) {
+            this.client = client;
+            this.name = client instanceof WeatherApiClient ? ((WeatherApiClient) client).baseUrl() : String.valueOf(client);
+            this.lastUsed = System.nanoTime();
+        }
+
+        /**
+         * Expected time per successful call; endpoints without samples come first.
+         */
+        private double score() {
+            if (Double.isNaN(latencyNanos)) {
+                return -1;
+            }
+            return latencyNanos / (1 - Math.min(errorRate, MAX_ERROR_RATE));
+        }
+
+        private boolean isAvailable(long now) {
+            return !ejected || (now - ejectedUntil >= 0 && !trialInFlight);
+        }
+
+        /**
+         * Mark the endpoint in use if it is still available, claiming the trial call of an
+         * ejected endpoint whose cooldown has ended.
+         *
+         * @param force use the endpoint even if it is unavailable, when no other endpoint is left
+         * @return {@code false} if the endpoint became unavailable since it was picked
+         */
+        private synchronized boolean claim(long now, boolean force) {
+            if (!force && !isAvailable(now)) {
+                return false;
+            }
+            lastUsed = now;
+            requests++;
+            if (ejected && now - ejectedUntil >= 0) {
+                trialInFlight = true;
+            }
+            return true;
+        }
+
+        private synchronized void onSuccess(long latency) {
+            sample(latency, 0);
+            consecutiveFailures = 0;
+            ejected = false;
+            trialInFlight = false;
+        }
+
+        private synchronized void onFailure(long latency, int threshold, long cooldownNanos) {
+            sample(latency, 1);
+            failures++;
+            consecutiveFailures++;
+            if (trialInFlight || (!ejected && consecutiveFailures >= threshold)) {
+                ejected = true;
+                ejectedUntil = System.nanoTime() + cooldownNanos;
+                trialInFlight = false;
+            }
+        }
+
+        private void sample(long latency, double failed) {
+            latencyNanos = Double.isNaN(latencyNanos) ? latency : latencyNanos + SMOOTHING * (latency - latencyNanos);
+            errorRate += SMOOTHING * (failed - errorRate);
+        }
+
+        private synchronized EndpointStats stats() {
+            return new EndpointStats(name, Double.isNaN(latencyNanos) ? -1 : (long) latencyNanos, errorRate,
+                    !ejected, requests, failures);
+        }
+    }
+}
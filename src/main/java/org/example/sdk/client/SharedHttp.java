@@ -0,0 +1,53 @@
+package org.example.sdk.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM-wide HTTP and JSON resources shared by all {@link WeatherApiClient} instances.
+ * <p>
+ * Each resource is created on first use through a holder class, so constructing a client is
+ * cheap and processes that never make a request never build an {@link OkHttpClient}. Sharing
+ * one client also shares its connection pool and dispatcher threads, as OkHttp recommends.
+ * </p>
+ */
+final class SharedHttp {
+    private static final int MAX_ASYNC_REQUESTS_PER_HOST = 64;
+    private static final long IDLE_CONNECTION_KEEP_ALIVE_MINUTES = 5;
+
+    private static final class ClientHolder {
+        private static final OkHttpClient CLIENT = newClient();
+    }
+
+    private static final class JsonHolder {
+        private static final JsonFactory FACTORY = new JsonFactory();
+    }
+
+    private SharedHttp() {
+    }
+
+    static OkHttpClient client() {
+        return ClientHolder.CLIENT;
+    }
+
+    static JsonFactory jsonFactory() {
+        return JsonHolder.FACTORY;
+    }
+
+    private static OkHttpClient newClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(MAX_ASYNC_REQUESTS_PER_HOST);
+        // OkHttp keeps only 5 idle connections by default; with more concurrent calls every call
+        // beyond that closes its connection on completion and the next one reconnects.
+        ConnectionPool pool = new ConnectionPool(MAX_ASYNC_REQUESTS_PER_HOST, IDLE_CONNECTION_KEEP_ALIVE_MINUTES, TimeUnit.MINUTES);
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(pool)
+                .eventListenerFactory(PhaseTimingListener.FACTORY)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.sdk.client;
+
+import java.util.Objects;
+
+/**
+ * Status code and body of an HTTP response returned by a {@link HttpTransport}.
+ */
+public final class TransportResponse {
+    private final int statusCode;
+    private final String body;
+
+    /**
+     * @param statusCode HTTP status code
+     * @param body       response body decoded as UTF-8 unless the response declares another charset (must not be null)
+     */
+    public TransportResponse(int statusCode, String body) {
+        this.statusCode = statusCode;
+        this.body = Objects.requireNonNull(body, "Body must not be null");
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * @return true for 2xx status codes
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
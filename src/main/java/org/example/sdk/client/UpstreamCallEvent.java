@@ -0,0 +1,105 @@
+package org.example.sdk.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import okhttp3.Request;
+
+/**
+ * Flight Recorder event for one request to the OpenWeatherMap API, split into network phases.
+ * <p>
+ * The event is committed once the response has been mapped, so its duration covers the whole
+ * call. Phase fields are filled in by {@link PhaseTimingListener} for clients using the shared
+ * HTTP client; phases that did not happen, such as DNS and connect on a reused connection,
+ * stay at zero. Nothing is allocated beyond the event itself unless a recording has the event
+ * enabled.
+ * </p>
+ */
+@Name(UpstreamCallEvent.NAME)
+@Label("Upstream Call")
+@Category({"OpenWeather SDK", "Upstream"})
+@Description("Request to the OpenWeatherMap API with per-phase timings")
+final class UpstreamCallEvent extends jdk.jfr.Event {
+    static final String NAME = "org.example.sdk.UpstreamCall";
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("City")
+    String city;
+
+    @Label("Status")
+    @Description("HTTP status code, 0 if no response was received")
+    int status;
+
+    @Label("Error")
+    @Description("Exception that failed the call, if any")
+    String error;
+
+    @Label("Connection Reused")
+    boolean connectionReused = true;
+
+    @Label("DNS")
+    @Timespan(Timespan.NANOSECONDS)
+    long dns;
+
+    @Label("Connect")
+    @Description("TCP connect, excluding the TLS handshake")
+    @Timespan(Timespan.NANOSECONDS)
+    long connect;
+
+    @Label("TLS Handshake")
+    @Timespan(Timespan.NANOSECONDS)
+    long tls;
+
+    @Label("Request Send")
+    @Timespan(Timespan.NANOSECONDS)
+    long requestSend;
+
+    @Label("Server Wait")
+    @Description("From the end of the request to the first response header")
+    @Timespan(Timespan.NANOSECONDS)
+    long serverWait;
+
+    @Label("Body Download")
+    @Description("From the first response header to the end of the body")
+    @Timespan(Timespan.NANOSECONDS)
+    long download;
+
+    @Label("JSON Mapping")
+    @Description("Parsing the body into SDK model objects")
+    @Timespan(Timespan.NANOSECONDS)
+    long mapping;
+
+    /**
+     * Create and begin an event for a call; the event stays unused if no recording enables it.
+     */
+    static UpstreamCallEvent start(String endpoint, String city) {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        if (event.isEnabled()) {
+            event.endpoint = endpoint;
+            event.city = city;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Attach the event to the request so the HTTP client's {@link PhaseTimingListener} can fill in
+     * the network phases.
+     */
+    Request tag(Request request) {
+        if (!isEnabled()) {
+            return request;
+        }
+        return request.newBuilder().tag(UpstreamCallEvent.class, this).build();
+    }
+
+    void failed(Throwable error) {
+        if (isEnabled()) {
+            this.error = error.getClass().getName() + ": " + error.getMessage();
+        }
+    }
+}
@@ -1,22 +1,24 @@
 package org.example.sdk.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 import org.example.sdk.exception.APIException;
 import org.example.sdk.exception.CityNotFoundException;
 import org.example.sdk.exception.WeatherSDKException;
-import org.example.sdk.model.OpenWeatherMapResponse;
-import org.example.sdk.model.Sys;
-import org.example.sdk.model.Temperature;
-import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Forecast;
 import org.example.sdk.model.WeatherResponse;
-import org.example.sdk.model.Wind;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * HTTP client implementation for accessing OpenWeatherMap API.
@@ -25,19 +27,34 @@ import java.util.Objects;
  * deserializes JSON responses, and converts them to the SDK's internal
  * {@link WeatherResponse} format.
  * </p>
+ * <p>
+ * Requests are sent through a pluggable {@link HttpTransport}. Clients built without one use
+ * {@link OkHttpTransport} over a shared, lazily created OkHttp client; {@link JdkHttpTransport}
+ * uses {@code java.net.http.HttpClient} with HTTP/2 instead. Responses are mapped with
+ * hand-written streaming parsers instead of reflective data binding, which keeps construction
+ * and the first request cheap in short-lived processes.
+ * </p>
+ * <p>
+ * Every call is reported as an {@code org.example.sdk.UpstreamCall} Flight Recorder event with
+ * DNS, connect, TLS, request, server wait, download and JSON mapping times, when a recording
+ * enables it. Network phases are only available with the default OkHttp transport.
+ * </p>
  */
 public class WeatherApiClient implements ApiClient {
     private static final String BASE_URL = "https://api.openweathermap.org/data/2.5/weather";
+    private static final String FORECAST_PATH = "forecast";
+    private static final String WEATHER_ENDPOINT = "weather";
     private static final String API_KEY_PARAM = "appid";
     private static final String CITY_PARAM = "q";
     private static final String UNITS_PARAM = "units";
     private static final int HTTP_NOT_FOUND = 404;
     private static final int HTTP_UNAUTHORIZED = 401;
+    private static final HttpTransport DEFAULT_TRANSPORT = new OkHttpTransport();
 
     private final String apiKey;
-    private final OkHttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final HttpTransport transport;
     private final String units;
+    private final HttpUrl baseUrl;
 
     /**
      * Creates a new WeatherApiClient with the provided API key.
@@ -49,9 +66,9 @@ public class WeatherApiClient implements ApiClient {
         if (apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key must not be blank");
         }
-        this.httpClient = new OkHttpClient();
-        this.objectMapper = new ObjectMapper();
+        this.transport = DEFAULT_TRANSPORT;
         this.units = "metric";
+        this.baseUrl = HttpUrl.get(BASE_URL);
     }
 
     /**
@@ -65,9 +82,9 @@ public class WeatherApiClient implements ApiClient {
         if (apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key must not be blank");
         }
-        this.httpClient = Objects.requireNonNull(httpClient, "HTTP client must not be null");
-        this.objectMapper = new ObjectMapper();
+        this.transport = new OkHttpTransport(httpClient);
         this.units = "metric";
+        this.baseUrl = HttpUrl.get(BASE_URL);
     }
 
     /**
@@ -81,9 +98,46 @@ public class WeatherApiClient implements ApiClient {
         if (apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key must not be blank");
         }
-        this.httpClient = new OkHttpClient();
-        this.objectMapper = new ObjectMapper();
+        this.transport = DEFAULT_TRANSPORT;
         this.units = (units == null || units.isBlank()) ? "metric" : units;
+        this.baseUrl = HttpUrl.get(BASE_URL);
+    }
+
+    /**
+     * Creates a new WeatherApiClient against a custom endpoint, such as a proxy, mirror or local stub.
+     *
+     * @param apiKey  OpenWeatherMap API key
+     * @param units   units to use: "metric", "imperial", or "standard"
+     * @param baseUrl full URL of the current-weather endpoint, e.g. {@code http://localhost:8080/data/2.5/weather}
+     */
+    public WeatherApiClient(String apiKey, String units, String baseUrl) {
+        this.apiKey = Objects.requireNonNull(apiKey, "API key must not be null");
+        if (apiKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("API key must not be blank");
+        }
+        Objects.requireNonNull(baseUrl, "Base URL must not be null");
+        this.transport = DEFAULT_TRANSPORT;
+        this.units = (units == null || units.isBlank()) ? "metric" : units;
+        this.baseUrl = HttpUrl.get(baseUrl);
+    }
+
+    /**
+     * Creates a new WeatherApiClient that sends its requests through the given transport.
+     *
+     * @param apiKey    OpenWeatherMap API key
+     * @param units     units to use: "metric", "imperial", or "standard"
+     * @param baseUrl   full URL of the current-weather endpoint, e.g. {@code http://localhost:8080/data/2.5/weather}
+     * @param transport HTTP backend, e.g. {@link JdkHttpTransport} (must not be null)
+     */
+    public WeatherApiClient(String apiKey, String units, String baseUrl, HttpTransport transport) {
+        this.apiKey = Objects.requireNonNull(apiKey, "API key must not be null");
+        if (apiKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("API key must not be blank");
+        }
+        Objects.requireNonNull(baseUrl, "Base URL must not be null");
+        this.transport = Objects.requireNonNull(transport, "Transport must not be null");
+        this.units = (units == null || units.isBlank()) ? "metric" : units;
+        this.baseUrl = HttpUrl.get(baseUrl);
     }
 
     /**
@@ -95,84 +149,168 @@ public class WeatherApiClient implements ApiClient {
      */
     @Override
     public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+        URI uri = buildUri(cityName);
+        UpstreamCallEvent event = UpstreamCallEvent.start(WEATHER_ENDPOINT, cityName);
+
+        try {
+            return handleResponse(get(uri, event), cityName, event);
+        } catch (IOException e) {
+            event.failed(e);
+            throw new WeatherSDKException("Failed to execute HTTP request: " + e.getMessage(), e);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Retrieves weather information for the specified city, bounded by a timeout.
+     * <p>
+     * The timeout covers the whole call (connect, request, response and parsing). The call is
+     * cancelled when the timeout elapses or the calling thread is interrupted.
+     * </p>
+     *
+     * @param cityName name of the city to query
+     * @param timeout  time budget for the call (must be positive)
+     * @return weather response containing current weather data
+     * @throws WeatherTimeoutException if the timeout elapses first
+     * @throws WeatherSDKException     if the API request fails, city is not found or the thread is interrupted
+     */
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+        Objects.requireNonNull(timeout, "Timeout must not be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new WeatherTimeoutException("Deadline expired before requesting weather for city: " + cityName);
+        }
+        URI uri = buildUri(cityName);
+        UpstreamCallEvent event = UpstreamCallEvent.start(WEATHER_ENDPOINT, cityName);
+
+        CompletableFuture<TransportResponse> pending = getAsync(uri, timeout, event);
+        try {
+            return handleResponse(pending.get(timeout.toNanos(), TimeUnit.NANOSECONDS), cityName, event);
+        } catch (TimeoutException e) {
+            pending.cancel(true);
+            event.failed(e);
+            throw new WeatherTimeoutException("Timed out after " + timeout.toMillis() + " ms requesting weather for city: " + cityName, e);
+        } catch (InterruptedException e) {
+            pending.cancel(true);
+            event.failed(e);
+            Thread.currentThread().interrupt();
+            throw new WeatherSDKException("Interrupted while requesting weather for city: " + cityName, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            event.failed(cause);
+            if (cause instanceof InterruptedIOException || cause instanceof HttpTimeoutException) {
+                throw new WeatherTimeoutException("Timed out after " + timeout.toMillis() + " ms requesting weather for city: " + cityName, cause);
+            }
+            throw new WeatherSDKException("Failed to execute HTTP request: " + cause.getMessage(), cause);
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * @return URL of the current-weather endpoint this client calls
+     */
+    String baseUrl() {
+        return baseUrl.toString();
+    }
+
+    private URI buildUri(String cityName) {
+        return buildUri(baseUrl, cityName);
+    }
+
+    private URI buildUri(HttpUrl endpoint, String cityName) {
         Objects.requireNonNull(cityName, "City name must not be null");
         if (cityName.trim().isEmpty()) {
             throw new IllegalArgumentException("City name must not be blank");
         }
 
-        HttpUrl url = HttpUrl.parse(BASE_URL).newBuilder()
+        return endpoint.newBuilder()
                 .addQueryParameter(CITY_PARAM, cityName)
                 .addQueryParameter(API_KEY_PARAM, apiKey)
                 .addQueryParameter(UNITS_PARAM, units)
-                .build();
+                .build()
+                .uri();
+    }
 
-        Request request = new Request.Builder()
-                .url(url)
-                .get()
-                .build();
+    private TransportResponse get(URI uri, UpstreamCallEvent event) throws IOException {
+        if (transport instanceof OkHttpTransport) {
+            return ((OkHttpTransport) transport).get(uri, event);
+        }
+        return transport.get(uri);
+    }
 
-        try (Response response = httpClient.newCall(request).execute()) {
-            return handleResponse(response, cityName);
-        } catch (IOException e) {
-            throw new WeatherSDKException("Failed to execute HTTP request: " + e.getMessage(), e);
+    private CompletableFuture<TransportResponse> getAsync(URI uri, Duration timeout, UpstreamCallEvent event) {
+        if (transport instanceof OkHttpTransport) {
+            return ((OkHttpTransport) transport).getAsync(uri, timeout, event);
         }
+        return transport.getAsync(uri, timeout);
     }
 
-    private WeatherResponse handleResponse(Response response, String cityName) throws WeatherSDKException, IOException {
-        int statusCode = response.code();
-        String responseBody = response.body() != null ? response.body().string() : "";
+    /**
+     * Retrieves the 5-day forecast in 3-hour steps for the specified city.
+     * <p>
+     * The forecast endpoint is resolved next to the current-weather endpoint, so custom base URLs
+     * such as proxies and stubs are expected to serve {@code .../forecast} as well.
+     * </p>
+     *
+     * @param cityName name of the city to query
+     * @return forecast in columnar form
+     * @throws WeatherSDKException if the API request fails or city is not found
+     */
+    @Override
+    public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+        URI uri = buildUri(baseUrl.resolve(FORECAST_PATH), cityName);
+        UpstreamCallEvent event = UpstreamCallEvent.start(FORECAST_PATH, cityName);
 
-        if (!response.isSuccessful()) {
-            if (statusCode == HTTP_NOT_FOUND) {
-                throw new CityNotFoundException(cityName);
-            }
-            if (statusCode == HTTP_UNAUTHORIZED) {
-                throw new APIException("Invalid API key", statusCode);
+        try {
+            String responseBody = readBody(get(uri, event), cityName, event);
+            long mappingStart = System.nanoTime();
+            try {
+                return new ForecastParser(SharedHttp.jsonFactory()).parse(responseBody);
+            } catch (Exception e) {
+                event.failed(e);
+                throw new WeatherSDKException("Failed to parse API response: " + e.getMessage(), e);
+            } finally {
+                event.mapping = System.nanoTime() - mappingStart;
             }
-            throw new APIException("API request failed with status " + statusCode, statusCode);
+        } catch (IOException e) {
+            event.failed(e);
+            throw new WeatherSDKException("Failed to execute HTTP request: " + e.getMessage(), e);
+        } finally {
+            event.commit();
         }
+    }
+
+    private WeatherResponse handleResponse(TransportResponse response, String cityName, UpstreamCallEvent event)
+            throws WeatherSDKException {
+        String responseBody = readBody(response, cityName, event);
+        long mappingStart = System.nanoTime();
 
         try {
-            OpenWeatherMapResponse apiResponse = objectMapper.readValue(responseBody, OpenWeatherMapResponse.class);
-            return convertToWeatherResponse(apiResponse);
+            return new CurrentWeatherParser(SharedHttp.jsonFactory()).parse(responseBody);
         } catch (Exception e) {
+            event.failed(e);
             throw new WeatherSDKException("Failed to parse API response: " + e.getMessage(), e);
+        } finally {
+            event.mapping = System.nanoTime() - mappingStart;
         }
     }
 
-    private WeatherResponse convertToWeatherResponse(OpenWeatherMapResponse apiResponse) {
-        WeatherResponse response = new WeatherResponse();
-
-        if (apiResponse.getWeather() != null && !apiResponse.getWeather().isEmpty()) {
-            OpenWeatherMapResponse.WeatherData weatherData = apiResponse.getWeather().get(0);
-            WeatherInfo weatherInfo = new WeatherInfo(weatherData.getMain(), weatherData.getDescription());
-            response.setWeather(weatherInfo);
-        }
-
-        if (apiResponse.getMain() != null) {
-            Temperature temperature = new Temperature(
-                    apiResponse.getMain().getTemp(),
-                    apiResponse.getMain().getFeelsLike()
-            );
-            response.setTemperature(temperature);
-        }
-
-        if (apiResponse.getWind() != null) {
-            Wind wind = new Wind(apiResponse.getWind().getSpeed());
-            response.setWind(wind);
-        }
+    private static String readBody(TransportResponse response, String cityName, UpstreamCallEvent event)
+            throws WeatherSDKException {
+        int statusCode = response.getStatusCode();
+        event.status = statusCode;
 
-        if (apiResponse.getSys() != null) {
-            Sys sys = new Sys(apiResponse.getSys().getSunrise(), apiResponse.getSys().getSunset());
-            response.setSys(sys);
+        if (!response.isSuccessful()) {
+            if (statusCode == HTTP_NOT_FOUND) {
+                throw new CityNotFoundException(cityName);
+            }
+            if (statusCode == HTTP_UNAUTHORIZED) {
+                throw new APIException("Invalid API key", statusCode);
+            }
+            throw new APIException("API request failed with status " + statusCode, statusCode);
         }
-
-        response.setVisibility(apiResponse.getVisibility());
-        response.setDatetime(apiResponse.getDatetime());
-        response.setTimezone(apiResponse.getTimezone());
-        response.setName(apiResponse.getName());
-
-        return response;
+        return response.getBody();
     }
 }
-
@@ -0,0 +1,153 @@
+package org.example.sdk.cluster;
+
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.example.sdk.client.ApiClient;
+import org.example.sdk.exception.APIException;
+import org.example.sdk.exception.CityNotFoundException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.WeatherResponseJson;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link ApiClient} that calls OpenWeatherMap only for cities owned by this node and asks the
+ * owning peer for all others.
+ * <p>
+ * The owner answers from its own cache, so each city is fetched upstream by one node of the
+ * cluster at most once per expiry. When the owner cannot be reached the city is fetched
+ * upstream locally instead, trading extra upstream traffic for availability. Forecasts are not
+ * sharded and always go upstream.
+ * </p>
+ */
+final class ClusterApiClient implements ApiClient {
+    private static final Logger LOGGER = Logger.getLogger(ClusterApiClient.class.getName());
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final PeerRouter router;
+    private final ApiClient upstream;
+    private final OkHttpClient peerClient;
+    private final long peerTimeoutNanos;
+    private final AtomicLong upstreamCalls = new AtomicLong();
+    private final AtomicLong peerCalls = new AtomicLong();
+    private final AtomicLong peerFailures = new AtomicLong();
+
+    ClusterApiClient(PeerRouter router, ApiClient upstream, Duration peerTimeout) {
+        this.router = Objects.requireNonNull(router, "Peer router must not be null");
+        this.upstream = Objects.requireNonNull(upstream, "Upstream ApiClient must not be null");
+        this.peerTimeoutNanos = peerTimeout.toNanos();
+        this.peerClient = new OkHttpClient.Builder()
+                .callTimeout(peerTimeout)
+                .build();
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+        if (router.isLocal(cityName)) {
+            upstreamCalls.incrementAndGet();
+            return upstream.getWeatherByCity(cityName);
+        }
+        String owner = router.ownerOf(cityName);
+        try {
+            return fetchFromPeer(owner, cityName, null);
+        } catch (IOException e) {
+            recordPeerFailure(owner, cityName, e);
+            return upstream.getWeatherByCity(cityName);
+        }
+    }
+
+    @Override
+    public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+        Objects.requireNonNull(timeout, "Timeout must not be null");
+        if (router.isLocal(cityName)) {
+            upstreamCalls.incrementAndGet();
+            return upstream.getWeatherByCity(cityName, timeout);
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new WeatherTimeoutException("Deadline expired before requesting weather for city: " + cityName);
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String owner = router.ownerOf(cityName);
+        try {
+            // The peer timeout still applies, so a hung peer leaves time for the local fallback.
+            return fetchFromPeer(owner, cityName, Duration.ofNanos(Math.min(peerTimeoutNanos, timeout.toNanos())));
+        } catch (IOException e) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new WeatherTimeoutException("Timed out after " + timeout.toMillis() + " ms requesting weather for city "
+                        + cityName + " from peer " + owner, e);
+            }
+            recordPeerFailure(owner, cityName, e);
+            return upstream.getWeatherByCity(cityName, Duration.ofNanos(remaining));
+        }
+    }
+
+    @Override
+    public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+        return upstream.getForecastByCity(cityName);
+    }
+
+    long getUpstreamCalls() {
+        return upstreamCalls.get();
+    }
+
+    long getPeerCalls() {
+        return peerCalls.get();
+    }
+
+    long getPeerFailures() {
+        return peerFailures.get();
+    }
+
+    void close() {
+        peerClient.dispatcher().executorService().shutdown();
+        peerClient.connectionPool().evictAll();
+    }
+
+    private WeatherResponse fetchFromPeer(String owner, String cityName, Duration timeout)
+            throws WeatherSDKException, IOException {
+        peerCalls.incrementAndGet();
+        HttpUrl url = HttpUrl.get(owner).newBuilder()
+                .encodedPath(PeerServer.PATH)
+                .addQueryParameter(PeerServer.CITY_PARAM, cityName)
+                .build();
+        Call call = peerClient.newCall(new Request.Builder().url(url).get().build());
+        if (timeout != null) {
+            call.timeout().timeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        try (Response response = call.execute()) {
+            byte[] body = response.body() != null ? response.body().bytes() : new byte[0];
+            if (response.isSuccessful()) {
+                return WeatherResponseJson.fromBytes(body);
+            }
+            if (response.code() == HTTP_NOT_FOUND) {
+                throw new CityNotFoundException(cityName);
+            }
+            String upstreamStatus = response.header(PeerServer.UPSTREAM_STATUS_HEADER);
+            if (upstreamStatus != null) {
+                throw new APIException("API request failed with status " + upstreamStatus + " at peer " + owner,
+                        Integer.parseInt(upstreamStatus));
+            }
+            throw new WeatherSDKException("Peer " + owner + " failed with status " + response.code());
+        }
+    }
+
+    private void recordPeerFailure(String owner, String cityName, IOException cause) {
+        peerFailures.incrementAndGet();
+        LOGGER.log(Level.WARNING, "Peer " + owner + " unavailable, fetching city locally: " + cityName, cause);
+        upstreamCalls.incrementAndGet();
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.sdk.cluster;
+
+import org.example.sdk.cache.Cache;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local cache of a cluster node: holds the cities the node owns plus replicas of hot cities
+ * owned by peers.
+ * <p>
+ * As in groupcache, a city fetched from its owner is only kept with a fixed probability. A
+ * city read often from this node is fetched often and is therefore replicated after a few
+ * reads, while rarely read cities stay with their owner and do not take local LRU slots.
+ * Reads and all other operations go straight to the wrapped cache, which also provides
+ * thread safety, if any.
+ * </p>
+ */
+final class ClusterCache implements Cache {
+    private final Cache delegate;
+    private final PeerRouter router;
+    private final double hotReplicationRatio;
+
+    ClusterCache(Cache delegate, PeerRouter router, double hotReplicationRatio) {
+        this.delegate = Objects.requireNonNull(delegate, "Cache must not be null");
+        this.router = Objects.requireNonNull(router, "Peer router must not be null");
+        this.hotReplicationRatio = hotReplicationRatio;
+    }
+
+    @Override
+    public WeatherResponse get(String cityName) {
+        return delegate.get(cityName);
+    }
+
+    @Override
+    public WeatherResponse getStale(String cityName) {
+        return delegate.getStale(cityName);
+    }
+
+    @Override
+    public void put(String cityName, WeatherResponse weatherResponse) {
+        if (admit(cityName)) {
+            delegate.put(cityName, weatherResponse);
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String cityName, WeatherResponse weatherResponse) {
+        return admit(cityName) && delegate.putIfAbsent(cityName, weatherResponse);
+    }
+
+    /**
+     * Replicas already held are kept up to date; new ones go through the usual admission.
+     */
+    @Override
+    public void refresh(String cityName, WeatherResponse weatherResponse) {
+        if (delegate.contains(cityName) || admit(cityName)) {
+            delegate.refresh(cityName, weatherResponse);
+        }
+    }
+
+    @Override
+    public boolean contains(String cityName) {
+        return delegate.contains(cityName);
+    }
+
+    @Override
+    public String[] getAllCities() {
+        return delegate.getAllCities();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public void remove(String cityName) {
+        delegate.remove(cityName);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public Forecast getForecast(String cityName) {
+        return delegate.getForecast(cityName);
+    }
+
+    @Override
+    public void putForecast(String cityName, Forecast forecast) {
+        delegate.putForecast(cityName, forecast);
+    }
+
+    @Override
+    public String[] getForecastCities() {
+        return delegate.getForecastCities();
+    }
+
+    @Override
+    public boolean hasActiveExpiration() {
+        return delegate.hasActiveExpiration();
+    }
+
+    @Override
+    public void expireEntries() {
+        delegate.expireEntries();
+    }
+
+    @Override
+    public boolean isRefreshLeader() {
+        return delegate.isRefreshLeader();
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return delegate.isThreadSafe();
+    }
+
+    private boolean admit(String cityName) {
+        return router.isLocal(cityName) || ThreadLocalRandom.current().nextDouble() < hotReplicationRatio;
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.sdk.cluster;
+
+import org.example.sdk.Mode;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.Units;
+import org.example.sdk.cache.Cache;
+import org.example.sdk.client.ApiClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One member of a cluster of SDK instances that share the upstream work for their cities.
+ * <p>
+ * Every city is owned by exactly one node, chosen by consistent hashing over the node
+ * addresses. A node fetches the cities it owns from OpenWeatherMap and caches them; for all
+ * other cities it asks the owner over a small HTTP protocol, so total upstream traffic no
+ * longer grows with the number of nodes. Cities a node reads often from a peer are replicated
+ * into its local cache (see {@link ClusterOptions#getHotReplicationRatio()}).
+ * </p>
+ * <p>
+ * Membership is static and configured by the application: start every node, then pass the
+ * full list of {@link #getAddress() addresses} to {@link #setPeers(Collection)} on each node.
+ * Until then a node owns every city. All nodes must use the same units and upstream
+ * configuration.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public final class ClusterNode implements AutoCloseable {
+    private final PeerServer server;
+    private final PeerRouter router;
+    private final ClusterApiClient apiClient;
+    private final OpenWeatherSDK sdk;
+
+    /**
+     * Start a node with default {@link ClusterOptions}.
+     *
+     * @see #ClusterNode(InetSocketAddress, String, Mode, ApiClient, Cache, Units, ClusterOptions)
+     */
+    public ClusterNode(InetSocketAddress bindAddress, String apiKey, Mode mode, ApiClient upstream, Cache cache,
+                       Units units) throws IOException {
+        this(bindAddress, apiKey, mode, upstream, cache, units, new ClusterOptions());
+    }
+
+    /**
+     * Bind the peer endpoint and create the node's SDK instance.
+     *
+     * @param bindAddress address of the peer endpoint; must be a specific address reachable by the
+     *                    other nodes, not a wildcard such as {@code 0.0.0.0}; port {@code 0} picks
+     *                    a free port
+     * @param apiKey      OpenWeatherMap API key (must not be null or blank)
+     * @param mode        SDK operating mode (must not be null)
+     * @param upstream    client used for the cities this node owns (must not be null)
+     * @param cache       local cache for owned cities and hot replicas (must not be null)
+     * @param units       measurement units of {@code upstream}
+     * @param options     cluster tuning (must not be null)
+     * @throws IOException if the peer endpoint cannot be bound
+     */
+    public ClusterNode(InetSocketAddress bindAddress, String apiKey, Mode mode, ApiClient upstream, Cache cache,
+                       Units units, ClusterOptions options) throws IOException {
+        Objects.requireNonNull(options, "Cluster options must not be null");
+        Objects.requireNonNull(cache, "Cache must not be null");
+        this.server = new PeerServer(bindAddress);
+        try {
+            this.router = new PeerRouter(server.address(), options.getVirtualNodes());
+            this.apiClient = new ClusterApiClient(router, upstream, options.getPeerTimeout());
+            this.sdk = new OpenWeatherSDK(apiKey, mode, apiClient,
+                    new ClusterCache(cache, router, options.getHotReplicationRatio()), units);
+        } catch (RuntimeException e) {
+            server.close();
+            throw e;
+        }
+        server.start(sdk);
+    }
+
+    /**
+     * @return SDK instance of this node; reads are routed to the owning node
+     */
+    public OpenWeatherSDK getSdk() {
+        return sdk;
+    }
+
+    /**
+     * @return base URL of this node's peer endpoint, which identifies the node in the cluster
+     */
+    public String getAddress() {
+        return router.self();
+    }
+
+    /**
+     * Replace the cluster membership. Cities are re-assigned at once; a city whose owner changed
+     * is fetched from the new owner once the local copy, if any, expires.
+     *
+     * @param peerAddresses addresses of all nodes, as returned by {@link #getAddress()};
+     *                      this node is included even if not listed
+     */
+    public void setPeers(Collection<String> peerAddresses) {
+        router.setPeers(peerAddresses);
+    }
+
+    /**
+     * @return addresses of the current members, including this node
+     */
+    public List<String> getPeers() {
+        return router.getPeers();
+    }
+
+    /**
+     * @param cityName city name, as passed to {@link OpenWeatherSDK#getWeather(String)}
+     * @return address of the node that owns the city
+     */
+    public String ownerOf(String cityName) {
+        return router.ownerOf(Objects.requireNonNull(cityName, "City name must not be null").trim());
+    }
+
+    /**
+     * @return calls made to OpenWeatherMap by this node, including fallbacks for unreachable peers
+     */
+    public long getUpstreamCalls() {
+        return apiClient.getUpstreamCalls();
+    }
+
+    /**
+     * @return calls made by this node to other nodes
+     */
+    public long getPeerCalls() {
+        return apiClient.getPeerCalls();
+    }
+
+    /**
+     * @return peer calls that failed and fell back to OpenWeatherMap
+     */
+    public long getPeerFailures() {
+        return apiClient.getPeerFailures();
+    }
+
+    /**
+     * @return requests served by this node to other nodes
+     */
+    public long getPeerRequestsServed() {
+        return server.getRequestCount();
+    }
+
+    /**
+     * Stop the peer endpoint and destroy the node's SDK instance.
+     */
+    @Override
+    public void close() {
+        server.close();
+        sdk.destroy();
+        apiClient.close();
+    }
+}
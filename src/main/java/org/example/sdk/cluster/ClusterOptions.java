@@ -0,0 +1,60 @@
+package org.example.sdk.cluster;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Tuning of a {@link ClusterNode}.
+ */
+public class ClusterOptions {
+    private static final int DEFAULT_VIRTUAL_NODES = 128;
+    private static final double DEFAULT_HOT_REPLICATION_RATIO = 0.1;
+    private static final Duration DEFAULT_PEER_TIMEOUT = Duration.ofSeconds(2);
+
+    private final int virtualNodes;
+    private final double hotReplicationRatio;
+    private final Duration peerTimeout;
+
+    /**
+     * Options with 128 virtual nodes per node, a 10% hot replication ratio and a 2 second peer timeout.
+     */
+    public ClusterOptions() {
+        this(DEFAULT_VIRTUAL_NODES, DEFAULT_HOT_REPLICATION_RATIO, DEFAULT_PEER_TIMEOUT);
+    }
+
+    /**
+     * @param virtualNodes        points per node on the hash ring (must be positive); more points
+     *                            spread cities more evenly
+     * @param hotReplicationRatio probability, between 0 and 1, that a city fetched from its owner is
+     *                            also kept in the local cache; frequently read cities are therefore
+     *                            replicated soon, rarely read ones almost never
+     * @param peerTimeout         time limit for one call to a peer (must be positive)
+     */
+    public ClusterOptions(int virtualNodes, double hotReplicationRatio, Duration peerTimeout) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be greater than zero");
+        }
+        if (!(hotReplicationRatio >= 0 && hotReplicationRatio <= 1)) {
+            throw new IllegalArgumentException("Hot replication ratio must be between 0 and 1");
+        }
+        Objects.requireNonNull(peerTimeout, "Peer timeout must not be null");
+        if (peerTimeout.isNegative() || peerTimeout.isZero()) {
+            throw new IllegalArgumentException("Peer timeout must be positive");
+        }
+        this.virtualNodes = virtualNodes;
+        this.hotReplicationRatio = hotReplicationRatio;
+        this.peerTimeout = peerTimeout;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public double getHotReplicationRatio() {
+        return hotReplicationRatio;
+    }
+
+    public Duration getPeerTimeout() {
+        return peerTimeout;
+    }
+}
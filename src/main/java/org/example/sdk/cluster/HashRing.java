@@ -0,0 +1,98 @@
+package org.example.sdk.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring mapping city names to the node that owns them.
+ * <p>
+ * Every node is placed on the ring at {@code virtualNodes} pseudo-random points; a key belongs
+ * to the first point at or after its own hash. Adding or removing a node therefore only moves
+ * the keys adjacent to that node's points, roughly {@code 1 / nodes} of all keys.
+ * </p>
+ */
+final class HashRing {
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> nodes;
+
+    /**
+     * @param nodes        node identifiers; duplicates are ignored
+     * @param virtualNodes points per node (must be positive)
+     */
+    HashRing(Collection<String> nodes, int virtualNodes) {
+        Objects.requireNonNull(nodes, "Nodes must not be null");
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be greater than zero");
+        }
+        TreeSet<String> distinct = new TreeSet<>(nodes);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("Hash ring needs at least one node");
+        }
+
+        int count = distinct.size() * virtualNodes;
+        long[] hashes = new long[count];
+        String[] hashOwners = new String[count];
+        int i = 0;
+        for (String node : distinct) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                hashes[i] = hash(node + "#" + replica);
+                hashOwners[i] = node;
+                i++;
+            }
+        }
+
+        Integer[] order = new Integer[count];
+        for (int k = 0; k < count; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+        this.points = new long[count];
+        this.owners = new String[count];
+        for (int k = 0; k < count; k++) {
+            points[k] = hashes[order[k]];
+            owners[k] = hashOwners[order[k]];
+        }
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(distinct));
+    }
+
+    /**
+     * @param key city name
+     * @return identifier of the owning node
+     */
+    String ownerOf(String key) {
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    List<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes followed by the MurmurHash3 finalizer, so that
+     * similar names such as {@code City-1} and {@code City-2} land far apart.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
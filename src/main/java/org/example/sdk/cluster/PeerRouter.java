@@ -0,0 +1,68 @@
+package org.example.sdk.cluster;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Current cluster membership as seen by one node, shared by its API client, cache and peer server.
+ */
+final class PeerRouter {
+    private static final ThreadLocal<Boolean> SERVING_PEER = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final String self;
+    private final int virtualNodes;
+    private volatile HashRing ring;
+
+    PeerRouter(String self, int virtualNodes) {
+        this.self = Objects.requireNonNull(self, "Node address must not be null");
+        this.virtualNodes = virtualNodes;
+        this.ring = new HashRing(List.of(self), virtualNodes);
+    }
+
+    String self() {
+        return self;
+    }
+
+    /**
+     * Replace the membership. This node is always a member, whether listed or not.
+     */
+    void setPeers(Collection<String> peers) {
+        Objects.requireNonNull(peers, "Peers must not be null");
+        Set<String> nodes = new LinkedHashSet<>(peers);
+        nodes.add(self);
+        ring = new HashRing(nodes, virtualNodes);
+    }
+
+    List<String> getPeers() {
+        return ring.getNodes();
+    }
+
+    String ownerOf(String cityName) {
+        return ring.ownerOf(cityName);
+    }
+
+    /**
+     * A city is served locally when this node owns it, or when a peer asked for it: the peer
+     * believes this node is the owner, and forwarding again could loop while memberships differ.
+     */
+    boolean isLocal(String cityName) {
+        return SERVING_PEER.get() || self.equals(ring.ownerOf(cityName));
+    }
+
+    static <T, E extends Exception> T servePeer(PeerCall<T, E> call) throws E {
+        SERVING_PEER.set(Boolean.TRUE);
+        try {
+            return call.call();
+        } finally {
+            SERVING_PEER.set(Boolean.FALSE);
+        }
+    }
+
+    @FunctionalInterface
+    interface PeerCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.sdk.cluster;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.exception.APIException;
+import org.example.sdk.exception.CityNotFoundException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.model.WeatherResponseJson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * HTTP endpoint through which peers read cities owned by this node.
+ * <p>
+ * Protocol: {@code GET /peer/weather?city=NAME} answers {@code 200} with the response in the
+ * SDK JSON format, {@code 404} for unknown cities and {@code 502} for other failures, with the
+ * OpenWeatherMap status in the {@value #UPSTREAM_STATUS_HEADER} header when there is one.
+ * Requests are served through the node's SDK, so they share its cache and never fan out to
+ * further peers.
+ * </p>
+ */
+final class PeerServer {
+    static final String PATH = "/peer/weather";
+    static final String CITY_PARAM = "city";
+    static final String UPSTREAM_STATUS_HEADER = "X-Upstream-Status";
+    private static final Logger LOGGER = Logger.getLogger(PeerServer.class.getName());
+    private static final byte[] EMPTY = new byte[0];
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requests = new AtomicLong();
+    private OpenWeatherSDK sdk;
+
+    /**
+     * Bind the server; it accepts requests once {@link #start(OpenWeatherSDK)} is called.
+     * The address doubles as the node identifier that peers connect to, so a wildcard address
+     * such as {@code 0.0.0.0} is rejected.
+     */
+    PeerServer(InetSocketAddress address) throws IOException {
+        Objects.requireNonNull(address, "Address must not be null");
+        if (address.getAddress() != null && address.getAddress().isAnyLocalAddress()) {
+            throw new IllegalArgumentException("Address must be reachable by peers, not a wildcard address: " + address);
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-peer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(address, 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+    }
+
+    void start(OpenWeatherSDK sdk) {
+        this.sdk = Objects.requireNonNull(sdk, "SDK must not be null");
+        server.start();
+    }
+
+    /**
+     * @return base URL of this server, used as the node identifier on the hash ring
+     */
+    String address() {
+        InetSocketAddress bound = server.getAddress();
+        return "http://" + bound.getHostString() + ":" + bound.getPort();
+    }
+
+    long getRequestCount() {
+        return requests.get();
+    }
+
+    void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            String city = queryParameter(exchange.getRequestURI().getRawQuery());
+            if (!"GET".equals(exchange.getRequestMethod()) || city == null || city.isBlank()) {
+                respond(exchange, 400, EMPTY);
+                return;
+            }
+            try {
+                respond(exchange, 200, WeatherResponseJson.toBytes(PeerRouter.servePeer(() -> sdk.getWeather(city))));
+            } catch (CityNotFoundException e) {
+                respond(exchange, 404, EMPTY);
+            } catch (APIException e) {
+                exchange.getResponseHeaders().set(UPSTREAM_STATUS_HEADER, Integer.toString(e.getStatusCode()));
+                respond(exchange, 502, EMPTY);
+            } catch (WeatherSDKException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Failed to serve peer request for city: " + city, e);
+                respond(exchange, 502, EMPTY);
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body.length > 0) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String queryParameter(String rawQuery) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(CITY_PARAM)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.sdk.exception;
+
+/**
+ * Exception thrown when an upstream request is shed because the adaptive concurrency limit is reached.
+ * <p>
+ * No request was sent to the API, so retrying later is safe.
+ * </p>
+ */
+public class ConcurrencyLimitExceededException extends WeatherSDKException {
+    private final int limit;
+
+    /**
+     * Creates a new ConcurrencyLimitExceededException.
+     *
+     * @param message error message
+     * @param limit   concurrency limit in force when the request was rejected
+     */
+    public ConcurrencyLimitExceededException(String message, int limit) {
+        super(message);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the concurrency limit in force when the request was rejected.
+     *
+     * @return concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.sdk.exception;
+
+/**
+ * Exception thrown when an {@link org.example.sdk.client.ApiClient} does not implement a requested
+ * feature, such as forecasts.
+ * <p>
+ * No request was sent to the API, and retrying with the same client fails the same way.
+ * </p>
+ */
+public class UnsupportedFeatureException extends WeatherSDKException {
+    /**
+     * Creates a new UnsupportedFeatureException.
+     *
+     * @param message error message
+     */
+    public UnsupportedFeatureException(String message) {
+        super(message);
+    }
+}
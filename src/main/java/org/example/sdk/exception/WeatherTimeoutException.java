@@ -0,0 +1,28 @@
+package org.example.sdk.exception;
+
+/**
+ * Exception thrown when a weather lookup does not complete before its deadline.
+ * <p>
+ * The underlying HTTP call has been cancelled by the time this exception is thrown.
+ * </p>
+ */
+public class WeatherTimeoutException extends WeatherSDKException {
+    /**
+     * Creates a new WeatherTimeoutException with the specified message.
+     *
+     * @param message error message
+     */
+    public WeatherTimeoutException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new WeatherTimeoutException with the specified message and cause.
+     *
+     * @param message error message
+     * @param cause   the cause of this exception
+     */
+    public WeatherTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
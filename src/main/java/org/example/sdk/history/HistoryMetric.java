@@ -0,0 +1,36 @@
+package org.example.sdk.history;
+
+import org.example.sdk.model.WeatherResponse;
+
+/**
+ * Numeric observation fields tracked by {@link ObservationHistory} and indexed by
+ * {@link org.example.sdk.cache.IndexedWeatherCache}.
+ */
+public enum HistoryMetric {
+    TEMPERATURE,
+    FEELS_LIKE,
+    WIND_SPEED,
+    VISIBILITY;
+
+    /**
+     * @return the value of this metric in the response, or {@link Double#NaN} if absent
+     */
+    public double extract(WeatherResponse response) {
+        Double value = null;
+        switch (this) {
+            case TEMPERATURE:
+                value = response.getTemperature() == null ? null : response.getTemperature().getTemp();
+                break;
+            case FEELS_LIKE:
+                value = response.getTemperature() == null ? null : response.getTemperature().getFeelsLike();
+                break;
+            case WIND_SPEED:
+                value = response.getWind() == null ? null : response.getWind().getSpeed();
+                break;
+            case VISIBILITY:
+                value = response.getVisibility() == null ? null : response.getVisibility().doubleValue();
+                break;
+        }
+        return value == null ? Double.NaN : value;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.sdk.history;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sizing of the per-city observation history.
+ */
+public class HistoryOptions {
+    private static final int DEFAULT_CAPACITY = 288;
+    private static final int DEFAULT_MAX_CITIES = 1000;
+    private static final List<Duration> DEFAULT_WINDOWS = List.of(
+            Duration.ofHours(1), Duration.ofHours(6), Duration.ofHours(24));
+
+    private final int capacity;
+    private final int maxCities;
+    private final List<Duration> windows;
+
+    /**
+     * Keep 288 observations per city (24 hours at the 5 minute polling interval) for up to
+     * 1000 cities, with incremental 1, 6 and 24 hour windows.
+     */
+    public HistoryOptions() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_CITIES, DEFAULT_WINDOWS);
+    }
+
+    /**
+     * @param capacity  observations kept per city (must be positive)
+     * @param maxCities cities with history; the least recently updated city is dropped beyond this (must be positive)
+     * @param windows   sliding windows whose aggregates are maintained incrementally (must be positive)
+     */
+    public HistoryOptions(int capacity, int maxCities, List<Duration> windows) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+        if (maxCities <= 0) {
+            throw new IllegalArgumentException("Max cities must be greater than zero");
+        }
+        Objects.requireNonNull(windows, "Windows must not be null");
+        for (Duration window : windows) {
+            Objects.requireNonNull(window, "Window must not be null");
+            if (window.getSeconds() <= 0) {
+                throw new IllegalArgumentException("Window must be at least one second");
+            }
+        }
+        this.capacity = capacity;
+        this.maxCities = maxCities;
+        this.windows = List.copyOf(windows);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxCities() {
+        return maxCities;
+    }
+
+    public List<Duration> getWindows() {
+        return windows;
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.sdk.history;
+
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded observation history of a single city.
+ * <p>
+ * Observations are stored in primitive ring buffers, one per {@link HistoryMetric}, and only
+ * the newest {@code capacity} are kept. Aggregates for the windows configured in
+ * {@link HistoryOptions} are updated incrementally on every new observation, so reading them is
+ * O(1); other windows are computed by scanning the buffer. All windows end at the newest
+ * observation, not at the current time.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public final class ObservationHistory {
+    private static final HistoryMetric[] METRICS = HistoryMetric.values();
+
+    private final int capacity;
+    private final long[] timestamps;
+    private final double[][] values;
+    private final SlidingWindow[][] windows;
+    private long nextSeq;
+
+    ObservationHistory(int capacity, List<Duration> windowLengths) {
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.values = new double[METRICS.length][capacity];
+        this.windows = new SlidingWindow[METRICS.length][windowLengths.size()];
+        for (HistoryMetric metric : METRICS) {
+            for (int w = 0; w < windowLengths.size(); w++) {
+                windows[metric.ordinal()][w] = new SlidingWindow(windowLengths.get(w), timestamps, values[metric.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * Append an observation unless it is not newer than the latest one, which happens when the
+     * same upstream observation is fetched again.
+     *
+     * @param observedAt observation time in Unix seconds
+     * @param response   observation
+     * @return {@code true} if the observation was appended
+     */
+    synchronized boolean record(long observedAt, WeatherResponse response) {
+        if (nextSeq > 0 && observedAt <= timestamps[slot(nextSeq - 1)]) {
+            return false;
+        }
+        long seq = nextSeq;
+        for (SlidingWindow[] metricWindows : windows) {
+            for (SlidingWindow window : metricWindows) {
+                window.beforeWrite(seq);
+            }
+        }
+        int slot = slot(seq);
+        timestamps[slot] = observedAt;
+        for (HistoryMetric metric : METRICS) {
+            values[metric.ordinal()][slot] = metric.extract(response);
+        }
+        nextSeq = seq + 1;
+        for (SlidingWindow[] metricWindows : windows) {
+            for (SlidingWindow window : metricWindows) {
+                window.afterWrite(seq);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return number of stored observations
+     */
+    public synchronized int size() {
+        return (int) Math.min(nextSeq, capacity);
+    }
+
+    /**
+     * @return observation time of the newest observation in Unix seconds, or {@code 0} if empty
+     */
+    public synchronized long getLatestTimestamp() {
+        return nextSeq == 0 ? 0 : timestamps[slot(nextSeq - 1)];
+    }
+
+    /**
+     * Aggregates of the metric over the window ending at the newest observation.
+     *
+     * @param metric tracked metric
+     * @param window window length (at least one second)
+     * @return window aggregates; empty with {@code NaN} values when there is no data
+     */
+    public synchronized WindowStats getStats(HistoryMetric metric, Duration window) {
+        Objects.requireNonNull(metric, "Metric must not be null");
+        Objects.requireNonNull(window, "Window must not be null");
+        if (window.getSeconds() <= 0) {
+            throw new IllegalArgumentException("Window must be at least one second");
+        }
+        for (SlidingWindow tracked : windows[metric.ordinal()]) {
+            if (tracked.getWindow().equals(window)) {
+                return tracked.snapshot();
+            }
+        }
+        return scan(metric, window);
+    }
+
+    /**
+     * Copy of the stored values of a metric, oldest first.
+     *
+     * @param metric tracked metric
+     * @return values aligned with {@link #getTimestamps()}
+     */
+    public synchronized double[] getValues(HistoryMetric metric) {
+        Objects.requireNonNull(metric, "Metric must not be null");
+        double[] column = values[metric.ordinal()];
+        double[] copy = new double[size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = column[slot(nextSeq - copy.length + i)];
+        }
+        return copy;
+    }
+
+    /**
+     * @return observation times in Unix seconds, oldest first
+     */
+    public synchronized long[] getTimestamps() {
+        long[] copy = new long[size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = timestamps[slot(nextSeq - copy.length + i)];
+        }
+        return copy;
+    }
+
+    private WindowStats scan(HistoryMetric metric, Duration window) {
+        if (nextSeq == 0) {
+            return WindowStats.empty(window);
+        }
+        double[] column = values[metric.ordinal()];
+        long cutoff = timestamps[slot(nextSeq - 1)] - window.getSeconds();
+        long oldest = Math.max(0, nextSeq - capacity);
+
+        int count = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double sum = 0;
+        double first = Double.NaN;
+        double last = Double.NaN;
+        long firstTimestamp = 0;
+        long lastTimestamp = 0;
+        for (long seq = nextSeq - 1; seq >= oldest && timestamps[slot(seq)] > cutoff; seq--) {
+            double value = column[slot(seq)];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            if (count == 0) {
+                last = value;
+                lastTimestamp = timestamps[slot(seq)];
+            }
+            first = value;
+            firstTimestamp = timestamps[slot(seq)];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+            count++;
+        }
+        if (count == 0) {
+            return WindowStats.empty(window);
+        }
+        return new WindowStats(window, count, min, max, sum / count, first, last, firstTimestamp, lastTimestamp);
+    }
+
+    private int slot(long seq) {
+        return (int) (seq % capacity);
+    }
+}
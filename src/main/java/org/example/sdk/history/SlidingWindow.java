@@ -0,0 +1,125 @@
+package org.example.sdk.history;
+
+import java.time.Duration;
+
+/**
+ * Incremental min, max and mean of one metric over a time window of a ring buffer.
+ * <p>
+ * Samples are addressed by sequence number; the owning buffer stores them at
+ * {@code seq % capacity}. Minimum and maximum are tracked with monotonic deques of sequence
+ * numbers, so adding and expiring a sample is amortised O(1). Missing values ({@code NaN})
+ * occupy a position in the window but do not contribute to the aggregates.
+ * </p>
+ */
+final class SlidingWindow {
+    private final Duration window;
+    private final long lengthSeconds;
+    private final long[] timestamps;
+    private final double[] values;
+    private final int capacity;
+    private final long[] minDeque;
+    private final long[] maxDeque;
+    private int minHead;
+    private int minSize;
+    private int maxHead;
+    private int maxSize;
+    private long startSeq;
+    private long endSeq;
+    private double sum;
+    private int count;
+
+    SlidingWindow(Duration window, long[] timestamps, double[] values) {
+        this.window = window;
+        this.lengthSeconds = window.getSeconds();
+        this.timestamps = timestamps;
+        this.values = values;
+        this.capacity = timestamps.length;
+        this.minDeque = new long[capacity];
+        this.maxDeque = new long[capacity];
+    }
+
+    Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Drop samples whose slot is about to be overwritten by {@code seq}. Must be called before
+     * the buffer slot is written.
+     */
+    void beforeWrite(long seq) {
+        while (startSeq < endSeq && startSeq <= seq - capacity) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * Include the sample just written at {@code seq} and expire samples that fell out of the window.
+     */
+    void afterWrite(long seq) {
+        double value = values[slot(seq)];
+        endSeq = seq + 1;
+        if (!Double.isNaN(value)) {
+            while (minSize > 0 && values[slot(peekLast(minDeque, minHead, minSize))] >= value) {
+                minSize--;
+            }
+            minDeque[(minHead + minSize++) % capacity] = seq;
+            while (maxSize > 0 && values[slot(peekLast(maxDeque, maxHead, maxSize))] <= value) {
+                maxSize--;
+            }
+            maxDeque[(maxHead + maxSize++) % capacity] = seq;
+            sum += value;
+            count++;
+        }
+
+        long cutoff = timestamps[slot(seq)] - lengthSeconds;
+        while (startSeq < endSeq && timestamps[slot(startSeq)] <= cutoff) {
+            evictOldest();
+        }
+    }
+
+    WindowStats snapshot() {
+        if (count == 0) {
+            return WindowStats.empty(window);
+        }
+        long first = startSeq;
+        while (Double.isNaN(values[slot(first)])) {
+            first++;
+        }
+        long last = endSeq - 1;
+        while (Double.isNaN(values[slot(last)])) {
+            last--;
+        }
+        return new WindowStats(window, count,
+                values[slot(minDeque[minHead])], values[slot(maxDeque[maxHead])], sum / count,
+                values[slot(first)], values[slot(last)], timestamps[slot(first)], timestamps[slot(last)]);
+    }
+
+    private void evictOldest() {
+        long seq = startSeq++;
+        double value = values[slot(seq)];
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (--count == 0) {
+            sum = 0;
+        } else {
+            sum -= value;
+        }
+        if (minSize > 0 && minDeque[minHead] == seq) {
+            minHead = (minHead + 1) % capacity;
+            minSize--;
+        }
+        if (maxSize > 0 && maxDeque[maxHead] == seq) {
+            maxHead = (maxHead + 1) % capacity;
+            maxSize--;
+        }
+    }
+
+    private long peekLast(long[] deque, int head, int size) {
+        return deque[(head + size - 1) % capacity];
+    }
+
+    private int slot(long seq) {
+        return (int) (seq % capacity);
+    }
+}
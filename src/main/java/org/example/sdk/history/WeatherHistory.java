@@ -0,0 +1,89 @@
+package org.example.sdk.history;
+
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Observation histories of all cities seen by an SDK instance.
+ * <p>
+ * Holds at most {@link HistoryOptions#getMaxCities()} histories; the city updated least
+ * recently is dropped first. Observations are keyed by their upstream timestamp ({@code dt}),
+ * so refreshes that return the same observation are not recorded twice.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is thread-safe.
+ * </p>
+ */
+public class WeatherHistory {
+    private final HistoryOptions options;
+    private final Clock clock;
+    private final Map<String, ObservationHistory> histories;
+
+    public WeatherHistory(HistoryOptions options) {
+        this(options, Clock.systemUTC());
+    }
+
+    WeatherHistory(HistoryOptions options, Clock clock) {
+        this.options = Objects.requireNonNull(options, "History options must not be null");
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+        this.histories = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ObservationHistory> eldest) {
+                return size() > WeatherHistory.this.options.getMaxCities();
+            }
+        };
+    }
+
+    /**
+     * Record an observation for the city.
+     *
+     * @param cityName city identifier
+     * @param response fetched observation; its {@code dt} is used as the observation time,
+     *                 falling back to the current time when absent
+     * @return {@code true} if the observation was new
+     */
+    public boolean record(String cityName, WeatherResponse response) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        Objects.requireNonNull(response, "WeatherResponse must not be null");
+        long observedAt = response.getDatetime() != null ? response.getDatetime() : clock.millis() / 1000;
+        ObservationHistory history;
+        synchronized (histories) {
+            history = histories.computeIfAbsent(cityName,
+                    city -> new ObservationHistory(options.getCapacity(), options.getWindows()));
+        }
+        return history.record(observedAt, response);
+    }
+
+    /**
+     * @param cityName city identifier
+     * @return history of the city, or {@code null} if none has been recorded
+     */
+    public ObservationHistory get(String cityName) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        synchronized (histories) {
+            return histories.get(cityName);
+        }
+    }
+
+    /**
+     * Drop the history of the city.
+     */
+    public void remove(String cityName) {
+        synchronized (histories) {
+            histories.remove(cityName);
+        }
+    }
+
+    /**
+     * @return number of cities with history
+     */
+    public int size() {
+        synchronized (histories) {
+            return histories.size();
+        }
+    }
+}
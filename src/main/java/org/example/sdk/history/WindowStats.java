@@ -0,0 +1,135 @@
+package org.example.sdk.history;
+
+import java.time.Duration;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Aggregates of one metric over a time window ending at the latest observation.
+ */
+public final class WindowStats {
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final Duration window;
+    private final int count;
+    private final double min;
+    private final double max;
+    private final double mean;
+    private final double first;
+    private final double last;
+    private final long firstTimestamp;
+    private final long lastTimestamp;
+
+    WindowStats(Duration window, int count, double min, double max, double mean,
+                double first, double last, long firstTimestamp, long lastTimestamp) {
+        this.window = window;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.first = first;
+        this.last = last;
+        this.firstTimestamp = firstTimestamp;
+        this.lastTimestamp = lastTimestamp;
+    }
+
+    /**
+     * @param window window length
+     * @return aggregates of a window without observations
+     */
+    public static WindowStats empty(Duration window) {
+        return new WindowStats(window, 0, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, 0, 0);
+    }
+
+    /**
+     * Apply a monotonically increasing conversion, such as a unit conversion, to every value.
+     *
+     * @param conversion value conversion
+     * @return converted aggregates
+     */
+    public WindowStats map(DoubleUnaryOperator conversion) {
+        return new WindowStats(window, count, conversion.applyAsDouble(min), conversion.applyAsDouble(max),
+                conversion.applyAsDouble(mean), conversion.applyAsDouble(first), conversion.applyAsDouble(last),
+                firstTimestamp, lastTimestamp);
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * @return observations with a value for the metric inside the window
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return oldest value inside the window
+     */
+    public double getFirst() {
+        return first;
+    }
+
+    /**
+     * @return newest value inside the window
+     */
+    public double getLast() {
+        return last;
+    }
+
+    /**
+     * @return observation time of {@link #getFirst()} in Unix seconds
+     */
+    public long getFirstTimestamp() {
+        return firstTimestamp;
+    }
+
+    /**
+     * @return observation time of {@link #getLast()} in Unix seconds
+     */
+    public long getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /**
+     * @return difference between the newest and the oldest value, or {@code NaN} without data
+     */
+    public double getChange() {
+        return last - first;
+    }
+
+    /**
+     * @return average rate of change per hour across the window, or {@code NaN} with fewer than
+     * two observations at different times
+     */
+    public double getChangePerHour() {
+        if (count < 2 || lastTimestamp == firstTimestamp) {
+            return Double.NaN;
+        }
+        return getChange() * SECONDS_PER_HOUR / (lastTimestamp - firstTimestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "WindowStats{" +
+                "window=" + window +
+                ", count=" + count +
+                ", min=" + min +
+                ", max=" + max +
+                ", mean=" + mean +
+                ", changePerHour=" + getChangePerHour() +
+                '}';
+    }
+}
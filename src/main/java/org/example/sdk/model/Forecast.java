@@ -0,0 +1,184 @@
+package org.example.sdk.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 5-day forecast in 3-hour steps for a single city, stored column by column.
+ * <p>
+ * Each measured value is kept in a primitive array indexed by time step instead of one object
+ * graph per step, and condition texts are deduplicated into a small dictionary. All accessors
+ * take a step index and return primitives or shared strings, so reading a forecast does not
+ * allocate. Unknown values are reported as {@link Double#NaN}, or {@code -1} for visibility.
+ * </p>
+ * <p>
+ * Instances are immutable and safe to share between threads.
+ * </p>
+ */
+public final class Forecast {
+    private final String cityName;
+    private final int timezone;
+    private final long[] timestamps;
+    private final double[] temperatures;
+    private final double[] feelsLike;
+    private final double[] windSpeeds;
+    private final double[] precipitationProbabilities;
+    private final int[] visibilities;
+    private final short[] conditionCodes;
+    private final short[] descriptionCodes;
+    private final String[] dictionary;
+
+    /**
+     * Create a forecast from per-step columns. All arrays must have the same length and
+     * timestamps must be in ascending order; the arrays are copied.
+     *
+     * @param cityName                   city name reported by the API
+     * @param timezone                   shift from UTC in seconds
+     * @param timestamps                 step times in Unix seconds, ascending
+     * @param temperatures               temperature per step
+     * @param feelsLike                  perceived temperature per step
+     * @param windSpeeds                 wind speed per step
+     * @param precipitationProbabilities probability of precipitation per step, 0 to 1
+     * @param visibilities               visibility in meters per step, {@code -1} if unknown
+     * @param conditions                 main condition per step, e.g. "Rain"; may contain {@code null}
+     * @param descriptions               condition description per step; may contain {@code null}
+     */
+    public Forecast(String cityName, int timezone, long[] timestamps, double[] temperatures, double[] feelsLike,
+                    double[] windSpeeds, double[] precipitationProbabilities, int[] visibilities,
+                    String[] conditions, String[] descriptions) {
+        this.cityName = cityName;
+        this.timezone = timezone;
+        this.timestamps = Objects.requireNonNull(timestamps, "Timestamps must not be null").clone();
+        int size = timestamps.length;
+        this.temperatures = column(temperatures, size, "Temperatures");
+        this.feelsLike = column(feelsLike, size, "Feels-like temperatures");
+        this.windSpeeds = column(windSpeeds, size, "Wind speeds");
+        this.precipitationProbabilities = column(precipitationProbabilities, size, "Precipitation probabilities");
+        this.visibilities = Objects.requireNonNull(visibilities, "Visibilities must not be null").clone();
+        checkLength(visibilities.length, size, "Visibilities");
+        Objects.requireNonNull(conditions, "Conditions must not be null");
+        Objects.requireNonNull(descriptions, "Descriptions must not be null");
+        checkLength(conditions.length, size, "Conditions");
+        checkLength(descriptions.length, size, "Descriptions");
+        for (int i = 1; i < size; i++) {
+            if (timestamps[i] < timestamps[i - 1]) {
+                throw new IllegalArgumentException("Timestamps must be in ascending order");
+            }
+        }
+
+        Map<String, Short> codes = new HashMap<>();
+        this.conditionCodes = encode(conditions, codes);
+        this.descriptionCodes = encode(descriptions, codes);
+        this.dictionary = new String[codes.size() + 1];
+        codes.forEach((text, code) -> dictionary[code] = text);
+    }
+
+    public String getCityName() {
+        return cityName;
+    }
+
+    /**
+     * @return shift from UTC in seconds
+     */
+    public int getTimezone() {
+        return timezone;
+    }
+
+    /**
+     * @return number of time steps
+     */
+    public int size() {
+        return timestamps.length;
+    }
+
+    /**
+     * @return start of the step in Unix seconds
+     */
+    public long getTimestamp(int step) {
+        return timestamps[step];
+    }
+
+    public double getTemperature(int step) {
+        return temperatures[step];
+    }
+
+    public double getFeelsLike(int step) {
+        return feelsLike[step];
+    }
+
+    public double getWindSpeed(int step) {
+        return windSpeeds[step];
+    }
+
+    /**
+     * @return probability of precipitation between 0 and 1
+     */
+    public double getPrecipitationProbability(int step) {
+        return precipitationProbabilities[step];
+    }
+
+    /**
+     * @return visibility in meters, or {@code -1} if unknown
+     */
+    public int getVisibility(int step) {
+        return visibilities[step];
+    }
+
+    /**
+     * @return main weather condition, e.g. "Rain", or {@code null} if unknown
+     */
+    public String getCondition(int step) {
+        return dictionary[conditionCodes[step]];
+    }
+
+    /**
+     * @return weather condition description, or {@code null} if unknown
+     */
+    public String getDescription(int step) {
+        return dictionary[descriptionCodes[step]];
+    }
+
+    /**
+     * Find the step covering the given time.
+     *
+     * @param epochSecond time in Unix seconds
+     * @return index of the last step starting at or before the time, or {@code -1} if the time
+     * precedes the first step
+     */
+    public int stepAt(long epochSecond) {
+        int index = Arrays.binarySearch(timestamps, epochSecond);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static double[] column(double[] values, int size, String name) {
+        Objects.requireNonNull(values, name + " must not be null");
+        checkLength(values.length, size, name);
+        return values.clone();
+    }
+
+    private static void checkLength(int length, int expected, String name) {
+        if (length != expected) {
+            throw new IllegalArgumentException(name + " must have " + expected + " elements");
+        }
+    }
+
+    private static short[] encode(String[] values, Map<String, Short> codes) {
+        short[] encoded = new short[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                encoded[i] = codes.computeIfAbsent(values[i], text -> (short) (codes.size() + 1));
+            }
+        }
+        return encoded;
+    }
+
+    @Override
+    public String toString() {
+        return "Forecast{" +
+                "cityName='" + cityName + '\'' +
+                ", steps=" + timestamps.length +
+                '}';
+    }
+}
@@ -5,6 +5,14 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
 
+/**
+ * Jackson binding of the raw OpenWeatherMap current-weather payload.
+ *
+ * @deprecated no longer used by the SDK, which reads the payload with a streaming parser straight
+ * into {@link WeatherResponse}; map the payload with your own binding if you need the raw form.
+ * This class will be removed in a future release.
+ */
+@Deprecated(forRemoval = true)
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class OpenWeatherMapResponse {
     @JsonProperty("weather")
@@ -0,0 +1,270 @@
+package org.example.sdk.model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Reflection-free reader and writer for the SDK's {@link WeatherResponse} JSON format.
+ * <p>
+ * Produces the same document as serializing the model with a Jackson {@code ObjectMapper},
+ * but with hand-written streaming code, so no data-binding metadata has to be built before the
+ * first call.
+ * </p>
+ */
+public final class WeatherResponseJson {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private WeatherResponseJson() {
+    }
+
+    /**
+     * @param response response to serialize
+     * @return JSON document
+     */
+    public static String toJson(WeatherResponse response) throws IOException {
+        Objects.requireNonNull(response, "WeatherResponse must not be null");
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            write(response, generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * @param response response to serialize
+     * @return UTF-8 encoded JSON document
+     */
+    public static byte[] toBytes(WeatherResponse response) throws IOException {
+        Objects.requireNonNull(response, "WeatherResponse must not be null");
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            write(response, generator);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param json UTF-8 encoded JSON document in the SDK format
+     * @return parsed response
+     */
+    public static WeatherResponse fromBytes(byte[] json) throws IOException {
+        Objects.requireNonNull(json, "JSON must not be null");
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * @param json JSON document in the SDK format
+     * @return parsed response
+     */
+    public static WeatherResponse fromJson(String json) throws IOException {
+        Objects.requireNonNull(json, "JSON must not be null");
+        try (JsonParser parser = JSON_FACTORY.createParser(json.getBytes(StandardCharsets.UTF_8))) {
+            return read(parser);
+        }
+    }
+
+    private static void write(WeatherResponse response, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeFieldName("weather");
+        WeatherInfo weather = response.getWeather();
+        if (weather == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            writeString(generator, "main", weather.getMain());
+            writeString(generator, "description", weather.getDescription());
+            generator.writeEndObject();
+        }
+
+        generator.writeFieldName("temperature");
+        Temperature temperature = response.getTemperature();
+        if (temperature == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            writeNumber(generator, "temp", temperature.getTemp());
+            writeNumber(generator, "feels_like", temperature.getFeelsLike());
+            generator.writeEndObject();
+        }
+
+        writeNumber(generator, "visibility", response.getVisibility());
+
+        generator.writeFieldName("wind");
+        Wind wind = response.getWind();
+        if (wind == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            writeNumber(generator, "speed", wind.getSpeed());
+            generator.writeEndObject();
+        }
+
+        writeNumber(generator, "datetime", response.getDatetime());
+
+        generator.writeFieldName("sys");
+        Sys sys = response.getSys();
+        if (sys == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            writeNumber(generator, "sunrise", sys.getSunrise());
+            writeNumber(generator, "sunset", sys.getSunset());
+            generator.writeEndObject();
+        }
+
+        writeNumber(generator, "timezone", response.getTimezone());
+        writeString(generator, "name", response.getName());
+        generator.writeEndObject();
+    }
+
+    private static WeatherResponse read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object");
+        }
+        WeatherResponse response = new WeatherResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "weather":
+                    response.setWeather(readWeatherInfo(parser));
+                    break;
+                case "temperature":
+                    response.setTemperature(readTemperature(parser));
+                    break;
+                case "visibility":
+                    response.setVisibility(parser.getValueAsInt());
+                    break;
+                case "wind":
+                    response.setWind(readWind(parser));
+                    break;
+                case "datetime":
+                    response.setDatetime(parser.getValueAsLong());
+                    break;
+                case "sys":
+                    response.setSys(readSys(parser));
+                    break;
+                case "timezone":
+                    response.setTimezone(parser.getValueAsInt());
+                    break;
+                case "name":
+                    response.setName(parser.getValueAsString());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    private static WeatherInfo readWeatherInfo(JsonParser parser) throws IOException {
+        WeatherInfo info = new WeatherInfo();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            String text = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+            if ("main".equals(field)) {
+                info.setMain(text);
+            } else if ("description".equals(field)) {
+                info.setDescription(text);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return info;
+    }
+
+    private static Temperature readTemperature(JsonParser parser) throws IOException {
+        Temperature temperature = new Temperature();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            Double number = value == JsonToken.VALUE_NULL ? null : parser.getValueAsDouble();
+            if ("temp".equals(field)) {
+                temperature.setTemp(number);
+            } else if ("feels_like".equals(field)) {
+                temperature.setFeelsLike(number);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return temperature;
+    }
+
+    private static Wind readWind(JsonParser parser) throws IOException {
+        Wind wind = new Wind();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("speed".equals(field)) {
+                wind.setSpeed(value == JsonToken.VALUE_NULL ? null : parser.getValueAsDouble());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return wind;
+    }
+
+    private static Sys readSys(JsonParser parser) throws IOException {
+        Sys sys = new Sys();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            Long number = value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+            if ("sunrise".equals(field)) {
+                sys.setSunrise(number);
+            } else if ("sunset".equals(field)) {
+                sys.setSunset(number);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return sys;
+    }
+
+    private static void writeString(JsonGenerator generator, String field, String value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+}
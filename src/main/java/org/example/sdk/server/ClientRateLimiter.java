@@ -0,0 +1,85 @@
+package org.example.sdk.server;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket per client.
+ * <p>
+ * Each client may make {@code burst} requests at once and then {@code ratePerSecond} requests
+ * per second. Buckets of clients that have been idle long enough to refill completely carry no
+ * state worth keeping and are dropped once {@value #MAX_CLIENTS} clients are tracked. When that
+ * many clients are all active, new clients share one overflow bucket, so the table never grows
+ * beyond the cap however many identities clients present.
+ * </p>
+ */
+final class ClientRateLimiter {
+    private static final int MAX_CLIENTS = 10_000;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final double tokensPerNano;
+    private final double burst;
+    private final long refillNanos;
+    private final Bucket overflow;
+
+    ClientRateLimiter(double ratePerSecond, int burst) {
+        this.tokensPerNano = ratePerSecond / 1e9;
+        this.burst = burst;
+        this.refillNanos = (long) Math.ceil(burst / tokensPerNano);
+        this.overflow = new Bucket(burst, System.nanoTime());
+    }
+
+    /**
+     * Take one token for the client.
+     *
+     * @return {@code 0} if the request may proceed, otherwise nanoseconds until a token is available
+     */
+    long tryAcquire(String clientId) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(clientId);
+        if (bucket == null) {
+            if (buckets.size() >= MAX_CLIENTS) {
+                evictIdle(now);
+                if (buckets.size() >= MAX_CLIENTS) {
+                    return overflow.tryAcquire(now);
+                }
+            }
+            bucket = buckets.computeIfAbsent(clientId, id -> new Bucket(burst, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    private void evictIdle(long now) {
+        for (Iterator<Bucket> it = buckets.values().iterator(); it.hasNext(); ) {
+            if (it.next().isIdle(now)) {
+                it.remove();
+            }
+        }
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        private synchronized long tryAcquire(long now) {
+            if (now > updatedAt) {
+                tokens = Math.min(burst, tokens + (now - updatedAt) * tokensPerNano);
+                updatedAt = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+        private synchronized boolean isIdle(long now) {
+            return now - updatedAt >= refillNanos;
+        }
+    }
+}
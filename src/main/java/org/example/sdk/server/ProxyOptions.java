@@ -0,0 +1,118 @@
+package org.example.sdk.server;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Threading, per-client rate limits, request timeout and socket options of a {@link WeatherProxyServer}.
+ */
+public class ProxyOptions {
+    private static final double DEFAULT_REQUESTS_PER_SECOND = 50;
+    private static final int DEFAULT_BURST = 100;
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final int threads;
+    private final double requestsPerSecondPerClient;
+    private final int burstPerClient;
+    private final Duration requestTimeout;
+    private final boolean clientIdHeaderTrusted;
+    private final boolean tcpNoDelay;
+
+    /**
+     * Options with virtual threads where available, 50 requests per second with bursts of 100 per
+     * client, clients identified by IP address and a 5 second request timeout.
+     */
+    public ProxyOptions() {
+        this(0, DEFAULT_REQUESTS_PER_SECOND, DEFAULT_BURST, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * @param threads                    size of the request thread pool; {@code 0} runs every request on
+     *                                   its own virtual thread when the JVM supports them (Java 21+) and
+     *                                   falls back to a pool of four threads per processor, at least 32,
+     *                                   otherwise
+     * @param requestsPerSecondPerClient sustained request rate allowed per client (must be positive)
+     * @param burstPerClient             requests a client may make at once after being idle (must be positive)
+     * @param requestTimeout             time budget of one request, including the upstream call (must be positive)
+     */
+    public ProxyOptions(int threads, double requestsPerSecondPerClient, int burstPerClient, Duration requestTimeout) {
+        this(threads, requestsPerSecondPerClient, burstPerClient, requestTimeout, false);
+    }
+
+    /**
+     * @param threads                    size of the request thread pool; see
+     *                                   {@link #ProxyOptions(int, double, int, Duration)}
+     * @param requestsPerSecondPerClient sustained request rate allowed per client (must be positive)
+     * @param burstPerClient             requests a client may make at once after being idle (must be positive)
+     * @param requestTimeout             time budget of one request, including the upstream call (must be positive)
+     * @param clientIdHeaderTrusted      whether clients are identified by the
+     *                                   {@value WeatherProxyServer#CLIENT_ID_HEADER} header instead of their
+     *                                   IP address; enable only when a trusted gateway sets the header, since
+     *                                   clients can otherwise rotate it to escape their limit
+     */
+    public ProxyOptions(int threads, double requestsPerSecondPerClient, int burstPerClient, Duration requestTimeout,
+                        boolean clientIdHeaderTrusted) {
+        this(threads, requestsPerSecondPerClient, burstPerClient, requestTimeout, clientIdHeaderTrusted, false);
+    }
+
+    /**
+     * @param threads                    size of the request thread pool; see
+     *                                   {@link #ProxyOptions(int, double, int, Duration)}
+     * @param requestsPerSecondPerClient sustained request rate allowed per client (must be positive)
+     * @param burstPerClient             requests a client may make at once after being idle (must be positive)
+     * @param requestTimeout             time budget of one request, including the upstream call (must be positive)
+     * @param clientIdHeaderTrusted      see {@link #ProxyOptions(int, double, int, Duration, boolean)}
+     * @param tcpNoDelay                 whether to disable Nagle's algorithm, which otherwise holds each
+     *                                   response body back until the client's delayed ACK, about 40 ms. The
+     *                                   JDK server only supports this through the JVM-wide
+     *                                   {@code sun.net.httpserver.nodelay} system property, so enabling it sets
+     *                                   that property, unless already set, for every {@code HttpServer} in the
+     *                                   process; it takes effect only if no {@code HttpServer} was created before
+     */
+    public ProxyOptions(int threads, double requestsPerSecondPerClient, int burstPerClient, Duration requestTimeout,
+                        boolean clientIdHeaderTrusted, boolean tcpNoDelay) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Threads must not be negative");
+        }
+        if (!(requestsPerSecondPerClient > 0)) {
+            throw new IllegalArgumentException("Requests per second per client must be greater than zero");
+        }
+        if (burstPerClient <= 0) {
+            throw new IllegalArgumentException("Burst per client must be greater than zero");
+        }
+        Objects.requireNonNull(requestTimeout, "Request timeout must not be null");
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("Request timeout must be positive");
+        }
+        this.threads = threads;
+        this.requestsPerSecondPerClient = requestsPerSecondPerClient;
+        this.burstPerClient = burstPerClient;
+        this.requestTimeout = requestTimeout;
+        this.clientIdHeaderTrusted = clientIdHeaderTrusted;
+        this.tcpNoDelay = tcpNoDelay;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public double getRequestsPerSecondPerClient() {
+        return requestsPerSecondPerClient;
+    }
+
+    public int getBurstPerClient() {
+        return burstPerClient;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public boolean isClientIdHeaderTrusted() {
+        return clientIdHeaderTrusted;
+    }
+
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+}
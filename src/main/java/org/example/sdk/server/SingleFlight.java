@@ -0,0 +1,87 @@
+package org.example.sdk.server;
+
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load, callers arriving
+ * while it is in flight wait for and share its result or failure. A waiting caller gives up when
+ * its own timeout elapses, so a hung load does not hold every caller of the key past theirs.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+final class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    @FunctionalInterface
+    interface Load<V> {
+        V load() throws WeatherSDKException;
+    }
+
+    /**
+     * Run the load, or wait for the one already in flight for the key.
+     *
+     * @param timeout how long to wait for another caller's load; the load itself is not bounded here
+     * @throws WeatherTimeoutException if the timeout elapses while waiting for another caller's load
+     */
+    V execute(K key, Duration timeout, Load<V> load) throws WeatherSDKException {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            shared.increment();
+            return await(existing, timeout);
+        }
+
+        try {
+            V value = load.load();
+            call.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Errors included, so that waiters never block on a load that is over.
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return number of calls answered by another caller's load
+     */
+    long getSharedCount() {
+        return shared.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> call, Duration timeout) throws WeatherSDKException {
+        try {
+            return call.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new WeatherTimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for a coalesced request", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WeatherSDKException("Interrupted while waiting for a coalesced request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof WeatherSDKException) {
+                throw (WeatherSDKException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new WeatherSDKException("Coalesced request failed: " + cause.getMessage(), cause);
+        }
+    }
+}
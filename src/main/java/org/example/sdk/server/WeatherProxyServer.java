@@ -0,0 +1,295 @@
+package org.example.sdk.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.exception.APIException;
+import org.example.sdk.exception.CityNotFoundException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.WeatherResponseJson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Embedded HTTP server that shares one {@link OpenWeatherSDK} instance, its cache and API key
+ * between many client services.
+ * <p>
+ * Endpoint: {@code GET /weather?city=NAME} answers {@code 200} with the response in the SDK
+ * JSON format (see {@link WeatherResponseJson}), {@code 400} for a missing city, {@code 404}
+ * for unknown cities, {@code 429} when the client exceeded its rate limit, {@code 502} for
+ * upstream failures and {@code 504} when the request timeout elapsed without a cached fallback.
+ * </p>
+ * <p>
+ * Cached responses are served as pre-encoded bytes: each response is serialized once and the
+ * bytes are reused until the SDK returns a different response for the city. Concurrent
+ * requests for a city that is not cached are coalesced into a single SDK call. Clients are
+ * identified by their IP address, or by the {@value #CLIENT_ID_HEADER} header when
+ * {@link ProxyOptions#isClientIdHeaderTrusted()} is set, and are rate limited with a token
+ * bucket each.
+ * </p>
+ * <p>
+ * Responses are delayed by about 40 ms by Nagle's algorithm unless
+ * {@link ProxyOptions#isTcpNoDelay()} is set or the application sets the
+ * {@code sun.net.httpserver.nodelay} system property itself.
+ * </p>
+ */
+public final class WeatherProxyServer implements AutoCloseable {
+    public static final String PATH = "/weather";
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final Logger LOGGER = Logger.getLogger(WeatherProxyServer.class.getName());
+    private static final String CITY_PARAM = "city";
+    private static final int MAX_ENCODED_CITIES = 10_000;
+    private static final int BACKLOG = 1024;
+    private static final int MIN_POOL_THREADS = 32;
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final byte[] BAD_REQUEST = error(400, "city parameter is required");
+    private static final byte[] NOT_FOUND = error(404, "city not found");
+    private static final byte[] METHOD_NOT_ALLOWED = error(405, "method not allowed");
+    private static final byte[] TOO_MANY_REQUESTS = error(429, "too many requests");
+    private static final byte[] BAD_GATEWAY = error(502, "upstream request failed");
+    private static final byte[] GATEWAY_TIMEOUT = error(504, "upstream request timed out");
+
+    private final OpenWeatherSDK sdk;
+    private final Duration requestTimeout;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ClientRateLimiter rateLimiter;
+    private final boolean clientIdHeaderTrusted;
+    private final SingleFlight<String, WeatherResponse> flights = new SingleFlight<>();
+    private final ConcurrentHashMap<String, Encoded> encoded = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Start a server with default {@link ProxyOptions}.
+     */
+    public WeatherProxyServer(OpenWeatherSDK sdk, InetSocketAddress address) throws IOException {
+        this(sdk, address, new ProxyOptions());
+    }
+
+    /**
+     * Bind and start the server.
+     *
+     * @param sdk     SDK instance serving the requests (must not be null); not destroyed by {@link #close()}
+     * @param address listen address; port {@code 0} picks a free port
+     * @param options threading, rate limits and timeout (must not be null)
+     * @throws IOException if the address cannot be bound
+     */
+    public WeatherProxyServer(OpenWeatherSDK sdk, InetSocketAddress address, ProxyOptions options) throws IOException {
+        this.sdk = Objects.requireNonNull(sdk, "SDK must not be null");
+        Objects.requireNonNull(address, "Address must not be null");
+        Objects.requireNonNull(options, "Proxy options must not be null");
+        this.requestTimeout = options.getRequestTimeout();
+        this.rateLimiter = new ClientRateLimiter(options.getRequestsPerSecondPerClient(), options.getBurstPerClient());
+        this.clientIdHeaderTrusted = options.isClientIdHeaderTrusted();
+        if (options.isTcpNoDelay()) {
+            enableNoDelay();
+        }
+        this.executor = newExecutor(options.getThreads());
+        try {
+            this.server = HttpServer.create(address, BACKLOG);
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw e;
+        }
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * @return URL of the weather endpoint, e.g. {@code http://127.0.0.1:8080/weather}
+     */
+    public String getUrl() {
+        InetSocketAddress bound = server.getAddress();
+        return "http://" + bound.getHostString() + ":" + bound.getPort() + PATH;
+    }
+
+    /**
+     * @return requests received, including rejected ones
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return requests rejected by the per-client rate limit
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return requests that shared another request's in-flight SDK call
+     */
+    public long getCoalescedCount() {
+        return flights.getSharedCount();
+    }
+
+    /**
+     * Stop accepting requests and release the request threads. The SDK instance is left running.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, METHOD_NOT_ALLOWED);
+                return;
+            }
+            long waitNanos = rateLimiter.tryAcquire(clientId(exchange));
+            if (waitNanos > 0) {
+                rejected.increment();
+                long retryAfterSeconds = (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+                exchange.getResponseHeaders().set("Retry-After", Long.toString(retryAfterSeconds));
+                respond(exchange, 429, TOO_MANY_REQUESTS);
+                return;
+            }
+            String city = queryParameter(exchange.getRequestURI().getRawQuery());
+            if (city == null || city.isBlank()) {
+                respond(exchange, 400, BAD_REQUEST);
+                return;
+            }
+
+            String key = city.trim();
+            try {
+                WeatherResponse response = flights.execute(key, requestTimeout, () -> sdk.getWeather(key, requestTimeout));
+                respond(exchange, 200, encode(key, response));
+            } catch (CityNotFoundException e) {
+                respond(exchange, 404, NOT_FOUND);
+            } catch (WeatherTimeoutException e) {
+                respond(exchange, 504, GATEWAY_TIMEOUT);
+            } catch (APIException e) {
+                LOGGER.log(Level.FINE, "Upstream failed with status " + e.getStatusCode() + " for city: " + key, e);
+                respond(exchange, 502, BAD_GATEWAY);
+            } catch (WeatherSDKException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Failed to serve weather for city: " + key, e);
+                respond(exchange, 502, BAD_GATEWAY);
+            }
+        }
+    }
+
+    private byte[] encode(String city, WeatherResponse response) throws IOException {
+        Encoded current = encoded.get(city);
+        if (current != null && current.response == response) {
+            return current.json;
+        }
+        byte[] json = WeatherResponseJson.toBytes(response);
+        if (current == null && encoded.size() >= MAX_ENCODED_CITIES) {
+            Iterator<String> eldest = encoded.keySet().iterator();
+            if (eldest.hasNext()) {
+                encoded.remove(eldest.next());
+            }
+        }
+        encoded.put(city, new Encoded(response, json));
+        return json;
+    }
+
+    private String clientId(HttpExchange exchange) {
+        if (clientIdHeaderTrusted) {
+            String header = exchange.getRequestHeaders().getFirst(CLIENT_ID_HEADER);
+            if (header != null && !header.isBlank()) {
+                return header;
+            }
+        }
+        return exchange.getRemoteAddress().getAddress().getHostAddress();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String queryParameter(String rawQuery) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(CITY_PARAM)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The JDK server writes headers and body in separate segments; with Nagle's algorithm the body
+     * then waits for the client's delayed ACK. The flag is read once per JVM when the first server
+     * is created, and an explicit setting by the application wins.
+     */
+    private static void enableNoDelay() {
+        String current = System.getProperty(NODELAY_PROPERTY);
+        if (current == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        } else if (!Boolean.parseBoolean(current)) {
+            LOGGER.fine("TCP_NODELAY requested, but " + NODELAY_PROPERTY + " is set to " + current);
+        }
+    }
+
+    private static byte[] error(int status, String message) {
+        return ("{\"cod\":" + status + ",\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Virtual threads on Java 21+, looked up reflectively because the SDK targets Java 17;
+     * a fixed pool of platform threads otherwise. Requests block on upstream calls, so the
+     * default pool is sized well above the number of processors.
+     */
+    private static ExecutorService newExecutor(int threads) {
+        if (threads == 0) {
+            try {
+                return (ExecutorService) MethodHandles.publicLookup()
+                        .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                        .invoke();
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                threads = Math.max(MIN_POOL_THREADS, 4 * Runtime.getRuntime().availableProcessors());
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to create virtual thread executor", e);
+            }
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-proxy-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class Encoded {
+        private final WeatherResponse response;
+        private final byte[] json;
+
+        private Encoded(WeatherResponse response, byte[] json) {
+            this.response = response;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.sdk.subscription;
+
+/**
+ * Handle for an active {@link WeatherListener} registration.
+ */
+public interface Subscription extends AutoCloseable {
+
+    /**
+     * Stop delivering updates to the listener. Safe to call more than once.
+     */
+    void cancel();
+
+    @Override
+    default void close() {
+        cancel();
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.sdk.subscription;
+
+import org.example.sdk.model.WeatherResponse;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Push pipeline fanning out changed observations to subscribers of each city.
+ * <p>
+ * Every fresh upstream response is offered through {@link #publish(String, WeatherResponse)}.
+ * The hub remembers the last published observation per watched city and only emits a
+ * {@link WeatherUpdate} when {@link WeatherChanges#hasChanged} reports a change. Delivery
+ * is asynchronous through a {@link SubmissionPublisher}; updates for a subscriber whose
+ * buffer is full are dropped rather than blocking the publishing thread.
+ * </p>
+ */
+public class SubscriptionHub implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(SubscriptionHub.class.getName());
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * Delivery threads shared by every hub in the JVM, created on first use. Threads are daemons
+     * and idle ones expire, so the pool is never shut down.
+     */
+    private static final class ExecutorHolder {
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "open-weather-sdk-subscriptions");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Register a listener for changes of the given city.
+     *
+     * @param cityName city identifier
+     * @param listener listener to notify
+     * @return handle used to cancel the registration
+     */
+    public Subscription subscribe(String cityName, WeatherListener listener) {
+        Objects.requireNonNull(listener, "Listener must not be null");
+        ListenerSubscriber subscriber = new ListenerSubscriber(listener);
+        subscribe(cityName, subscriber);
+        return subscriber;
+    }
+
+    /**
+     * @param cityName city identifier
+     * @return publisher emitting an update each time the city's observation changes
+     */
+    public Flow.Publisher<WeatherUpdate> publisher(String cityName) {
+        Objects.requireNonNull(cityName, "City name must not be null");
+        return subscriber -> subscribe(cityName, subscriber);
+    }
+
+    /**
+     * Offer a freshly fetched observation. Does nothing when nobody watches the city
+     * or the observation has not changed.
+     *
+     * @param cityName city identifier
+     * @param response fresh upstream response
+     */
+    public void publish(String cityName, WeatherResponse response) {
+        Channel channel = channels.get(cityName);
+        if (channel == null || response == null) {
+            return;
+        }
+        synchronized (channel) {
+            if (channel.closed || !WeatherChanges.hasChanged(channel.last, response)) {
+                return;
+            }
+            WeatherUpdate update = new WeatherUpdate(cityName, channel.last, response);
+            channel.last = response;
+            channel.publisher.offer(update, (subscriber, dropped) -> {
+                LOGGER.fine(() -> "Subscriber buffer full, dropping update for city: " + cityName);
+                return false;
+            });
+        }
+    }
+
+    /**
+     * @return cities with at least one active subscriber
+     */
+    public Set<String> getWatchedCities() {
+        for (Map.Entry<String, Channel> entry : channels.entrySet()) {
+            Channel channel = entry.getValue();
+            synchronized (channel) {
+                if (!channel.closed && !channel.publisher.hasSubscribers()) {
+                    channel.close();
+                    channels.remove(entry.getKey(), channel);
+                }
+            }
+        }
+        return Set.copyOf(channels.keySet());
+    }
+
+    /**
+     * Complete all subscribers. Later subscriptions are rejected and later publishes are ignored.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Channel channel : channels.values()) {
+            synchronized (channel) {
+                channel.close();
+            }
+        }
+        channels.clear();
+    }
+
+    private void subscribe(String cityName, Flow.Subscriber<? super WeatherUpdate> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber must not be null");
+        if (closed) {
+            throw new IllegalStateException("Subscriptions are closed");
+        }
+        while (true) {
+            Channel channel = channels.computeIfAbsent(cityName, key -> new Channel());
+            synchronized (channel) {
+                if (closed) {
+                    channel.close();
+                    channels.remove(cityName, channel);
+                    throw new IllegalStateException("Subscriptions are closed");
+                }
+                if (!channel.closed) {
+                    channel.publisher.subscribe(subscriber);
+                    return;
+                }
+            }
+            // The channel was retired by getWatchedCities() after the lookup; it has already been
+            // removed from the map, so the next lookup creates a fresh one.
+        }
+    }
+
+    /**
+     * Publisher and last observation for one city. The publisher is only offered to, subscribed
+     * to or closed while holding the channel's monitor, so a closed publisher is never used.
+     */
+    private static final class Channel {
+        private final SubmissionPublisher<WeatherUpdate> publisher =
+                new SubmissionPublisher<>(ExecutorHolder.EXECUTOR, Flow.defaultBufferSize());
+        private WeatherResponse last;
+        private boolean closed;
+
+        private void close() {
+            closed = true;
+            publisher.close();
+        }
+    }
+
+    private static final class ListenerSubscriber implements Flow.Subscriber<WeatherUpdate>, Subscription {
+        private final WeatherListener listener;
+        private Flow.Subscription subscription;
+        private boolean cancelled;
+
+        private ListenerSubscriber(WeatherListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public synchronized void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(WeatherUpdate update) {
+            try {
+                listener.onWeatherChanged(update);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Weather listener failed for city: " + update.getCityName(), e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            LOGGER.log(Level.WARNING, "Weather subscription failed", throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
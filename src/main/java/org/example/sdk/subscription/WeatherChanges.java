@@ -0,0 +1,73 @@
+package org.example.sdk.subscription;
+
+import org.example.sdk.model.Sys;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+
+import java.util.Objects;
+
+/**
+ * Change detection between two observations of the same city.
+ */
+public final class WeatherChanges {
+
+    private WeatherChanges() {
+    }
+
+    /**
+     * Compare two observations. A different upstream observation time ({@code dt}) is a change;
+     * otherwise every field is compared, so upstream corrections of the same observation are caught too.
+     *
+     * @param previous previously seen observation, may be {@code null}
+     * @param current  new observation
+     * @return {@code true} when {@code current} carries new information
+     */
+    public static boolean hasChanged(WeatherResponse previous, WeatherResponse current) {
+        if (previous == null) {
+            return current != null;
+        }
+        if (current == null) {
+            return false;
+        }
+        if (!Objects.equals(previous.getDatetime(), current.getDatetime())) {
+            return true;
+        }
+        return !Objects.equals(previous.getVisibility(), current.getVisibility())
+                || !Objects.equals(previous.getTimezone(), current.getTimezone())
+                || !Objects.equals(previous.getName(), current.getName())
+                || !sameWeather(previous.getWeather(), current.getWeather())
+                || !sameTemperature(previous.getTemperature(), current.getTemperature())
+                || !sameWind(previous.getWind(), current.getWind())
+                || !sameSys(previous.getSys(), current.getSys());
+    }
+
+    private static boolean sameWeather(WeatherInfo a, WeatherInfo b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Objects.equals(a.getMain(), b.getMain()) && Objects.equals(a.getDescription(), b.getDescription());
+    }
+
+    private static boolean sameTemperature(Temperature a, Temperature b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Objects.equals(a.getTemp(), b.getTemp()) && Objects.equals(a.getFeelsLike(), b.getFeelsLike());
+    }
+
+    private static boolean sameWind(Wind a, Wind b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Objects.equals(a.getSpeed(), b.getSpeed());
+    }
+
+    private static boolean sameSys(Sys a, Sys b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Objects.equals(a.getSunrise(), b.getSunrise()) && Objects.equals(a.getSunset(), b.getSunset());
+    }
+}
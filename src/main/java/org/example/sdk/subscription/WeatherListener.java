@@ -0,0 +1,17 @@
+package org.example.sdk.subscription;
+
+/**
+ * Callback notified when the observation for a watched city changes.
+ * <p>
+ * Invoked on an SDK notification thread. Updates for one listener are delivered in order
+ * and never concurrently.
+ * </p>
+ */
+@FunctionalInterface
+public interface WeatherListener {
+
+    /**
+     * @param update the changed observation
+     */
+    void onWeatherChanged(WeatherUpdate update);
+}
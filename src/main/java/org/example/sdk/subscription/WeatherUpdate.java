@@ -0,0 +1,38 @@
+package org.example.sdk.subscription;
+
+import org.example.sdk.model.WeatherResponse;
+
+import java.util.Objects;
+
+/**
+ * Event describing a changed observation for a city.
+ */
+public class WeatherUpdate {
+    private final String cityName;
+    private final WeatherResponse previous;
+    private final WeatherResponse current;
+
+    public WeatherUpdate(String cityName, WeatherResponse previous, WeatherResponse current) {
+        this.cityName = Objects.requireNonNull(cityName, "City name must not be null");
+        this.previous = previous;
+        this.current = Objects.requireNonNull(current, "Current weather must not be null");
+    }
+
+    /**
+     * @return city identifier the subscription was made for
+     */
+    public String getCityName() {
+        return cityName;
+    }
+
+    /**
+     * @return previously published observation, or {@code null} for the first observation
+     */
+    public WeatherResponse getPrevious() {
+        return previous;
+    }
+
+    public WeatherResponse getCurrent() {
+        return current;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.sdk;
+
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.ApiClient;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PreloadTest {
+
+    @Test
+    void stopsFetchingOnceTheCacheIsFull() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        ApiClient client = cityName -> {
+            fetches.incrementAndGet();
+            return new WeatherResponse(new WeatherInfo("Clear", "clear sky"), new Temperature(20.0, 19.0),
+                    10_000, new Wind(3.0), 1L, null, 0, cityName);
+        };
+        try (OpenWeatherSDK sdk = new OpenWeatherSDK("test-key", Mode.ON_DEMAND, client,
+                new WeatherCache(Duration.ofHours(1), 3))) {
+            List<String> cities = List.of("Berlin", "Paris", "berlin", "Rome", "Madrid", "Oslo", "Vienna");
+
+            PreloadProgress progress = sdk.preload(cities, new PreloadOptions(1, 1_000.0));
+
+            assertEquals(3, progress.getLoaded());
+            assertEquals(1, progress.getRejected());
+            assertEquals(0, progress.getSkipped());
+            assertEquals(0, progress.getFailed());
+            assertEquals(4, progress.getSubmitted());
+            assertEquals(3, fetches.get());
+            assertEquals(3, sdk.getCacheSize());
+        }
+    }
+
+    @Test
+    void skipsCachedCitiesWithoutFetching() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        ApiClient client = cityName -> {
+            fetches.incrementAndGet();
+            return new WeatherResponse(new WeatherInfo("Rain", "light rain"), new Temperature(8.0, 6.0),
+                    10_000, new Wind(5.0), 1L, null, 0, cityName);
+        };
+        try (OpenWeatherSDK sdk = new OpenWeatherSDK("test-key", Mode.ON_DEMAND, client,
+                new WeatherCache(Duration.ofHours(1), 10))) {
+            sdk.getWeather("London");
+
+            PreloadProgress progress = sdk.preload(List.of("London", "Dublin"), new PreloadOptions(2, 1_000.0));
+
+            assertEquals(1, progress.getLoaded());
+            assertEquals(1, progress.getSkipped());
+            assertEquals(2, fetches.get());
+        }
+    }
+}
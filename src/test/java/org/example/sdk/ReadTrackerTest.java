@@ -0,0 +1,65 @@
+package org.example.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadTrackerTest {
+    private static final String[] CACHED = {"Berlin", "Paris", "Rome", "Oslo"};
+
+    @Test
+    void refreshesOnlyCitiesReadSinceTheirLastRefresh() {
+        ReadTracker reads = new ReadTracker(64);
+        reads.recordRead("Paris");
+        reads.recordRead("Rome");
+        reads.recordRead("Rome");
+
+        assertEquals(List.of("Rome", "Paris"), select(reads, List.of(), Integer.MAX_VALUE, true));
+
+        reads.onRefresh("Rome");
+        reads.onRefresh("Paris");
+        assertEquals(List.of(), select(reads, List.of(), Integer.MAX_VALUE, true));
+    }
+
+    @Test
+    void budgetCapsRequiredCitiesFirstThenMostReadCandidates() {
+        ReadTracker reads = new ReadTracker(64);
+        for (int i = 0; i < 3; i++) {
+            reads.recordRead("Oslo");
+        }
+        reads.recordRead("Paris");
+        reads.recordRead("Rome");
+        reads.recordRead("Rome");
+
+        assertEquals(List.of("Berlin", "Oslo"), select(reads, List.of("Berlin"), 2, true));
+        assertEquals(List.of("Berlin"), select(reads, List.of("Berlin", "Paris"), 1, true));
+    }
+
+    @Test
+    void sharedCachesTreatEveryCityAsCandidate() {
+        ReadTracker reads = new ReadTracker(64);
+        reads.recordRead("Oslo");
+
+        List<String> selected = select(reads, List.of(), Integer.MAX_VALUE, false);
+
+        assertEquals(4, selected.size());
+        assertEquals("Oslo", selected.get(0));
+    }
+
+    @Test
+    void forgetsReadsOfCitiesNoLongerCached() {
+        ReadTracker reads = new ReadTracker(64);
+        reads.recordRead("Lisbon");
+        select(reads, List.of(), Integer.MAX_VALUE, true);
+
+        // Lisbon was evicted when the last cycle ran; a re-cached Lisbon waits for a new read.
+        assertEquals(List.of(), new ArrayList<>(reads.select(new String[]{"Lisbon"}, List.of(), Integer.MAX_VALUE, true)));
+    }
+
+    private static List<String> select(ReadTracker reads, List<String> required, int budget, boolean readsKnown) {
+        return new ArrayList<>(reads.select(CACHED, required, budget, readsKnown));
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.history.HistoryMetric;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedWeatherCacheTest {
+    private static final String[] CONDITIONS = {"Rain", "Clear", "Clouds", "Snow"};
+    private static final Comparator<CityWeather> BY_TEMPERATURE =
+            Comparator.comparingDouble((CityWeather w) -> w.getResponse().getTemperature().getTemp())
+                    .thenComparing(CityWeather::getCityName);
+    private static final Comparator<CityWeather> BY_WIND_SPEED =
+            Comparator.comparingDouble((CityWeather w) -> w.getResponse().getWind().getSpeed())
+                    .thenComparing(CityWeather::getCityName);
+
+    @Test
+    void indexesMatchCacheContentsAfterWritesRemovalsAndEvictions() {
+        MutableClock clock = new MutableClock();
+        IndexedWeatherCache cache = newCache(Duration.ofHours(1), 200, clock);
+        Random random = new Random(7);
+        for (int i = 1; i <= 5_000; i++) {
+            String city = "City" + random.nextInt(500);
+            int op = random.nextInt(10);
+            if (op < 6) {
+                cache.put(city, response(random));
+            } else if (op < 8) {
+                cache.refresh(city, response(random));
+            } else if (op < 9) {
+                cache.remove(city);
+            } else {
+                cache.putIfAbsent(city, response(random));
+            }
+            if (i % 500 == 0) {
+                assertConsistent(cache);
+                assertEquals(counts(live(cache)), cache.countByCondition());
+            }
+        }
+        assertEquals(200, cache.size());
+    }
+
+    @Test
+    void expiredEntriesLeaveQueriesBeforeAndIndexesAfterExpiration() {
+        MutableClock clock = new MutableClock();
+        IndexedWeatherCache cache = newCache(Duration.ofMinutes(10), 1_000, clock);
+        Random random = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            cache.put("Old" + i, response(random));
+        }
+        clock.advance(Duration.ofMinutes(6));
+        for (int i = 0; i < 300; i++) {
+            cache.put("New" + i, response(random));
+        }
+        clock.advance(Duration.ofMinutes(5));
+
+        // The old entries have expired but are still indexed; queries must skip them.
+        assertConsistent(cache);
+        assertTrue(cache.top(HistoryMetric.TEMPERATURE, 1_000).stream()
+                .allMatch(w -> w.getCityName().startsWith("New")));
+
+        cache.expireEntries();
+        assertEquals(300, cache.size());
+        assertConsistent(cache);
+        assertEquals(counts(live(cache)), cache.countByCondition());
+    }
+
+    @Test
+    void clearEmptiesIndexes() {
+        IndexedWeatherCache cache = newCache(Duration.ofHours(1), 100, new MutableClock());
+        Random random = new Random(3);
+        for (int i = 0; i < 50; i++) {
+            cache.put("City" + i, response(random));
+        }
+        cache.clear();
+
+        assertTrue(cache.top(HistoryMetric.TEMPERATURE, 10).isEmpty());
+        assertTrue(cache.range(HistoryMetric.WIND_SPEED, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY).isEmpty());
+        assertTrue(cache.withCondition("Rain").isEmpty());
+        assertTrue(cache.countByCondition().isEmpty());
+    }
+
+    private static IndexedWeatherCache newCache(Duration ttl, int maxSize, Clock clock) {
+        return new IndexedWeatherCache(new FixedTtlExpiryPolicy(ttl), maxSize,
+                EnumSet.of(HistoryMetric.TEMPERATURE, HistoryMetric.WIND_SPEED), Duration.ZERO, new CacheListener() {
+                }, clock);
+    }
+
+    private static WeatherResponse response(Random random) {
+        // Temperatures are rounded so that ties exercise the name tie-break; some winds are unknown.
+        double temp = Math.round(random.nextGaussian() * 100) / 10.0;
+        Wind wind = random.nextInt(10) == 0 ? new Wind(null) : new Wind(random.nextDouble() * 30);
+        WeatherInfo weather = new WeatherInfo(CONDITIONS[random.nextInt(CONDITIONS.length)], "test");
+        return new WeatherResponse(weather, new Temperature(temp, temp), 10_000, wind, 1L, null, 0, "test");
+    }
+
+    /**
+     * Compare every kind of query against a brute-force scan of the live cache entries.
+     */
+    private static void assertConsistent(IndexedWeatherCache cache) {
+        List<CityWeather> live = live(cache);
+
+        assertEquals(expected(live, w -> true, BY_TEMPERATURE.reversed(), 10),
+                names(cache.top(HistoryMetric.TEMPERATURE, 10)));
+        assertEquals(expected(live, w -> true, BY_TEMPERATURE, 10),
+                names(cache.bottom(HistoryMetric.TEMPERATURE, 10)));
+        assertEquals(expected(live, w -> inRange(w.getResponse().getTemperature().getTemp(), -1.0, 1.0), BY_TEMPERATURE, Integer.MAX_VALUE),
+                names(cache.range(HistoryMetric.TEMPERATURE, -1.0, 1.0)));
+        assertEquals(expected(live, w -> w.getResponse().getWind().getSpeed() != null, BY_WIND_SPEED.reversed(), 10),
+                names(cache.top(HistoryMetric.WIND_SPEED, 10)));
+        assertEquals(expected(live, w -> inRange(w.getResponse().getWind().getSpeed(), Math.nextUp(15.0), Double.POSITIVE_INFINITY)
+                        && w.getResponse().getWeather().getMain().equals("Rain"), BY_WIND_SPEED, Integer.MAX_VALUE),
+                names(cache.range(HistoryMetric.WIND_SPEED, Math.nextUp(15.0), Double.POSITIVE_INFINITY, "rain")));
+        for (String condition : CONDITIONS) {
+            assertEquals(expected(live, w -> w.getResponse().getWeather().getMain().equals(condition),
+                            Comparator.comparing(CityWeather::getCityName), Integer.MAX_VALUE),
+                    names(cache.withCondition(condition.toUpperCase(Locale.ROOT))));
+        }
+    }
+
+    private static List<CityWeather> live(IndexedWeatherCache cache) {
+        List<CityWeather> live = new ArrayList<>();
+        for (String city : cache.getAllCities()) {
+            WeatherResponse response = cache.get(city);
+            if (response != null) {
+                live.add(new CityWeather(city, response));
+            }
+        }
+        return live;
+    }
+
+    private static boolean inRange(Double value, double min, double max) {
+        return value != null && value >= min && value <= max;
+    }
+
+    private static List<String> expected(List<CityWeather> live, Predicate<CityWeather> filter,
+                                         Comparator<CityWeather> order, int limit) {
+        return names(live.stream().filter(filter).sorted(order).limit(limit).collect(Collectors.toList()));
+    }
+
+    private static List<String> names(List<CityWeather> result) {
+        return result.stream().map(CityWeather::getCityName).collect(Collectors.toList());
+    }
+
+    private static Map<String, Integer> counts(List<CityWeather> live) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (CityWeather weather : live) {
+            counts.merge(weather.getResponse().getWeather().getMain().toLowerCase(Locale.ROOT), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ObservationAwareExpiryPolicyTest {
+    private static final Instant OBSERVED = Instant.parse("2024-01-01T12:00:00Z");
+    private static final Instant STORED = OBSERVED.plusSeconds(60);
+
+    @Test
+    void strongWindShortensTheUpdateInterval() {
+        ObservationAwareExpiryPolicy policy = new ObservationAwareExpiryPolicy();
+
+        assertEquals(OBSERVED.plus(Duration.ofMinutes(10)), policy.expiresAt("London", response(10.0), STORED));
+        assertEquals(OBSERVED.plus(Duration.ofMinutes(5)), policy.expiresAt("London", response(20.0), STORED));
+    }
+
+    @Test
+    void imperialWindSpeedsAreComparedInMetersPerSecond() {
+        ObservationAwareExpiryPolicy policy = new ObservationAwareExpiryPolicy("imperial");
+
+        // 20 mph is about 8.9 m/s, a fresh breeze; 40 mph is about 17.9 m/s, a gale.
+        assertEquals(OBSERVED.plus(Duration.ofMinutes(10)), policy.expiresAt("London", response(20.0), STORED));
+        assertEquals(OBSERVED.plus(Duration.ofMinutes(5)), policy.expiresAt("London", response(40.0), STORED));
+    }
+
+    @Test
+    void unknownUnitsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ObservationAwareExpiryPolicy("knots"));
+    }
+
+    private static WeatherResponse response(double windSpeed) {
+        return new WeatherResponse(new WeatherInfo("Clouds", "broken clouds"), new Temperature(10.0, 9.0),
+                10_000, new Wind(windSpeed), OBSERVED.getEpochSecond(), null, 0, "London");
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SharedMemoryCacheTest {
+    private static final int CITIES = 16;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void instancesOnTheSameFileSeeEachOthersWritesWithoutTornReads() throws Exception {
+        Path file = dir.resolve("weather.cache");
+        try (SharedMemoryCache writerCache = new SharedMemoryCache(file, 64, Duration.ofMinutes(10));
+             SharedMemoryCache readerCache = new SharedMemoryCache(file, 64, Duration.ofMinutes(10))) {
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean writing = new AtomicBoolean(true);
+            try {
+                List<Future<?>> tasks = new ArrayList<>();
+                // Two writers, one per instance, so writes from both sides interleave on every slot.
+                for (SharedMemoryCache cache : List.of(writerCache, readerCache)) {
+                    tasks.add(executor.submit(() -> {
+                        start.await();
+                        for (int version = 1; version <= 2_000; version++) {
+                            String city = "City" + (version % CITIES);
+                            cache.put(city, response(city, version));
+                        }
+                        return null;
+                    }));
+                }
+                Future<Integer> reader = executor.submit(() -> {
+                    start.await();
+                    int hits = 0;
+                    while (writing.get()) {
+                        for (int i = 0; i < CITIES; i++) {
+                            String city = "City" + i;
+                            WeatherResponse cached = readerCache.get(city);
+                            if (cached != null) {
+                                // Every field of a response carries the same version, so a read
+                                // mixing two writes shows up as a mismatch.
+                                assertEquals(city, cached.getName());
+                                assertEquals(cached.getTemperature().getTemp(), cached.getTemperature().getFeelsLike());
+                                assertEquals(cached.getTemperature().getTemp().intValue(), cached.getVisibility());
+                                hits++;
+                            }
+                        }
+                    }
+                    return hits;
+                });
+                start.countDown();
+                for (Future<?> task : tasks) {
+                    task.get(60, TimeUnit.SECONDS);
+                }
+                writing.set(false);
+                assertTrue(reader.get(60, TimeUnit.SECONDS) > 0);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            writerCache.put("London", response("London", 7));
+            WeatherResponse seen = readerCache.get("London");
+            assertNotNull(seen);
+            assertEquals(7, seen.getVisibility());
+            assertEquals(CITIES + 1, readerCache.size());
+
+            readerCache.remove("London");
+            assertEquals(null, writerCache.get("London"));
+        }
+    }
+
+    @Test
+    void onlyOneInstancePerFileIsRefreshLeader() {
+        Path file = dir.resolve("leader.cache");
+        try (SharedMemoryCache first = new SharedMemoryCache(file, 16, Duration.ofMinutes(10));
+             SharedMemoryCache second = new SharedMemoryCache(file, 16, Duration.ofMinutes(10))) {
+            assertNotEquals(first.isRefreshLeader(), second.isRefreshLeader());
+        }
+    }
+
+    @Test
+    void geometryMismatchIsRejectedWithoutLeakingTheFileHandle() throws IOException {
+        Path fds = Path.of("/proc/self/fd");
+        assumeTrue(Files.isDirectory(fds), "needs /proc to count open files");
+        Path file = dir.resolve("geometry.cache");
+        new SharedMemoryCache(file, 16, Duration.ofMinutes(10)).close();
+        long before = openHandles(fds, file);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class,
+                    () -> new SharedMemoryCache(file, 32, 1024, Duration.ofMinutes(10), Clock.systemUTC()));
+        }
+
+        assertEquals(before, openHandles(fds, file));
+    }
+
+    private static long openHandles(Path fds, Path file) throws IOException {
+        Path target = file.toAbsolutePath().normalize();
+        try (Stream<Path> links = Files.list(fds)) {
+            return links.filter(link -> {
+                try {
+                    return Files.readSymbolicLink(link).equals(target);
+                } catch (IOException | UnsupportedOperationException e) {
+                    return false;
+                }
+            }).count();
+        }
+    }
+
+    private static WeatherResponse response(String city, int version) {
+        double value = version;
+        return new WeatherResponse(new WeatherInfo("Clear", "clear sky"), new Temperature(value, value),
+                version, new Wind(3.0), (long) version, null, 0, city);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SnapshotWeatherCacheTest {
+
+    @Test
+    void putIsVisibleToTheNextLookup() {
+        SnapshotWeatherCache cache = new SnapshotWeatherCache(new FixedTtlExpiryPolicy(Duration.ofMinutes(10)), 10, new MutableClock());
+        WeatherResponse first = response(10.0);
+        WeatherResponse second = response(12.0);
+
+        cache.put("London", first);
+        cache.put("London", second);
+
+        assertSame(second, cache.get("London"));
+    }
+
+    @Test
+    void refreshOfValidEntryIsPublishedWithTheNextBatch() {
+        SnapshotWeatherCache cache = new SnapshotWeatherCache(new FixedTtlExpiryPolicy(Duration.ofMinutes(10)), 10, new MutableClock());
+        WeatherResponse first = response(10.0);
+        WeatherResponse refreshed = response(11.0);
+        cache.put("London", first);
+
+        cache.refresh("London", refreshed);
+        assertSame(first, cache.get("London"));
+
+        cache.expireEntries();
+        assertSame(refreshed, cache.get("London"));
+    }
+
+    @Test
+    void refreshOfExpiredEntryIsPublishedImmediately() {
+        MutableClock clock = new MutableClock();
+        SnapshotWeatherCache cache = new SnapshotWeatherCache(new FixedTtlExpiryPolicy(Duration.ofMinutes(10)), 10, clock);
+        cache.put("London", response(10.0));
+        clock.advance(Duration.ofMinutes(11));
+        assertNull(cache.get("London"));
+
+        WeatherResponse refreshed = response(11.0);
+        cache.refresh("London", refreshed);
+
+        assertSame(refreshed, cache.get("London"));
+    }
+
+    @Test
+    void expiredEntriesStayAvailableAsStaleAndAreEvictedFirst() {
+        MutableClock clock = new MutableClock();
+        SnapshotWeatherCache cache = new SnapshotWeatherCache(new FixedTtlExpiryPolicy(Duration.ofSeconds(10)), 2, clock);
+        WeatherResponse old = response(10.0);
+        cache.put("A", old);
+        clock.advance(Duration.ofSeconds(5));
+        cache.put("B", response(11.0));
+        clock.advance(Duration.ofSeconds(6));
+        cache.expireEntries();
+
+        assertNull(cache.get("A"));
+        assertSame(old, cache.getStale("A"));
+
+        cache.put("C", response(12.0));
+        assertArrayEquals(new String[]{"B", "C"}, cache.getAllCities());
+    }
+
+    private static WeatherResponse response(double temp) {
+        return new WeatherResponse(new WeatherInfo("Clear", "clear sky"), new Temperature(temp, temp),
+                10_000, new Wind(3.0), 1L, null, 0, "test");
+    }
+}
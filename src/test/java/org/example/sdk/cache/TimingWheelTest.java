@@ -0,0 +1,140 @@
+package org.example.sdk.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+    private static final long TICK = 10;
+    private static final long START = 1_700_000_000_000L;
+
+    private static final class Timer extends TimingWheel.Node {
+        private final long deadline;
+        private long firedAt = -1;
+
+        private Timer(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    @Test
+    void firesNeverEarlyAndAtMostOneTickLate() {
+        TimingWheel wheel = new TimingWheel(TICK, START);
+        Random random = new Random(42);
+        List<Timer> timers = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            // Spread deadlines over all four levels of the wheel.
+            long delay = (long) Math.pow(64, random.nextDouble() * 3.2) * TICK + random.nextInt((int) TICK);
+            Timer timer = new Timer(START + delay);
+            wheel.schedule(timer, timer.deadline);
+            timers.add(timer);
+        }
+        assertEquals(timers.size(), wheel.size());
+
+        long now = START;
+        long end = timers.stream().mapToLong(t -> t.deadline).max().orElseThrow() + TICK;
+        while (now <= end) {
+            now += TICK;
+            long firedAt = now;
+            wheel.advance(now, node -> ((Timer) node).firedAt = firedAt);
+        }
+
+        assertEquals(0, wheel.size());
+        for (Timer timer : timers) {
+            assertTrue(timer.firedAt >= timer.deadline, "fired early");
+            long deadlineTick = Math.floorDiv(timer.deadline + TICK - 1, TICK);
+            assertTrue(timer.firedAt / TICK <= deadlineTick + 1, "fired more than one tick late");
+            assertFalse(timer.isScheduled());
+        }
+    }
+
+    @Test
+    void cancelledNodesDoNotFire() {
+        TimingWheel wheel = new TimingWheel(TICK, START);
+        Timer kept = new Timer(START + 100);
+        Timer cancelled = new Timer(START + 100);
+        wheel.schedule(kept, kept.deadline);
+        wheel.schedule(cancelled, cancelled.deadline);
+
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+        assertEquals(1, wheel.size());
+
+        List<TimingWheel.Node> fired = new ArrayList<>();
+        wheel.advance(START + 1_000, fired::add);
+        assertEquals(List.of(kept), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void reschedulingMovesTheDeadline() {
+        TimingWheel wheel = new TimingWheel(TICK, START);
+        Timer timer = new Timer(START + 50);
+        wheel.schedule(timer, START + 50);
+        wheel.schedule(timer, START + 5_000);
+        assertEquals(1, wheel.size());
+
+        List<TimingWheel.Node> fired = new ArrayList<>();
+        wheel.advance(START + 4_990, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advance(START + 5_000, fired::add);
+        assertEquals(List.of(timer), fired);
+    }
+
+    @Test
+    void callbackMayRescheduleDueNode() {
+        TimingWheel wheel = new TimingWheel(TICK, START);
+        Timer timer = new Timer(START + 20);
+        wheel.schedule(timer, timer.deadline);
+
+        int[] fired = new int[1];
+        wheel.advance(START + 20, node -> {
+            fired[0]++;
+            wheel.schedule(node, START + 40);
+        });
+        assertEquals(1, fired[0]);
+        assertTrue(timer.isScheduled());
+
+        wheel.advance(START + 40, node -> fired[0]++);
+        assertEquals(2, fired[0]);
+    }
+
+    @Test
+    void deadlinesBeyondTheTopLevelAreParkedAndReplaced() {
+        TimingWheel wheel = new TimingWheel(1, 0);
+        long beyondSpan = (1L << 24) + 12_345;
+        Timer timer = new Timer(beyondSpan);
+        wheel.schedule(timer, beyondSpan);
+
+        List<TimingWheel.Node> fired = new ArrayList<>();
+        wheel.advance(beyondSpan - 1, fired::add);
+        assertTrue(fired.isEmpty());
+        assertTrue(timer.isScheduled());
+        wheel.advance(beyondSpan, fired::add);
+        assertEquals(List.of(timer), fired);
+    }
+
+    @Test
+    void clearUnschedulesEverything() {
+        TimingWheel wheel = new TimingWheel(TICK, START);
+        Timer first = new Timer(START + 10);
+        Timer second = new Timer(START + 100_000);
+        wheel.schedule(first, first.deadline);
+        wheel.schedule(second, second.deadline);
+
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertFalse(first.isScheduled());
+        assertFalse(second.isScheduled());
+
+        List<TimingWheel.Node> fired = new ArrayList<>();
+        wheel.advance(START + 200_000, fired::add);
+        assertTrue(fired.isEmpty());
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.sdk.cache;
+
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherCacheTest {
+
+    @Test
+    void lookupsProtectEntriesFromEviction() {
+        WeatherCache cache = new WeatherCache(Duration.ofHours(1), 3);
+        cache.put("A", response());
+        cache.put("B", response());
+        cache.put("C", response());
+
+        assertNotNull(cache.get("A"));
+        assertNotNull(cache.getStale("B"));
+        cache.put("D", response());
+
+        assertFalse(cache.contains("C"));
+        assertArrayEquals(new String[]{"A", "B", "D"}, cache.getAllCities());
+    }
+
+    @Test
+    void lookupsOfReplacedOrRemovedEntriesAreHarmless() {
+        WeatherCache cache = new WeatherCache(Duration.ofHours(1), 3);
+        cache.put("A", response());
+        cache.put("B", response());
+        cache.put("C", response());
+
+        assertNotNull(cache.get("A"));
+        assertNotNull(cache.get("B"));
+        cache.refresh("A", response());
+        cache.remove("B");
+        cache.put("D", response());
+        cache.put("E", response());
+
+        assertArrayEquals(new String[]{"A", "D", "E"}, cache.getAllCities());
+    }
+
+    @Test
+    void concurrentLookupsUnderReadLockKeepRecencyListIntact() throws Exception {
+        WeatherCache cache = new WeatherCache(Duration.ofHours(1), 50);
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        for (int i = 0; i < 50; i++) {
+            cache.put("City" + i, response());
+        }
+
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int r = 0; r < readers; r++) {
+                int seed = r;
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20_000; i++) {
+                        lock.readLock().lock();
+                        try {
+                            cache.get("City" + ((i * 7 + seed) % 60));
+                        } finally {
+                            lock.readLock().unlock();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2_000; i++) {
+                    lock.writeLock().lock();
+                    try {
+                        cache.put("City" + (i % 60), response());
+                        assertEquals(cache.size(), cache.getAllCities().length);
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String[] cities = cache.getAllCities();
+        assertEquals(50, cities.length);
+        for (String city : cities) {
+            assertTrue(cache.contains(city));
+        }
+    }
+
+    private static WeatherResponse response() {
+        return new WeatherResponse(new WeatherInfo("Clear", "clear sky"), new Temperature(20.0, 19.0),
+                10_000, new Wind(3.0), 1L, null, 0, "test");
+    }
+}
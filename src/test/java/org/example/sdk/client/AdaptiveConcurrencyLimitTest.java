@@ -0,0 +1,75 @@
+package org.example.sdk.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void growsAdditivelyWhileUsedUpToTheMaximum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 20, 0.5, 2.0);
+
+        // One step of roughly 1/limit per sample: about limit * limit / 2 samples to get there.
+        int samples = 0;
+        while (limit.getLimit() < 10) {
+            limit.onSample(FAST, limit.getLimit(), false);
+            samples++;
+        }
+        assertTrue(samples >= 40 && samples <= 60, "samples to reach 10: " + samples);
+
+        for (int i = 0; i < 1_000; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhileMostlyUnused() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 20, 0.5, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, 2, false);
+        }
+
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void backsOffMultiplicativelyOnDropsAndQueueingDownToTheMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(16, 2, 20, 0.5, 2.0);
+        limit.onSample(FAST, 16, false);
+
+        limit.onSample(FAST, 16, true);
+        assertEquals(8, limit.getLimit());
+        limit.onSample(SLOW, 8, false);
+        assertEquals(4, limit.getLimit());
+        for (int i = 0; i < 5; i++) {
+            limit.onSample(FAST, 4, true);
+        }
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void growthListenersRunOnlyWhenTheLimitGrows() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 20, 0.5, 2.0);
+        AtomicInteger growths = new AtomicInteger();
+        limit.addGrowthListener(growths::incrementAndGet);
+
+        // 2 -> 2.5 -> 2.9 -> 3.24: a single step of the integer limit.
+        for (int i = 0; i < 3; i++) {
+            limit.onSample(FAST, 2, false);
+        }
+        assertEquals(3, limit.getLimit());
+        assertEquals(1, growths.get());
+
+        limit.onSample(FAST, 3, true);
+        assertEquals(1, growths.get());
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.sdk.client;
+
+import org.example.sdk.exception.ConcurrencyLimitExceededException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitingApiClientTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Blocks calls for "Blocked" until released and answers all others at once.
+     */
+    private final ApiClient upstream = city -> {
+        upstreamCalls.incrementAndGet();
+        if ("Blocked".equals(city)) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new WeatherSDKException("Interrupted", e);
+            }
+        }
+        return response(city);
+    };
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void requestsOverTheLimitAreShedWithoutCallingUpstream() throws Exception {
+        ConcurrencyLimitingApiClient client = new ConcurrencyLimitingApiClient(upstream, fixedLimit(1), Duration.ZERO);
+        occupySlot(client);
+
+        ConcurrencyLimitExceededException e = assertThrows(ConcurrencyLimitExceededException.class,
+                () -> client.getWeatherByCity("London"));
+        assertEquals(1, e.getLimit());
+        assertEquals(1, client.getRejectedCount());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void queuedRequestGetsTheNextFreeSlot() throws Exception {
+        ConcurrencyLimitingApiClient client = new ConcurrencyLimitingApiClient(upstream, fixedLimit(1), Duration.ofSeconds(10));
+        Future<WeatherResponse> blocked = occupySlot(client);
+        Future<WeatherResponse> queued = executor.submit(() -> client.getWeatherByCity("London"));
+
+        release.countDown();
+        assertEquals("Blocked", blocked.get(5, TimeUnit.SECONDS).getName());
+        assertEquals("London", queued.get(5, TimeUnit.SECONDS).getName());
+        assertEquals(0, client.getRejectedCount());
+    }
+
+    @Test
+    void queueWaitIsBoundedByTheQueueTimeoutOrTheCallersTimeout() throws Exception {
+        ConcurrencyLimitingApiClient client = new ConcurrencyLimitingApiClient(upstream, fixedLimit(1), Duration.ofMillis(100));
+        occupySlot(client);
+
+        long start = System.nanoTime();
+        assertThrows(ConcurrencyLimitExceededException.class, () -> client.getWeatherByCity("London"));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThrows(WeatherTimeoutException.class, () -> client.getWeatherByCity("London", Duration.ofMillis(20)));
+        assertEquals(1, client.getRejectedCount());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void queuedRequestIsAdmittedWhenTheLimitGrows() throws Exception {
+        // Growing from 1 to 2 takes one successful sample; the tolerance ignores latency noise.
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 10, 0.5, 1_000);
+        ConcurrencyLimitingApiClient busy = new ConcurrencyLimitingApiClient(upstream, limit, Duration.ofSeconds(10));
+        ConcurrencyLimitingApiClient other = new ConcurrencyLimitingApiClient(upstream, limit, Duration.ZERO);
+        occupySlot(busy);
+        Future<WeatherResponse> queued = executor.submit(() -> busy.getWeatherByCity("London"));
+        awaitQueued(queued);
+
+        // A call through the other client sharing the limit grows it; the busy client's slot stays taken.
+        other.getWeatherByCity("Paris");
+
+        assertEquals(2, limit.getLimit());
+        assertEquals("London", queued.get(5, TimeUnit.SECONDS).getName());
+    }
+
+    private Future<WeatherResponse> occupySlot(ConcurrencyLimitingApiClient client) throws InterruptedException {
+        Future<WeatherResponse> blocked = executor.submit(() -> client.getWeatherByCity("Blocked"));
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (upstreamCalls.get() == 0 && System.nanoTime() < end) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, client.getInFlight());
+        return blocked;
+    }
+
+    /**
+     * Give a request submitted to the executor time to start waiting for a slot.
+     */
+    private static void awaitQueued(Future<?> request) throws InterruptedException {
+        Thread.sleep(100);
+        assertFalse(request.isDone(), "request should be waiting for a slot");
+    }
+
+    private static AdaptiveConcurrencyLimit fixedLimit(int limit) {
+        return new AdaptiveConcurrencyLimit(limit, limit, limit, 0.5, 2.0);
+    }
+
+    private static WeatherResponse response(String name) {
+        return new WeatherResponse(new WeatherInfo("Clear", "clear sky"), new Temperature(20.0, 19.0),
+                10_000, new Wind(3.0), 1L, null, 0, name);
+    }
+}
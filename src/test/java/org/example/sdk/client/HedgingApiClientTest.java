@@ -0,0 +1,210 @@
+package org.example.sdk.client;
+
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgingApiClientTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String WARMUP = "Warmup";
+
+    private final ScriptedClient delegate = new ScriptedClient();
+    private HedgingApiClient client;
+    private long warmupHedges;
+
+    @AfterEach
+    void closeClient() {
+        Thread.interrupted();
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void noHedgesBeforeEnoughLatencySamples() throws Exception {
+        client = new HedgingApiClient(delegate, 95.0, 1.0, Duration.ofMillis(1));
+        delegate.script.add(city -> sleepThen(50, "primary"));
+
+        assertEquals("primary", client.getWeatherByCity("London", TIMEOUT).getName());
+        assertEquals(0, client.getHedgeCount());
+    }
+
+    @Test
+    void slowPrimaryIsAbandonedForTheHedge() throws Exception {
+        client = warmedUp(1.0);
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        delegate.script.add(city -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                primaryCancelled.countDown();
+                throw new WeatherSDKException("Interrupted", e);
+            }
+            return response("primary");
+        });
+        delegate.script.add(city -> response("hedge"));
+
+        WeatherResponse response = client.getWeatherByCity("London", TIMEOUT);
+
+        assertEquals("hedge", response.getName());
+        assertEquals(1, client.getHedgeCount() - warmupHedges);
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS));
+        assertFalse(Thread.currentThread().isInterrupted(), "the hedge's interrupt must not leak to the caller");
+    }
+
+    @Test
+    void losingHedgeIsCancelled() throws Exception {
+        client = warmedUp(1.0);
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        CountDownLatch hedgeCancelled = new CountDownLatch(1);
+        delegate.script.add(city -> {
+            await(hedgeStarted);
+            return response("primary");
+        });
+        delegate.script.add(city -> {
+            hedgeStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                hedgeCancelled.countDown();
+                throw new WeatherSDKException("Interrupted", e);
+            }
+            return response("hedge");
+        });
+
+        assertEquals("primary", client.getWeatherByCity("London", TIMEOUT).getName());
+        assertTrue(hedgeCancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void callerInterruptIsKeptWhenTheHedgeWins() throws Exception {
+        client = warmedUp(1.0);
+        CountDownLatch hedgeDone = new CountDownLatch(1);
+        delegate.script.add(city -> {
+            // The caller is interrupted by someone else while its primary attempt is running,
+            // and the primary ignores it until the hedge has won.
+            Thread.currentThread().interrupt();
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (hedgeDone.getCount() > 0 && System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            spin(50);
+            throw new WeatherSDKException("Interrupted");
+        });
+        delegate.script.add(city -> {
+            hedgeDone.countDown();
+            return response("hedge");
+        });
+
+        WeatherResponse response = client.getWeatherByCity("London", TIMEOUT);
+
+        assertEquals("hedge", response.getName());
+        assertTrue(Thread.interrupted(), "the caller's own interrupt must be kept");
+    }
+
+    @Test
+    void budgetCapsHedges() throws Exception {
+        client = warmedUp(0.0);
+        delegate.script.add(city -> sleepThen(50, "primary"));
+
+        assertEquals("primary", client.getWeatherByCity("London", TIMEOUT).getName());
+        assertEquals(0, client.getHedgeCount() - warmupHedges);
+    }
+
+    @Test
+    void untimedCallsUseTheDefaultCallTimeout() throws Exception {
+        client = new HedgingApiClient(delegate, 95.0, 0.0, Duration.ofMillis(1), Duration.ofMillis(100));
+        delegate.script.add(city -> {
+            throw new WeatherTimeoutException("Timed out after " + delegate.lastTimeout.toMillis() + " ms");
+        });
+
+        assertThrows(WeatherTimeoutException.class, () -> client.getWeatherByCity("London"));
+        assertTrue(delegate.lastTimeout.compareTo(Duration.ofMillis(100)) <= 0);
+    }
+
+    /**
+     * Collect enough fast samples that the hedge delay drops to its 1 ms minimum. A warm-up call
+     * that happens to be slow may be hedged, so tests count hedges from the end of the warm-up.
+     */
+    private HedgingApiClient warmedUp(double maxHedgeRatio) throws WeatherSDKException {
+        HedgingApiClient hedging = new HedgingApiClient(delegate, 95.0, maxHedgeRatio, Duration.ofMillis(1));
+        for (int i = 0; i < 40; i++) {
+            hedging.getWeatherByCity(WARMUP, TIMEOUT);
+        }
+        warmupHedges = hedging.getHedgeCount();
+        return hedging;
+    }
+
+    private static WeatherResponse sleepThen(long millis, String name) throws WeatherSDKException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new WeatherSDKException("Interrupted", e);
+        }
+        return response(name);
+    }
+
+    private static void await(CountDownLatch latch) throws WeatherSDKException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new WeatherSDKException("Interrupted", e);
+        }
+    }
+
+    private static void spin(long millis) {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static WeatherResponse response(String name) {
+        return new WeatherResponse(new WeatherInfo("Clear", "clear sky"), new Temperature(20.0, 19.0),
+                10_000, new Wind(3.0), 1L, null, 0, name);
+    }
+
+    @FunctionalInterface
+    private interface Behaviour {
+        WeatherResponse call(String cityName) throws WeatherSDKException;
+    }
+
+    /**
+     * Runs scripted behaviours in call order, answering immediately once the script is used up.
+     */
+    private static final class ScriptedClient implements ApiClient {
+        private final Deque<Behaviour> script = new ConcurrentLinkedDeque<>();
+        private volatile Duration lastTimeout;
+
+        @Override
+        public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+            return getWeatherByCity(cityName, TIMEOUT);
+        }
+
+        @Override
+        public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+            if (WARMUP.equals(cityName)) {
+                return response(cityName);
+            }
+            lastTimeout = timeout;
+            Behaviour behaviour = script.poll();
+            return behaviour == null ? response(cityName) : behaviour.call(cityName);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.sdk.client;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.example.sdk.exception.CityNotFoundException;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoutingApiClientTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final Upstream first = new Upstream("first");
+    private final Upstream second = new Upstream("second");
+
+    @BeforeEach
+    void startServers() throws IOException {
+        first.server.start();
+        second.server.start();
+    }
+
+    @AfterEach
+    void stopServers() throws IOException {
+        first.server.shutdown();
+        second.server.shutdown();
+    }
+
+    @Test
+    void failedCallIsRetriedOnTheNextEndpoint() throws Exception {
+        first.status = 503;
+        RoutingApiClient client = new RoutingApiClient("key", "metric", List.of(first.url(), second.url()));
+
+        WeatherResponse response = client.getWeatherByCity("London", TIMEOUT);
+
+        assertEquals("second", response.getName());
+        assertEquals(1, client.getFailoverCount());
+        assertEquals(1, first.server.getRequestCount());
+        assertEquals(1, second.server.getRequestCount());
+    }
+
+    @Test
+    void unknownCityIsNotRetried() {
+        first.status = 404;
+        RoutingApiClient client = new RoutingApiClient("key", "metric", List.of(first.url(), second.url()));
+
+        assertThrows(CityNotFoundException.class, () -> client.getWeatherByCity("Atlantis", TIMEOUT));
+        assertEquals(0, client.getFailoverCount());
+        assertEquals(0, second.server.getRequestCount());
+    }
+
+    @Test
+    void ejectedEndpointGetsNoCallsUntilItsTrialCallAfterTheCooldown() throws Exception {
+        first.status = 503;
+        RoutingApiClient client = new RoutingApiClient(
+                List.of(first.client(), second.client()), 1, Duration.ofSeconds(1));
+
+        assertEquals("second", client.getWeatherByCity("London", TIMEOUT).getName());
+        assertFalse(client.getEndpointStats().get(0).isHealthy());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("second", client.getWeatherByCity("London", TIMEOUT).getName());
+        }
+        assertEquals(1, first.server.getRequestCount());
+
+        // Once the cooldown is over the first endpoint is tried again, either first or as the
+        // failover from the now failing second one, and rejoins when its trial call succeeds.
+        Thread.sleep(1_100);
+        first.status = 200;
+        second.status = 503;
+        assertEquals("first", client.getWeatherByCity("London", TIMEOUT).getName());
+        assertEquals(2, first.server.getRequestCount());
+        assertTrue(client.getEndpointStats().get(0).isHealthy());
+    }
+
+    @Test
+    void onlyOneCallerSendsTheTrialCall() throws Exception {
+        CountDownLatch trialStarted = new CountDownLatch(1);
+        CountDownLatch releaseTrial = new CountDownLatch(1);
+        AtomicInteger fastCalls = new AtomicInteger();
+        ApiClient fast = city -> {
+            int call = fastCalls.incrementAndGet();
+            if (call == 1) {
+                throw new WeatherSDKException("Connection reset");
+            }
+            trialStarted.countDown();
+            await(releaseTrial);
+            return response("fast");
+        };
+        ApiClient slow = city -> sleepThen(20, "slow");
+        RoutingApiClient client = new RoutingApiClient(List.of(fast, slow), 1, Duration.ZERO);
+        // Ejects the fast endpoint; its cooldown is over at once, and its low latency makes it
+        // the preferred endpoint for the next call, which is its trial.
+        assertEquals("slow", client.getWeatherByCity("London").getName());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<WeatherResponse> trial = executor.submit(() -> client.getWeatherByCity("London"));
+            assertTrue(trialStarted.await(5, TimeUnit.SECONDS));
+
+            assertEquals("slow", client.getWeatherByCity("London").getName());
+            assertEquals(2, fastCalls.get());
+
+            releaseTrial.countDown();
+            assertEquals("fast", trial.get(5, TimeUnit.SECONDS).getName());
+            assertTrue(client.getEndpointStats().get(0).isHealthy());
+        } finally {
+            releaseTrial.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void uncheckedExceptionFromTheTrialCallEndsTheTrial() throws Exception {
+        AtomicInteger fastCalls = new AtomicInteger();
+        ApiClient fast = city -> {
+            int call = fastCalls.incrementAndGet();
+            if (call == 1) {
+                throw new WeatherSDKException("Connection reset");
+            }
+            if (call == 2) {
+                throw new IllegalStateException("Bug in the endpoint client");
+            }
+            return response("fast");
+        };
+        AtomicInteger slowCalls = new AtomicInteger();
+        ApiClient slow = city -> {
+            slowCalls.incrementAndGet();
+            sleepThen(20, "slow");
+            throw new WeatherSDKException("Connection reset");
+        };
+        RoutingApiClient client = new RoutingApiClient(List.of(fast, slow), 1, Duration.ZERO);
+        assertThrows(WeatherSDKException.class, () -> client.getWeatherByCity("London"));
+
+        assertThrows(IllegalStateException.class, () -> client.getWeatherByCity("London"));
+        assertEquals(2, client.getEndpointStats().get(0).getFailureCount());
+
+        // Had the trial stayed claimed, the slow endpoint would be tried first.
+        assertEquals("fast", client.getWeatherByCity("London").getName());
+        assertEquals(1, slowCalls.get());
+    }
+
+    private static void await(CountDownLatch latch) throws WeatherSDKException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new WeatherSDKException("Interrupted", e);
+        }
+    }
+
+    private static WeatherResponse sleepThen(long millis, String name) throws WeatherSDKException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new WeatherSDKException("Interrupted", e);
+        }
+        return response(name);
+    }
+
+    private static WeatherResponse response(String name) {
+        return new WeatherResponse(new WeatherInfo("Clear", "clear sky"), new Temperature(20.0, 19.0),
+                10_000, new Wind(3.0), 1L, null, 0, name);
+    }
+
+    /**
+     * Mock OpenWeatherMap endpoint answering every request with {@link #status}, and with an
+     * observation named after the endpoint when that is 200.
+     */
+    private static final class Upstream {
+        private final MockWebServer server = new MockWebServer();
+        private volatile int status = 200;
+
+        private Upstream(String name) {
+            String body = "{\"weather\":[{\"id\":800,\"main\":\"Clear\",\"description\":\"clear sky\"}],"
+                    + "\"main\":{\"temp\":20.0,\"feels_like\":19.0},\"visibility\":10000,"
+                    + "\"wind\":{\"speed\":3.0},\"dt\":1,\"timezone\":0,\"name\":\"" + name + "\",\"cod\":200}";
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    int code = status;
+                    return code == 200
+                            ? new MockResponse().setBody(body)
+                            : new MockResponse().setResponseCode(code).setBody("{\"cod\":" + code + "}");
+                }
+            });
+        }
+
+        private String url() {
+            return server.url("/data/2.5/weather").toString();
+        }
+
+        private ApiClient client() {
+            return new WeatherApiClient("key", "metric", url());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.sdk.examples;
+
+import org.example.sdk.Mode;
+import org.example.sdk.Units;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.cluster.ClusterNode;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.loadtest.FakeOpenWeatherMapServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Example running a three-node cluster inside one JVM on loopback, against a local fake
+ * OpenWeatherMap server.
+ * <p>
+ * Every node reads the same 30 cities. Without clustering each node would fetch all of them
+ * (90 upstream calls); with clustering each city is fetched once, by its owner.
+ * </p>
+ */
+public class ClusterExample {
+    private static final String API_KEY = "cluster-example-key";
+    private static final int NODES = 3;
+    private static final int CITIES = 30;
+
+    public static void main(String[] args) throws IOException {
+        try (FakeOpenWeatherMapServer upstream = new FakeOpenWeatherMapServer(CITIES)) {
+            List<ClusterNode> nodes = new ArrayList<>();
+            try {
+                for (int i = 0; i < NODES; i++) {
+                    nodes.add(new ClusterNode(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), API_KEY,
+                            Mode.ON_DEMAND, new WeatherApiClient(API_KEY, Units.METRIC.apiValue(), upstream.baseUrl()),
+                            new WeatherCache(Duration.ofMinutes(10), 100), Units.METRIC));
+                }
+                List<String> addresses = new ArrayList<>();
+                for (ClusterNode node : nodes) {
+                    addresses.add(node.getAddress());
+                }
+                for (ClusterNode node : nodes) {
+                    node.setPeers(addresses);
+                }
+
+                for (ClusterNode node : nodes) {
+                    for (int city = 0; city < CITIES; city++) {
+                        node.getSdk().getWeather(FakeOpenWeatherMapServer.cityName(city));
+                    }
+                }
+
+                System.out.println("=== Cluster of " + NODES + " nodes, " + CITIES + " cities read on every node ===");
+                for (ClusterNode node : nodes) {
+                    System.out.printf("%s: upstream %d, peer calls %d, served to peers %d, cached %d%n",
+                            node.getAddress(), node.getUpstreamCalls(), node.getPeerCalls(),
+                            node.getPeerRequestsServed(), node.getSdk().getCacheSize());
+                }
+                System.out.println("Upstream requests in total: " + upstream.getRequestCount()
+                        + " (" + NODES * CITIES + " without clustering)");
+            } catch (WeatherSDKException e) {
+                System.err.println("Error getting weather: " + e.getMessage());
+            } finally {
+                for (ClusterNode node : nodes) {
+                    node.close();
+                }
+            }
+        }
+    }
+}
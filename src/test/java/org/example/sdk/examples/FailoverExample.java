@@ -0,0 +1,65 @@
+package org.example.sdk.examples;
+
+import org.example.sdk.Mode;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.Units;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.EndpointStats;
+import org.example.sdk.client.RoutingApiClient;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.loadtest.FakeOpenWeatherMapServer;
+import org.example.sdk.loadtest.LatencyDistribution;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Example routing over three local mirrors with different latencies, one of which goes down.
+ * <p>
+ * Calls settle on the fastest mirror; once it stops, they fail over to the next fastest one
+ * without a single failed lookup, and the stopped mirror is ejected.
+ * </p>
+ */
+public class FailoverExample {
+    private static final String API_KEY = "failover-example-key";
+    private static final int CITIES = 200;
+
+    public static void main(String[] args) throws IOException {
+        // Not a try-with-resources resource, since it is stopped midway.
+        FakeOpenWeatherMapServer fast = new FakeOpenWeatherMapServer(LatencyDistribution.parse("fixed:5"), 0, 0, 0, CITIES);
+        try (FakeOpenWeatherMapServer medium = new FakeOpenWeatherMapServer(LatencyDistribution.parse("fixed:20"), 0, 0, 0, CITIES);
+             FakeOpenWeatherMapServer slow = new FakeOpenWeatherMapServer(LatencyDistribution.parse("fixed:60"), 0, 0, 0, CITIES)) {
+            RoutingApiClient client = new RoutingApiClient(API_KEY, Units.METRIC.apiValue(),
+                    List.of(slow.baseUrl(), medium.baseUrl(), fast.baseUrl()));
+            OpenWeatherSDK sdk = new OpenWeatherSDK(API_KEY, Mode.ON_DEMAND, client,
+                    new WeatherCache(Duration.ofMinutes(10), CITIES), Units.METRIC);
+            try {
+                for (int city = 0; city < CITIES / 2; city++) {
+                    sdk.getWeather(FakeOpenWeatherMapServer.cityName(city));
+                }
+                print("=== All mirrors up ===", client);
+
+                fast.close();
+                for (int city = CITIES / 2; city < CITIES; city++) {
+                    sdk.getWeather(FakeOpenWeatherMapServer.cityName(city));
+                }
+                print("=== Fastest mirror stopped ===", client);
+                System.out.println("Failovers: " + client.getFailoverCount() + ", lookups: " + client.getCallCount());
+            } catch (WeatherSDKException e) {
+                System.err.println("Error getting weather: " + e.getMessage());
+            } finally {
+                sdk.destroy();
+            }
+        } finally {
+            fast.close();
+        }
+    }
+
+    private static void print(String title, RoutingApiClient client) {
+        System.out.println(title);
+        for (EndpointStats stats : client.getEndpointStats()) {
+            System.out.println("  " + stats);
+        }
+    }
+}
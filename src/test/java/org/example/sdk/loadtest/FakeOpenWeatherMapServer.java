@@ -0,0 +1,247 @@
+package org.example.sdk.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the OpenWeatherMap {@code /data/2.5/weather} and {@code /data/2.5/forecast} endpoints.
+ * <p>
+ * Knows {@code cityCount} cities named {@code City-0 .. City-(n-1)}; any other name gets a 404.
+ * Each request is delayed according to the latency distribution and then fails with the
+ * configured probabilities (500, 404 or 429) or returns a generated observation.
+ * </p>
+ */
+public class FakeOpenWeatherMapServer implements AutoCloseable {
+    public static final String PATH = "/data/2.5/weather";
+    public static final String FORECAST_PATH = "/data/2.5/forecast";
+    private static final int FORECAST_STEPS = 40;
+    private static final long FORECAST_STEP_SECONDS = 3 * 3600;
+    private static final String CITY_PREFIX = "City-";
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        // Without TCP_NODELAY every response waits ~40 ms for a delayed ACK, which would dwarf
+        // the simulated latency; see ProxyOptions#isTcpNoDelay().
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ExecutorService executor;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double notFoundRatio;
+    private final double tooManyRequestsRatio;
+    private final int cityCount;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong notFound = new AtomicLong();
+    private final AtomicLong tooManyRequests = new AtomicLong();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Start a server that always answers immediately and successfully.
+     *
+     * @param cityCount number of known cities
+     */
+    public FakeOpenWeatherMapServer(int cityCount) throws IOException {
+        this(LatencyDistribution.none(), 0, 0, 0, cityCount);
+    }
+
+    /**
+     * Start a server on an ephemeral loopback port.
+     *
+     * @param latency              response delay distribution
+     * @param errorRate            probability of a 500 response
+     * @param notFoundRatio        probability of a 404 response for a known city
+     * @param tooManyRequestsRatio probability of a 429 response
+     * @param cityCount            number of known cities
+     */
+    public FakeOpenWeatherMapServer(LatencyDistribution latency, double errorRate, double notFoundRatio,
+                                    double tooManyRequestsRatio, int cityCount) throws IOException {
+        this.latency = Objects.requireNonNull(latency, "Latency distribution must not be null");
+        if (cityCount <= 0) {
+            throw new IllegalArgumentException("City count must be greater than zero");
+        }
+        this.errorRate = errorRate;
+        this.notFoundRatio = notFoundRatio;
+        this.tooManyRequestsRatio = tooManyRequestsRatio;
+        this.cityCount = cityCount;
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "fake-openweathermap");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.createContext(PATH, this::handle);
+        server.createContext(FORECAST_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * @return URL of the weather endpoint, suitable for {@code WeatherApiClient}
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + PATH;
+    }
+
+    /**
+     * @param index city index
+     * @return name of a known city
+     */
+    public static String cityName(int index) {
+        return CITY_PREFIX + index;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getErrorCount() {
+        return errors.get();
+    }
+
+    public long getNotFoundCount() {
+        return notFound.get();
+    }
+
+    public long getTooManyRequestsCount() {
+        return tooManyRequests.get();
+    }
+
+    /**
+     * @return client connections that sent at least one request, told apart by remote address
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Stop the server. Calling it again has no effect, so a test can stop the stub midway.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            connections.add(exchange.getRemoteAddress());
+            Random random = ThreadLocalRandom.current();
+            long delay = latency.sampleNanos(random);
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+
+            String city = queryParameter(exchange.getRequestURI().getRawQuery(), "q");
+            double roll = random.nextDouble();
+            if (roll < errorRate) {
+                errors.incrementAndGet();
+                respond(exchange, 500, "{\"cod\":500,\"message\":\"internal error\"}");
+            } else if (roll < errorRate + tooManyRequestsRatio) {
+                tooManyRequests.incrementAndGet();
+                respond(exchange, 429, "{\"cod\":429,\"message\":\"too many requests\"}");
+            } else if (roll < errorRate + tooManyRequestsRatio + notFoundRatio || !isKnownCity(city)) {
+                notFound.incrementAndGet();
+                respond(exchange, 404, "{\"cod\":\"404\",\"message\":\"city not found\"}");
+            } else {
+                boolean forecast = exchange.getRequestURI().getPath().equals(FORECAST_PATH);
+                respond(exchange, 200, forecast ? forecast(city, random) : observation(city, random));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isKnownCity(String city) {
+        if (city == null || !city.startsWith(CITY_PREFIX)) {
+            return false;
+        }
+        try {
+            int index = Integer.parseInt(city.substring(CITY_PREFIX.length()));
+            return index >= 0 && index < cityCount;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String observation(String city, Random random) {
+        long now = System.currentTimeMillis() / 1000;
+        long observedAt = now - now % 600;
+        return String.format(Locale.ROOT,
+                "{\"weather\":[{\"id\":803,\"main\":\"Clouds\",\"description\":\"broken clouds\"}],"
+                        + "\"main\":{\"temp\":%.2f,\"feels_like\":%.2f,\"pressure\":1012,\"humidity\":70},"
+                        + "\"visibility\":10000,\"wind\":{\"speed\":%.1f,\"deg\":200},\"dt\":%d,"
+                        + "\"sys\":{\"sunrise\":%d,\"sunset\":%d},\"timezone\":3600,\"name\":\"%s\",\"cod\":200}",
+                280 + random.nextDouble() * 20, 278 + random.nextDouble() * 20, random.nextDouble() * 10,
+                observedAt, observedAt - 21600, observedAt + 21600, city);
+    }
+
+    private static String forecast(String city, Random random) {
+        long now = System.currentTimeMillis() / 1000;
+        long firstStep = now - now % FORECAST_STEP_SECONDS + FORECAST_STEP_SECONDS;
+        StringBuilder json = new StringBuilder(FORECAST_STEPS * 200);
+        json.append("{\"cod\":\"200\",\"message\":0,\"cnt\":").append(FORECAST_STEPS).append(",\"list\":[");
+        for (int i = 0; i < FORECAST_STEPS; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT,
+                    "{\"dt\":%d,\"main\":{\"temp\":%.2f,\"feels_like\":%.2f,\"humidity\":70},"
+                            + "\"weather\":[{\"id\":500,\"main\":\"%s\",\"description\":\"%s\"}],"
+                            + "\"wind\":{\"speed\":%.1f,\"deg\":200},\"visibility\":10000,\"pop\":%.2f}",
+                    firstStep + i * FORECAST_STEP_SECONDS, 280 + random.nextDouble() * 20, 278 + random.nextDouble() * 20,
+                    i % 3 == 0 ? "Rain" : "Clouds", i % 3 == 0 ? "light rain" : "broken clouds",
+                    random.nextDouble() * 10, random.nextDouble()));
+        }
+        json.append("],\"city\":{\"name\":\"").append(city).append("\",\"timezone\":3600}}");
+        return json.toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.cache.Cache;
+import org.example.sdk.cache.CompactWeatherCache;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.model.Sys;
+import org.example.sdk.model.Temperature;
+import org.example.sdk.model.WeatherInfo;
+import org.example.sdk.model.WeatherResponse;
+import org.example.sdk.model.Wind;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the heap retained per cached city by {@link WeatherCache} and {@link CompactWeatherCache}.
+ * <p>
+ * Each cache is filled with responses shaped like parsed API responses: every response owns its
+ * strings and boxed numbers, and conditions are drawn from a realistic set. The heap retained by
+ * the cache is measured after full collections and divided by the number of entries; city key
+ * strings are shared with the caller and are not counted.
+ * Run with {@code MAVEN_OPTS=-Xmx4g mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.FootprintBenchmark}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --sizes=N,N,...} numbers of cached cities [10000,100000,1000000]</li>
+ * </ul>
+ */
+public class FootprintBenchmark {
+    private static final String[][] CONDITIONS = {
+            {"Clear", "clear sky"}, {"Clouds", "few clouds"}, {"Clouds", "scattered clouds"},
+            {"Clouds", "broken clouds"}, {"Clouds", "overcast clouds"}, {"Rain", "light rain"},
+            {"Rain", "moderate rain"}, {"Drizzle", "light intensity drizzle"}, {"Snow", "light snow"},
+            {"Mist", "mist"}, {"Thunderstorm", "thunderstorm with rain"}, {"Fog", "fog"}
+    };
+
+    private static volatile Object retained;
+
+    public static void main(String[] args) {
+        Map<String, String> options = LoadTest.parseOptions(args);
+        String[] sizes = options.getOrDefault("sizes", "10000,100000,1000000").split(",");
+        System.out.printf(Locale.ROOT, "Max heap %d MB%n", Runtime.getRuntime().maxMemory() >> 20);
+        // Warm up so one-time allocations (class initialization, lambdas) are not billed to the first size.
+        String[] warmUpKeys = {FakeOpenWeatherMapServer.cityName(0), FakeOpenWeatherMapServer.cityName(1)};
+        bytesPerEntry(warmUpKeys, n -> new WeatherCache(Duration.ofMinutes(10), n));
+        bytesPerEntry(warmUpKeys, n -> new CompactWeatherCache(Duration.ofMinutes(10), n));
+        System.out.printf(Locale.ROOT, "%10s %16s %16s %8s%n", "entries", "WeatherCache", "CompactCache", "saved");
+        for (String size : sizes) {
+            int entries = Integer.parseInt(size.trim());
+            String[] keys = new String[entries];
+            for (int i = 0; i < entries; i++) {
+                keys[i] = FakeOpenWeatherMapServer.cityName(i);
+            }
+            double standard = bytesPerEntry(keys, n -> new WeatherCache(Duration.ofMinutes(10), n));
+            double compact = bytesPerEntry(keys, n -> new CompactWeatherCache(Duration.ofMinutes(10), n));
+            System.out.printf(Locale.ROOT, "%10d %13.1f B %13.1f B %7.0f%%%n", entries, standard, compact,
+                    100 * (1 - compact / standard));
+        }
+    }
+
+    /**
+     * Heap freed by dropping the filled cache, which is exactly what the cache retains and is
+     * unaffected by unrelated garbage that survives until later collections.
+     */
+    private static double bytesPerEntry(String[] keys, IntFunction<Cache> factory) {
+        retained = fill(keys, factory);
+        long withCache = usedAfterGc();
+        retained = null;
+        long withoutCache = usedAfterGc();
+        return (withCache - withoutCache) / (double) keys.length;
+    }
+
+    private static Cache fill(String[] keys, IntFunction<Cache> factory) {
+        Cache cache = factory.apply(keys.length);
+        Random random = new Random(42);
+        long now = System.currentTimeMillis() / 1000;
+        for (String key : keys) {
+            cache.put(key, parsedResponse(key, random, now));
+        }
+        if (cache.size() != keys.length) {
+            throw new IllegalStateException("Expected " + keys.length + " entries but got " + cache.size());
+        }
+        return cache;
+    }
+
+    /**
+     * Response with the object graph a parser produces: its own strings and boxed values.
+     */
+    private static WeatherResponse parsedResponse(String city, Random random, long now) {
+        String[] condition = CONDITIONS[random.nextInt(CONDITIONS.length)];
+        long observedAt = now - random.nextInt(600);
+        return new WeatherResponse(
+                new WeatherInfo(new String(condition[0]), new String(condition[1])),
+                new Temperature(Math.round((280 + random.nextDouble() * 20) * 100) / 100.0,
+                        Math.round((278 + random.nextDouble() * 20) * 100) / 100.0),
+                Integer.valueOf(10000),
+                new Wind(Math.round(random.nextDouble() * 100) / 10.0),
+                Long.valueOf(observedAt),
+                new Sys(Long.valueOf(observedAt - 21600), Long.valueOf(observedAt + 21600)),
+                Integer.valueOf(3600),
+                new String(city));
+    }
+
+    private static long usedAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = -1;
+        // Collect until two readings agree; references and cleaners can take more than one cycle.
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long current = memory.getHeapMemoryUsage().getUsed();
+            if (current == used) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.Mode;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.Units;
+import org.example.sdk.cache.Cache;
+import org.example.sdk.cache.SnapshotWeatherCache;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.exception.WeatherSDKException;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Measures heap allocated per {@code getWeather} cache hit and fails if hits allocate.
+ * <p>
+ * Every combination of mode and cache is warmed up until the hit path is compiled, then each
+ * reader thread counts the bytes it allocates over a fixed number of hits with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. The process exits with
+ * status 1 if any configuration allocates on hits, so it can gate a build. With several threads,
+ * caches that are not thread-safe are read under the SDK's {@code ReentrantReadWriteLock}, whose
+ * per-thread read hold counters allocate; those figures are reported but not checked.
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.HitAllocationBenchmark -Dexec.args="--threads=1"}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --threads=N} concurrent reader threads [1]</li>
+ *   <li>{@code --hits=N} measured hits per thread [1000000]</li>
+ *   <li>{@code --cities=N} cached cities [1000]</li>
+ * </ul>
+ */
+public class HitAllocationBenchmark {
+    private static final String API_KEY = "hit-allocation-benchmark-key";
+    private static final int WARM_UP_ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parseOptions(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "1"));
+        int hits = Integer.parseInt(options.getOrDefault("hits", "1000000"));
+        int cities = Integer.parseInt(options.getOrDefault("cities", "1000"));
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Thread allocation accounting is not supported by this JVM");
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        String[] names = new String[cities];
+        for (int i = 0; i < cities; i++) {
+            names[i] = FakeOpenWeatherMapServer.cityName(i);
+        }
+        boolean allocated = false;
+        try (FakeOpenWeatherMapServer upstream = new FakeOpenWeatherMapServer(LatencyDistribution.parse("none"), 0, 0, 0, cities)) {
+            WeatherApiClient client = new WeatherApiClient(API_KEY, Units.METRIC.apiValue(), upstream.baseUrl());
+            System.out.printf(Locale.ROOT, "%-10s %-10s %8s %12s%n", "mode", "cache", "threads", "bytes/hit");
+            for (Mode mode : Mode.values()) {
+                for (String cacheName : new String[]{"weather", "snapshot"}) {
+                    Supplier<Cache> cache = cacheName.equals("weather")
+                            ? () -> new WeatherCache(Duration.ofHours(1), cities)
+                            : () -> new SnapshotWeatherCache(Duration.ofHours(1), cities);
+                    Cache instance = cache.get();
+                    OpenWeatherSDK sdk = new OpenWeatherSDK(API_KEY, mode, client, instance, Units.METRIC);
+                    try {
+                        for (String name : names) {
+                            sdk.getWeather(name);
+                        }
+                        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+                            measure(sdk, names, hits, threads, threadBean);
+                        }
+                        double bytesPerHit = measure(sdk, names, hits, threads, threadBean);
+                        // Concurrent readers of a cache the SDK has to lock pay for the read-lock's
+                        // per-thread hold counters; that is the lock, not the hit path.
+                        boolean lockBookkeeping = threads > 1 && !instance.isThreadSafe();
+                        allocated |= bytesPerHit > 0 && !lockBookkeeping;
+                        System.out.printf(Locale.ROOT, "%-10s %-10s %8d %12.3f%s%n", mode, cacheName, threads, bytesPerHit,
+                                bytesPerHit > 0 && lockBookkeeping ? "  (read-lock hold counters, not checked)" : "");
+                    } finally {
+                        sdk.destroy();
+                    }
+                }
+            }
+        }
+        if (allocated) {
+            System.out.println("FAILED: cache hits allocate");
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static double measure(OpenWeatherSDK sdk, String[] names, int hits, int threads,
+                                  com.sun.management.ThreadMXBean threadBean) throws InterruptedException {
+        long[] bytes = new long[threads];
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread reader = new Thread(() -> {
+                Random random = new Random(index);
+                int[] keys = new int[1024];
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = random.nextInt(names.length);
+                }
+                long id = Thread.currentThread().getId();
+                long before = threadBean.getThreadAllocatedBytes(id);
+                try {
+                    for (int i = 0; i < hits; i++) {
+                        if (sdk.getWeather(names[keys[i & (keys.length - 1)]]) == null) {
+                            throw new IllegalStateException("Unexpected miss");
+                        }
+                    }
+                } catch (WeatherSDKException e) {
+                    throw new IllegalStateException(e);
+                }
+                bytes[index] = threadBean.getThreadAllocatedBytes(id) - before;
+            }, "hit-allocation-reader-" + t);
+            readers.add(reader);
+            reader.start();
+        }
+        long total = 0;
+        for (int t = 0; t < threads; t++) {
+            readers.get(t).join();
+            total += bytes[t];
+        }
+        return total / ((double) hits * threads);
+    }
+}
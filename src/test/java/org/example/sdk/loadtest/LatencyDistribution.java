@@ -0,0 +1,74 @@
+package org.example.sdk.loadtest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency model used by {@link FakeOpenWeatherMapServer} to delay responses.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @param random source of randomness owned by the calling thread
+     * @return delay to apply in nanoseconds
+     */
+    long sampleNanos(Random random);
+
+    /**
+     * @return a distribution without any delay
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * @param millis constant delay in milliseconds
+     */
+    static LatencyDistribution fixed(double millis) {
+        long nanos = (long) (millis * TimeUnit.MILLISECONDS.toNanos(1));
+        return random -> nanos;
+    }
+
+    /**
+     * @param minMillis lower bound in milliseconds
+     * @param maxMillis upper bound in milliseconds
+     */
+    static LatencyDistribution uniform(double minMillis, double maxMillis) {
+        return random -> (long) ((minMillis + random.nextDouble() * (maxMillis - minMillis)) * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Log-normal delay, the usual shape of network service latency with a long tail.
+     *
+     * @param medianMillis median delay in milliseconds
+     * @param sigma        standard deviation of the underlying normal distribution
+     */
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        double mu = Math.log(medianMillis);
+        return random -> (long) (Math.exp(mu + sigma * random.nextGaussian()) * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Parse a distribution from its command-line form: {@code none}, {@code fixed:MS},
+     * {@code uniform:MIN_MS:MAX_MS} or {@code lognormal:MEDIAN_MS:SIGMA}.
+     *
+     * @param spec distribution specification
+     * @return parsed distribution
+     */
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":");
+        switch (parts[0]) {
+            case "none":
+                return none();
+            case "fixed":
+                return fixed(Double.parseDouble(parts[1]));
+            case "uniform":
+                return uniform(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            case "lognormal":
+                return logNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+}
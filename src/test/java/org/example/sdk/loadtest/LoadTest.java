@@ -0,0 +1,240 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.Mode;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.ApiClient;
+import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load-test harness driving {@link OpenWeatherSDK} against a {@link FakeOpenWeatherMapServer}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.LoadTest -Dexec.args="--threads=32 --duration=20"}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --mode=ON_DEMAND|POLLING|BOTH} [BOTH]</li>
+ *   <li>{@code --threads=N} client threads [16]</li>
+ *   <li>{@code --duration=SECONDS} measured run time per mode [10]</li>
+ *   <li>{@code --cities=N} city cardinality [1000]</li>
+ *   <li>{@code --skew=S} Zipf exponent of key popularity [0.99]</li>
+ *   <li>{@code --cache-size=N} SDK cache capacity [100]</li>
+ *   <li>{@code --latency=SPEC} upstream latency, see {@link LatencyDistribution#parse} [lognormal:20:0.5]</li>
+ *   <li>{@code --error-rate=P}, {@code --not-found=P}, {@code --too-many=P} upstream 500/404/429 ratios [0.01/0.001/0.001]</li>
+ * </ul>
+ */
+public class LoadTest {
+    private static final String API_KEY = "load-test-key";
+
+    private final int threads;
+    private final Duration duration;
+    private final int cities;
+    private final double skew;
+    private final int cacheSize;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double notFoundRatio;
+    private final double tooManyRequestsRatio;
+
+    LoadTest(Map<String, String> options) {
+        this.threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "10")));
+        this.cities = Integer.parseInt(options.getOrDefault("cities", "1000"));
+        this.skew = Double.parseDouble(options.getOrDefault("skew", "0.99"));
+        this.cacheSize = Integer.parseInt(options.getOrDefault("cache-size", "100"));
+        this.latency = LatencyDistribution.parse(options.getOrDefault("latency", "lognormal:20:0.5"));
+        this.errorRate = Double.parseDouble(options.getOrDefault("error-rate", "0.01"));
+        this.notFoundRatio = Double.parseDouble(options.getOrDefault("not-found", "0.001"));
+        this.tooManyRequestsRatio = Double.parseDouble(options.getOrDefault("too-many", "0.001"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String mode = options.getOrDefault("mode", "BOTH").toUpperCase(Locale.ROOT);
+        LoadTest loadTest = new LoadTest(options);
+        if (mode.equals("BOTH") || mode.equals("ON_DEMAND")) {
+            loadTest.run(Mode.ON_DEMAND).print();
+        }
+        if (mode.equals("BOTH") || mode.equals("POLLING")) {
+            loadTest.run(Mode.POLLING).print();
+        }
+    }
+
+    Result run(Mode mode) throws Exception {
+        try (FakeOpenWeatherMapServer server = new FakeOpenWeatherMapServer(latency, errorRate, notFoundRatio, tooManyRequestsRatio, cities)) {
+            CountingApiClient apiClient = new CountingApiClient(new WeatherApiClient(API_KEY, "metric", server.baseUrl()));
+            OpenWeatherSDK sdk = new OpenWeatherSDK(API_KEY, mode, apiClient, new WeatherCache(Duration.ofMinutes(10), cacheSize));
+            ZipfianGenerator keys = new ZipfianGenerator(cities, skew);
+
+            List<Worker> workers = new ArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < threads; i++) {
+                Worker worker = new Worker(sdk, keys, apiClient, start, i);
+                workers.add(worker);
+                worker.start();
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+            workers.forEach(Worker::finish);
+            for (Worker worker : workers) {
+                worker.join();
+            }
+            long elapsed = System.nanoTime() - begin;
+            sdk.destroy();
+
+            Result result = new Result(mode, elapsed, server.getRequestCount());
+            for (Worker worker : workers) {
+                result.add(worker);
+            }
+            return result;
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Counts upstream calls, separating those made by the measuring thread from background refreshes.
+     */
+    private static final class CountingApiClient implements ApiClient {
+        private final ApiClient delegate;
+        private final ThreadLocal<long[]> callsByThread = ThreadLocal.withInitial(() -> new long[1]);
+
+        private CountingApiClient(ApiClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+            callsByThread.get()[0]++;
+            return delegate.getWeatherByCity(cityName);
+        }
+
+        @Override
+        public WeatherResponse getWeatherByCity(String cityName, Duration timeout) throws WeatherSDKException {
+            callsByThread.get()[0]++;
+            return delegate.getWeatherByCity(cityName, timeout);
+        }
+
+        @Override
+        public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+            callsByThread.get()[0]++;
+            return delegate.getForecastByCity(cityName);
+        }
+
+        private long callsOfCurrentThread() {
+            return callsByThread.get()[0];
+        }
+    }
+
+    private final class Worker extends Thread {
+        private final OpenWeatherSDK sdk;
+        private final ZipfianGenerator keys;
+        private final CountingApiClient apiClient;
+        private final CountDownLatch start;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private volatile boolean running = true;
+        private long operations;
+        private long failures;
+        private long misses;
+
+        private Worker(OpenWeatherSDK sdk, ZipfianGenerator keys, CountingApiClient apiClient, CountDownLatch start, int index) {
+            super("loadtest-worker-" + index);
+            this.sdk = sdk;
+            this.keys = keys;
+            this.apiClient = apiClient;
+            this.start = start;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Random random = new Random(getId());
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            while (running) {
+                String city = FakeOpenWeatherMapServer.cityName(keys.next(random));
+                long begin = System.nanoTime();
+                try {
+                    sdk.getWeather(city);
+                } catch (WeatherSDKException e) {
+                    failures++;
+                }
+                histogram.record(System.nanoTime() - begin);
+                operations++;
+            }
+            misses = apiClient.callsOfCurrentThread();
+        }
+
+        private void finish() {
+            running = false;
+        }
+    }
+
+    static final class Result {
+        private final Mode mode;
+        private final long elapsedNanos;
+        private final long upstreamRequests;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long operations;
+        private long failures;
+        private long misses;
+
+        private Result(Mode mode, long elapsedNanos, long upstreamRequests) {
+            this.mode = mode;
+            this.elapsedNanos = elapsedNanos;
+            this.upstreamRequests = upstreamRequests;
+        }
+
+        private void add(Worker worker) {
+            histogram.merge(worker.histogram);
+            operations += worker.operations;
+            failures += worker.failures;
+            misses += worker.misses;
+        }
+
+        void print() {
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf(Locale.ROOT, "%n=== %s ===%n", mode);
+            System.out.printf(Locale.ROOT, "operations:     %d (%.0f ops/s)%n", operations, operations / seconds);
+            System.out.printf(Locale.ROOT, "failures:       %d%n", failures);
+            System.out.printf(Locale.ROOT, "cache hit ratio %.4f%n", operations == 0 ? 0.0 : 1.0 - (double) misses / operations);
+            System.out.printf(Locale.ROOT, "upstream calls: %d (%d on request path, %d background)%n",
+                    upstreamRequests, misses, Math.max(0, upstreamRequests - misses));
+            System.out.printf(Locale.ROOT, "latency ms:     p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                    millis(histogram.percentile(50)), millis(histogram.percentile(90)), millis(histogram.percentile(99)),
+                    millis(histogram.percentile(99.9)), millis(histogram.max()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.Units;
+import org.example.sdk.client.ApiClient;
+import org.example.sdk.client.PrioritizingApiClient;
+import org.example.sdk.client.RequestPriority;
+import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.model.Forecast;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of interactive lookups while background refreshes saturate upstream capacity.
+ * <p>
+ * Background threads fetch cities in a closed loop at {@link RequestPriority#BACKGROUND}, as a
+ * large polling cycle or a preload does, while interactive threads look up a city every
+ * {@code --think-time}. Both share {@code --max-concurrency} upstream slots, handed out either
+ * in arrival order ({@code fifo}) or by {@link PrioritizingApiClient} ({@code priority}).
+ * </p>
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.PriorityBenchmark -Dexec.args="--background-threads=128"}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --max-concurrency=N} upstream requests in flight [16]</li>
+ *   <li>{@code --background-share=F} slots background requests may occupy with {@code priority} [0.5]</li>
+ *   <li>{@code --background-threads=N} background fetchers [64]</li>
+ *   <li>{@code --interactive-threads=N} interactive callers [4]</li>
+ *   <li>{@code --think-time=MS} pause between lookups of one interactive caller [50]</li>
+ *   <li>{@code --duration=SECONDS} measured time per run [5]</li>
+ *   <li>{@code --latency=SPEC} server latency, see {@link LatencyDistribution#parse} [fixed:20]</li>
+ * </ul>
+ */
+public class PriorityBenchmark {
+    private static final String API_KEY = "priority-benchmark-key";
+    private static final int CITIES = 1000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parseOptions(args);
+        int maxConcurrency = Integer.parseInt(options.getOrDefault("max-concurrency", "16"));
+        double backgroundShare = Double.parseDouble(options.getOrDefault("background-share", "0.5"));
+        int backgroundThreads = Integer.parseInt(options.getOrDefault("background-threads", "64"));
+        int interactiveThreads = Integer.parseInt(options.getOrDefault("interactive-threads", "4"));
+        long thinkTimeMillis = Long.parseLong(options.getOrDefault("think-time", "50"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "5")));
+        LatencyDistribution latency = LatencyDistribution.parse(options.getOrDefault("latency", "fixed:20"));
+
+        try (FakeOpenWeatherMapServer upstream = new FakeOpenWeatherMapServer(latency, 0, 0, 0, CITIES)) {
+            WeatherApiClient client = new WeatherApiClient(API_KEY, Units.METRIC.apiValue(), upstream.baseUrl());
+            System.out.printf(Locale.ROOT, "%-9s %16s %16s %16s %16s %14s%n", "queue", "interactive p50",
+                    "interactive p99", "interactive max", "background/s", "bg queue p99");
+            for (boolean prioritized : new boolean[]{false, true}) {
+                PrioritizingApiClient priority = prioritized
+                        ? new PrioritizingApiClient(client, maxConcurrency, backgroundShare) : null;
+                ApiClient lanes = prioritized ? priority : new FifoApiClient(client, maxConcurrency);
+                List<Caller> callers = new ArrayList<>();
+                for (int i = 0; i < backgroundThreads; i++) {
+                    callers.add(new Caller(lanes, RequestPriority.BACKGROUND, 0, i));
+                }
+                for (int i = 0; i < interactiveThreads; i++) {
+                    callers.add(new Caller(lanes, RequestPriority.INTERACTIVE, thinkTimeMillis, i));
+                }
+                long elapsed = run(callers, duration);
+
+                LatencyHistogram interactive = new LatencyHistogram();
+                long backgroundCalls = 0;
+                for (Caller caller : callers) {
+                    if (caller.priority == RequestPriority.INTERACTIVE) {
+                        interactive.merge(caller.histogram);
+                    } else {
+                        backgroundCalls += caller.calls;
+                    }
+                }
+                System.out.printf(Locale.ROOT, "%-9s %13.2f ms %13.2f ms %13.2f ms %16.0f %14s%n",
+                        prioritized ? "priority" : "fifo", interactive.percentile(50) / 1e6,
+                        interactive.percentile(99) / 1e6, interactive.max() / 1e6, backgroundCalls / (elapsed / 1e9),
+                        prioritized ? String.format(Locale.ROOT, "%.2f ms",
+                                priority.getQueueWaitNanos(RequestPriority.BACKGROUND, 99) / 1e6) : "-");
+            }
+        }
+        System.exit(0);
+    }
+
+    private static long run(List<Caller> callers, Duration duration) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        for (Caller caller : callers) {
+            caller.start = start;
+            caller.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        callers.forEach(Caller::finish);
+        for (Caller caller : callers) {
+            caller.join();
+        }
+        return System.nanoTime() - begin;
+    }
+
+    /**
+     * Baseline: a fixed number of slots handed out in arrival order, whatever the priority.
+     */
+    private static final class FifoApiClient implements ApiClient {
+        private final ApiClient delegate;
+        private final Semaphore slots;
+
+        private FifoApiClient(ApiClient delegate, int maxConcurrency) {
+            this.delegate = delegate;
+            this.slots = new Semaphore(maxConcurrency, true);
+        }
+
+        @Override
+        public WeatherResponse getWeatherByCity(String cityName) throws WeatherSDKException {
+            slots.acquireUninterruptibly();
+            try {
+                return delegate.getWeatherByCity(cityName);
+            } finally {
+                slots.release();
+            }
+        }
+
+        @Override
+        public Forecast getForecastByCity(String cityName) throws WeatherSDKException {
+            slots.acquireUninterruptibly();
+            try {
+                return delegate.getForecastByCity(cityName);
+            } finally {
+                slots.release();
+            }
+        }
+    }
+
+    private static final class Caller extends Thread {
+        private final ApiClient client;
+        private final RequestPriority priority;
+        private final long thinkTimeMillis;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private CountDownLatch start;
+        private volatile boolean running = true;
+        private long calls;
+
+        private Caller(ApiClient client, RequestPriority priority, long thinkTimeMillis, int index) {
+            super("priority-benchmark-" + priority.name().toLowerCase(Locale.ROOT) + "-" + index);
+            this.client = client;
+            this.priority = priority;
+            this.thinkTimeMillis = thinkTimeMillis;
+            setDaemon(true);
+        }
+
+        @Override
+        @SuppressWarnings("try")
+        public void run() {
+            Random random = new Random(getId());
+            try (RequestPriority.Scope ignored = priority.enter()) {
+                start.await();
+                while (running) {
+                    long begin = System.nanoTime();
+                    try {
+                        client.getWeatherByCity(FakeOpenWeatherMapServer.cityName(random.nextInt(CITIES)));
+                        histogram.record(System.nanoTime() - begin);
+                        calls++;
+                    } catch (WeatherSDKException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    if (thinkTimeMillis > 0) {
+                        TimeUnit.MILLISECONDS.sleep(thinkTimeMillis);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void finish() {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.Mode;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.Units;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.server.ProxyOptions;
+import org.example.sdk.server.WeatherProxyServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmark of {@link WeatherProxyServer} against a local {@link FakeOpenWeatherMapServer}.
+ * <p>
+ * Client threads issue {@code GET /weather?city=} requests over keep-alive connections, with
+ * Zipf-distributed cities and one client id per thread.
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.ProxyBenchmark -Dexec.args="--threads=64 --duration=20"}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --threads=N} client threads [32]</li>
+ *   <li>{@code --duration=SECONDS} measured run time [10]</li>
+ *   <li>{@code --cities=N} city cardinality [1000]</li>
+ *   <li>{@code --skew=S} Zipf exponent of key popularity [0.99]</li>
+ *   <li>{@code --cache-size=N} SDK cache capacity [1000]</li>
+ *   <li>{@code --server-threads=N} proxy request threads, 0 for virtual threads where available [0]</li>
+ *   <li>{@code --client-rps=R} per-client rate limit [unlimited]</li>
+ *   <li>{@code --latency=SPEC} upstream latency, see {@link LatencyDistribution#parse} [lognormal:20:0.5]</li>
+ * </ul>
+ */
+public class ProxyBenchmark {
+    private static final String API_KEY = "proxy-benchmark-key";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parseOptions(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "32"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "10")));
+        int cities = Integer.parseInt(options.getOrDefault("cities", "1000"));
+        double skew = Double.parseDouble(options.getOrDefault("skew", "0.99"));
+        int cacheSize = Integer.parseInt(options.getOrDefault("cache-size", "1000"));
+        int serverThreads = Integer.parseInt(options.getOrDefault("server-threads", "0"));
+        double clientRps = Double.parseDouble(options.getOrDefault("client-rps", "1e9"));
+        LatencyDistribution latency = LatencyDistribution.parse(options.getOrDefault("latency", "lognormal:20:0.5"));
+
+        try (FakeOpenWeatherMapServer upstream = new FakeOpenWeatherMapServer(latency, 0, 0, 0, cities)) {
+            OpenWeatherSDK sdk = new OpenWeatherSDK(API_KEY, Mode.ON_DEMAND,
+                    new WeatherApiClient(API_KEY, Units.METRIC.apiValue(), upstream.baseUrl()),
+                    new WeatherCache(Duration.ofMinutes(10), cacheSize), Units.METRIC);
+            // All benchmark clients share the loopback address, so they are told apart by header.
+            ProxyOptions proxyOptions = new ProxyOptions(serverThreads, clientRps, (int) Math.min(Integer.MAX_VALUE, clientRps),
+                    Duration.ofSeconds(5), true, true);
+            try (WeatherProxyServer proxy = new WeatherProxyServer(sdk,
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), proxyOptions)) {
+                ZipfianGenerator keys = new ZipfianGenerator(cities, skew);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Client> clients = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    Client client = new Client(proxy.getUrl(), keys, start, i);
+                    clients.add(client);
+                    client.start();
+                }
+
+                long begin = System.nanoTime();
+                start.countDown();
+                TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+                clients.forEach(Client::finish);
+                for (Client client : clients) {
+                    client.join();
+                }
+                long elapsed = System.nanoTime() - begin;
+
+                LatencyHistogram histogram = new LatencyHistogram();
+                long operations = 0;
+                long ok = 0;
+                long limited = 0;
+                long failed = 0;
+                for (Client client : clients) {
+                    histogram.merge(client.histogram);
+                    operations += client.operations;
+                    ok += client.ok;
+                    limited += client.limited;
+                    failed += client.failed;
+                }
+                double seconds = elapsed / 1e9;
+                System.out.printf(Locale.ROOT, "%n=== Proxy, %d client threads, %s request threads ===%n", threads,
+                        serverThreads == 0 ? "virtual/default" : Integer.toString(serverThreads));
+                System.out.printf(Locale.ROOT, "requests:       %d (%.0f req/s)%n", operations, operations / seconds);
+                System.out.printf(Locale.ROOT, "responses:      %d ok, %d rate limited, %d failed%n", ok, limited, failed);
+                System.out.printf(Locale.ROOT, "coalesced:      %d%n", proxy.getCoalescedCount());
+                System.out.printf(Locale.ROOT, "upstream calls: %d%n", upstream.getRequestCount());
+                System.out.printf(Locale.ROOT, "latency ms:     p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                        histogram.percentile(50) / 1e6, histogram.percentile(90) / 1e6, histogram.percentile(99) / 1e6,
+                        histogram.percentile(99.9) / 1e6, histogram.max() / 1e6);
+            } finally {
+                sdk.destroy();
+            }
+        }
+    }
+
+    private static final class Client extends Thread {
+        private final String url;
+        private final ZipfianGenerator keys;
+        private final CountDownLatch start;
+        private final String clientId;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final byte[] buffer = new byte[8192];
+        private volatile boolean running = true;
+        private long operations;
+        private long ok;
+        private long limited;
+        private long failed;
+
+        private Client(String url, ZipfianGenerator keys, CountDownLatch start, int index) {
+            super("proxy-benchmark-client-" + index);
+            this.url = url;
+            this.keys = keys;
+            this.start = start;
+            this.clientId = "client-" + index;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Random random = new Random(getId());
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            while (running) {
+                String city = FakeOpenWeatherMapServer.cityName(keys.next(random));
+                long begin = System.nanoTime();
+                int status = request(city);
+                histogram.record(System.nanoTime() - begin);
+                operations++;
+                if (status == 200) {
+                    ok++;
+                } else if (status == 429) {
+                    limited++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+
+        private int request(String city) {
+            try {
+                HttpURLConnection connection = (HttpURLConnection) new URL(
+                        url + "?city=" + URLEncoder.encode(city, StandardCharsets.UTF_8)).openConnection();
+                connection.setRequestProperty(WeatherProxyServer.CLIENT_ID_HEADER, clientId);
+                int status = connection.getResponseCode();
+                // Drain the body so the connection goes back to the keep-alive pool.
+                try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                    if (body != null) {
+                        while (body.read(buffer) >= 0) {
+                            // discard
+                        }
+                    }
+                }
+                return status;
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+
+        private void finish() {
+            running = false;
+        }
+    }
+}
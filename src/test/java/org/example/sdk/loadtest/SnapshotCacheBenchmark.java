@@ -0,0 +1,257 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.Mode;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.Units;
+import org.example.sdk.cache.Cache;
+import org.example.sdk.cache.SnapshotWeatherCache;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.model.WeatherResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Read throughput of {@link WeatherCache} and {@link SnapshotWeatherCache} under many concurrent readers.
+ * <p>
+ * Two scenarios run for each reader thread count:
+ * </p>
+ * <ul>
+ *   <li>{@code sdk}: POLLING SDK instances with a warm cache, read through {@code getWeather} with
+ *   Zipf-distributed cities, i.e. the full hit path including the SDK cache lock where it applies</li>
+ *   <li>{@code refresh}: the caches alone while a writer thread refreshes cities at a fixed rate, as
+ *   polling does; {@link WeatherCache} is guarded by a fair read-write lock exactly as in the SDK</li>
+ * </ul>
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.SnapshotCacheBenchmark -Dexec.args="--threads=1,8,64"}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --threads=N,N,...} reader thread counts [1,4,16,64]</li>
+ *   <li>{@code --duration=SECONDS} measured time per run [5]</li>
+ *   <li>{@code --cities=N} cached cities [10000]</li>
+ *   <li>{@code --skew=S} Zipf exponent of key popularity [0.99]</li>
+ *   <li>{@code --refresh-rate=R} refreshes per second in the {@code refresh} scenario [2000]</li>
+ * </ul>
+ */
+public class SnapshotCacheBenchmark {
+    private static final String API_KEY = "snapshot-benchmark-key";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parseOptions(args);
+        String[] threadCounts = options.getOrDefault("threads", "1,4,16,64").split(",");
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "5")));
+        int cities = Integer.parseInt(options.getOrDefault("cities", "10000"));
+        double skew = Double.parseDouble(options.getOrDefault("skew", "0.99"));
+        double refreshRate = Double.parseDouble(options.getOrDefault("refresh-rate", "2000"));
+        ZipfianGenerator keys = new ZipfianGenerator(cities, skew);
+        String[] names = new String[cities];
+        for (int i = 0; i < cities; i++) {
+            names[i] = FakeOpenWeatherMapServer.cityName(i);
+        }
+
+        try (FakeOpenWeatherMapServer upstream = new FakeOpenWeatherMapServer(LatencyDistribution.parse("fixed:0"), 0, 0, 0, cities)) {
+            WeatherApiClient client = new WeatherApiClient(API_KEY, Units.METRIC.apiValue(), upstream.baseUrl());
+            WeatherResponse sample = client.getWeatherByCity(names[0]);
+            System.out.printf(Locale.ROOT, "%-8s %-10s %8s %14s %10s %10s %10s%n",
+                    "scenario", "cache", "readers", "reads/s", "p50 ns", "p99 ns", "p99.9 ns");
+            for (String threadCount : threadCounts) {
+                int threads = Integer.parseInt(threadCount.trim());
+                for (boolean snapshot : new boolean[]{false, true}) {
+                    Cache cache = snapshot ? new SnapshotWeatherCache(Duration.ofHours(1), cities)
+                            : new WeatherCache(Duration.ofHours(1), cities);
+                    OpenWeatherSDK sdk = new OpenWeatherSDK(API_KEY, Mode.POLLING, client, cache, Units.METRIC);
+                    try {
+                        for (String name : names) {
+                            sdk.getWeather(name);
+                        }
+                        print("sdk", snapshot, threads, run(threads, duration, () -> random -> {
+                            try {
+                                return sdk.getWeather(names[keys.next(random)]);
+                            } catch (WeatherSDKException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }, null));
+                    } finally {
+                        sdk.destroy();
+                    }
+                }
+                for (boolean snapshot : new boolean[]{false, true}) {
+                    Cache cache = snapshot ? new SnapshotWeatherCache(Duration.ofHours(1), cities)
+                            : new WeatherCache(Duration.ofHours(1), cities);
+                    ReadWriteLock lock = snapshot ? null : new ReentrantReadWriteLock(true);
+                    for (String name : names) {
+                        cache.put(name, sample);
+                    }
+                    Writer writer = new Writer(cache, lock, names, sample, refreshRate);
+                    print("refresh", snapshot, threads, run(threads, duration, () -> random -> {
+                        String city = names[keys.next(random)];
+                        if (lock == null) {
+                            return cache.get(city);
+                        }
+                        lock.readLock().lock();
+                        try {
+                            return cache.get(city);
+                        } finally {
+                            lock.readLock().unlock();
+                        }
+                    }, writer));
+                }
+            }
+        }
+    }
+
+    private static Result run(int threads, Duration duration, Supplier<Read> reads, Writer writer) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Reader> readers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Reader reader = new Reader(reads.get(), start, i);
+            readers.add(reader);
+            reader.start();
+        }
+        if (writer != null) {
+            writer.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        readers.forEach(Reader::finish);
+        for (Reader reader : readers) {
+            reader.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        if (writer != null) {
+            writer.finish();
+            writer.join();
+        }
+
+        Result result = new Result();
+        for (Reader reader : readers) {
+            result.histogram.merge(reader.histogram);
+            result.reads += reader.reads;
+        }
+        result.readsPerSecond = result.reads / (elapsed / 1e9);
+        return result;
+    }
+
+    private static void print(String scenario, boolean snapshot, int threads, Result result) {
+        System.out.printf(Locale.ROOT, "%-8s %-10s %8d %14.0f %10d %10d %10d%n", scenario,
+                snapshot ? "snapshot" : "weather", threads, result.readsPerSecond, result.histogram.percentile(50),
+                result.histogram.percentile(99), result.histogram.percentile(99.9));
+    }
+
+    private interface Read {
+        WeatherResponse read(Random random);
+    }
+
+    private static final class Result {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long reads;
+        private double readsPerSecond;
+    }
+
+    private static final class Reader extends Thread {
+        private final Read read;
+        private final CountDownLatch start;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private volatile boolean running = true;
+        private long reads;
+
+        private Reader(Read read, CountDownLatch start, int index) {
+            super("snapshot-benchmark-reader-" + index);
+            this.read = read;
+            this.start = start;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Random random = new Random(getId());
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            while (running) {
+                long begin = System.nanoTime();
+                if (read.read(random) == null) {
+                    throw new IllegalStateException("Cache miss in a warm cache");
+                }
+                histogram.record(System.nanoTime() - begin);
+                reads++;
+            }
+        }
+
+        private void finish() {
+            running = false;
+        }
+    }
+
+    /**
+     * Refreshes cities round-robin at a fixed rate, publishing staged snapshot refreshes every
+     * second as the SDK does.
+     */
+    private static final class Writer extends Thread {
+        private final Cache cache;
+        private final ReadWriteLock lock;
+        private final String[] names;
+        private final WeatherResponse response;
+        private final long intervalNanos;
+        private volatile boolean running = true;
+
+        private Writer(Cache cache, ReadWriteLock lock, String[] names, WeatherResponse response, double rate) {
+            super("snapshot-benchmark-writer");
+            this.cache = cache;
+            this.lock = lock;
+            this.names = names;
+            this.response = response;
+            this.intervalNanos = (long) (1e9 / rate);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = System.nanoTime();
+            long nextExpiry = next + TimeUnit.SECONDS.toNanos(1);
+            int index = 0;
+            while (running) {
+                if (lock == null) {
+                    cache.refresh(names[index], response);
+                } else {
+                    lock.writeLock().lock();
+                    try {
+                        cache.refresh(names[index], response);
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+                index = (index + 1) % names.length;
+                next += intervalNanos;
+                long now = System.nanoTime();
+                if (now >= nextExpiry) {
+                    cache.expireEntries();
+                    nextExpiry += TimeUnit.SECONDS.toNanos(1);
+                }
+                if (next > now) {
+                    LockSupport.parkNanos(next - now);
+                }
+            }
+        }
+
+        private void finish() {
+            running = false;
+        }
+    }
+}
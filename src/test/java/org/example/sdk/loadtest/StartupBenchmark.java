@@ -0,0 +1,145 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.Mode;
+import org.example.sdk.OpenWeatherSDK;
+import org.example.sdk.Units;
+import org.example.sdk.cache.WeatherCache;
+import org.example.sdk.client.WeatherApiClient;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-{@code getWeather} of a fresh JVM against a local {@link FakeOpenWeatherMapServer}.
+ * <p>
+ * Every run starts a new JVM with the current classpath that constructs an SDK, performs one
+ * {@code getWeather} call and exits. Two figures are reported: the time from entering
+ * {@code main} to the first response inside the child, and the wall-clock time of the whole
+ * child process as seen by the parent, which includes JVM startup and class loading.
+ * </p>
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.StartupBenchmark -Dexec.args="--runs=20"}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --runs=N} number of child JVMs [10]</li>
+ *   <li>{@code --jvm-args="ARGS"} space-separated extra JVM options for the child, e.g.
+ *   {@code -XX:SharedArchiveFile=sdk.jsa} [none]</li>
+ * </ul>
+ */
+public class StartupBenchmark {
+    private static final String API_KEY = "startup-benchmark-key";
+    private static final String PROBE_OPTION = "probe";
+    private static final String RESULT_PREFIX = "first-call-nanos=";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parseOptions(args);
+        if (options.containsKey(PROBE_OPTION)) {
+            probe(options.get(PROBE_OPTION));
+            return;
+        }
+
+        int runs = Integer.parseInt(options.getOrDefault("runs", "10"));
+        String jvmArgs = options.getOrDefault("jvm-args", "").trim();
+        long[] inProcess = new long[runs];
+        long[] wallClock = new long[runs];
+        try (FakeOpenWeatherMapServer server = new FakeOpenWeatherMapServer(10)) {
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                inProcess[run] = runChild(server.baseUrl(), jvmArgs);
+                wallClock[run] = System.nanoTime() - start;
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "Startup benchmark: %d runs%s%n", runs,
+                jvmArgs.isEmpty() ? "" : " with JVM options " + jvmArgs);
+        print("main -> first getWeather", inProcess);
+        print("process start -> exit", wallClock);
+    }
+
+    /**
+     * Child side: one SDK, one call, report the elapsed time on stdout.
+     */
+    private static void probe(String baseUrl) throws Exception {
+        long start = System.nanoTime();
+        OpenWeatherSDK sdk = new OpenWeatherSDK(API_KEY, Mode.ON_DEMAND,
+                new WeatherApiClient(API_KEY, Units.METRIC.apiValue(), baseUrl), new WeatherCache(), Units.METRIC);
+        sdk.getWeather(FakeOpenWeatherMapServer.cityName(0));
+        long elapsed = System.nanoTime() - start;
+        System.out.println(RESULT_PREFIX + elapsed);
+        System.out.flush();
+        System.exit(0);
+    }
+
+    private static long runChild(String baseUrl, String jvmArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        command.add("-cp");
+        command.add(childClasspath());
+        command.add(StartupBenchmark.class.getName());
+        command.add("--" + PROBE_OPTION + "=" + baseUrl);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long result = -1;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Long.parseLong(line.substring(RESULT_PREFIX.length()));
+                } else {
+                    output.append(line).append(System.lineSeparator());
+                }
+            }
+        }
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0 || result < 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Startup probe failed:" + System.lineSeparator() + output);
+        }
+        return result;
+    }
+
+    /**
+     * Under {@code exec:java} the benchmark runs in Maven's JVM, whose {@code java.class.path}
+     * is Maven's own; the project classpath is then only known to the class loader.
+     */
+    private static String childClasspath() {
+        ClassLoader loader = StartupBenchmark.class.getClassLoader();
+        if (loader instanceof URLClassLoader) {
+            StringJoiner classpath = new StringJoiner(File.pathSeparator);
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                try {
+                    classpath.add(Paths.get(url.toURI()).toString());
+                } catch (URISyntaxException e) {
+                    throw new IllegalStateException("Unsupported classpath entry: " + url, e);
+                }
+            }
+            return classpath.toString();
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static void print(String label, long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        System.out.printf(Locale.ROOT, "  %-26s min %7.1f ms   median %7.1f ms   max %7.1f ms%n", label,
+                sorted[0] / 1e6, sorted[sorted.length / 2] / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+}
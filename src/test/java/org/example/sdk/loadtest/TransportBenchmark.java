@@ -0,0 +1,169 @@
+package org.example.sdk.loadtest;
+
+import org.example.sdk.Units;
+import org.example.sdk.client.HttpTransport;
+import org.example.sdk.client.JdkHttpTransport;
+import org.example.sdk.client.OkHttpTransport;
+import org.example.sdk.client.WeatherApiClient;
+import org.example.sdk.exception.WeatherSDKException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput, latency and connection count of the {@link OkHttpTransport} and
+ * {@link JdkHttpTransport} backends of {@link WeatherApiClient}.
+ * <p>
+ * Each run starts a fresh {@link FakeOpenWeatherMapServer}, so no connection is carried over
+ * between runs, and issues lookups for Zipf-distributed cities from a number of threads in a
+ * closed loop through {@code getWeatherByCity(city, timeout)}. The connection count is the
+ * number of client connections the server saw during the run.
+ * </p>
+ * <p>
+ * The local server speaks HTTP/1.1 only, so both backends open roughly one connection per
+ * concurrent call here. Against an {@code https} endpoint that negotiates HTTP/2, the JDK
+ * backend carries all calls over one connection instead.
+ * </p>
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.mainClass=org.example.sdk.loadtest.TransportBenchmark -Dexec.args="--concurrency=1,16,64"}.
+ * Options (defaults in brackets):
+ * </p>
+ * <ul>
+ *   <li>{@code --concurrency=N,N,...} concurrent callers [1,8,32,64]</li>
+ *   <li>{@code --duration=SECONDS} measured time per run, after a one second warm-up [5]</li>
+ *   <li>{@code --latency=SPEC} server latency, see {@link LatencyDistribution#parse} [fixed:20]</li>
+ *   <li>{@code --cities=N} known cities [1000]</li>
+ *   <li>{@code --skew=S} Zipf exponent of city popularity [0.99]</li>
+ *   <li>{@code --transports=NAME,...} backends to compare, {@code okhttp} and/or {@code jdk} [okhttp,jdk]</li>
+ * </ul>
+ */
+public class TransportBenchmark {
+    private static final String API_KEY = "transport-benchmark-key";
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration WARM_UP = Duration.ofSeconds(1);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parseOptions(args);
+        String[] concurrencies = options.getOrDefault("concurrency", "1,8,32,64").split(",");
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "5")));
+        LatencyDistribution latency = LatencyDistribution.parse(options.getOrDefault("latency", "fixed:20"));
+        int cities = Integer.parseInt(options.getOrDefault("cities", "1000"));
+        double skew = Double.parseDouble(options.getOrDefault("skew", "0.99"));
+        String[] transports = options.getOrDefault("transports", "okhttp,jdk").split(",");
+        ZipfianGenerator keys = new ZipfianGenerator(cities, skew);
+
+        System.out.printf(Locale.ROOT, "%-8s %12s %12s %10s %10s %10s %12s %8s%n",
+                "backend", "concurrency", "calls/s", "p50 ms", "p99 ms", "max ms", "connections", "errors");
+        for (String concurrency : concurrencies) {
+            int callers = Integer.parseInt(concurrency.trim());
+            for (String name : transports) {
+                HttpTransport transport = transport(name.trim());
+                try (FakeOpenWeatherMapServer upstream = new FakeOpenWeatherMapServer(latency, 0, 0, 0, cities)) {
+                    WeatherApiClient client = new WeatherApiClient(API_KEY, Units.METRIC.apiValue(), upstream.baseUrl(), transport);
+                    run(client, keys, callers, WARM_UP);
+                    Result result = run(client, keys, callers, duration);
+                    System.out.printf(Locale.ROOT, "%-8s %12d %12.0f %10.2f %10.2f %10.2f %12d %8d%n",
+                            name.trim(), callers, result.callsPerSecond, result.histogram.percentile(50) / 1e6,
+                            result.histogram.percentile(99) / 1e6, result.histogram.max() / 1e6,
+                            upstream.getConnectionCount(), result.errors.get());
+                }
+            }
+        }
+        System.exit(0);
+    }
+
+    private static HttpTransport transport(String name) {
+        switch (name) {
+            case "okhttp":
+                return new OkHttpTransport();
+            case "jdk":
+                return new JdkHttpTransport();
+            default:
+                throw new IllegalArgumentException("Unknown transport: " + name + " (expected okhttp or jdk)");
+        }
+    }
+
+    private static Result run(WeatherApiClient client, ZipfianGenerator keys, int callers, Duration duration)
+            throws InterruptedException {
+        Result result = new Result();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Caller> threads = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            Caller caller = new Caller(client, keys, start, result.errors, i);
+            threads.add(caller);
+            caller.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        threads.forEach(Caller::finish);
+        for (Caller caller : threads) {
+            caller.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        for (Caller caller : threads) {
+            result.histogram.merge(caller.histogram);
+            result.calls += caller.calls;
+        }
+        result.callsPerSecond = result.calls / (elapsed / 1e9);
+        return result;
+    }
+
+    private static final class Result {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+        private long calls;
+        private double callsPerSecond;
+    }
+
+    private static final class Caller extends Thread {
+        private final WeatherApiClient client;
+        private final ZipfianGenerator keys;
+        private final CountDownLatch start;
+        private final AtomicLong errors;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private volatile boolean running = true;
+        private long calls;
+
+        private Caller(WeatherApiClient client, ZipfianGenerator keys, CountDownLatch start, AtomicLong errors, int index) {
+            super("transport-benchmark-caller-" + index);
+            this.client = client;
+            this.keys = keys;
+            this.start = start;
+            this.errors = errors;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Random random = new Random(getId());
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            while (running) {
+                long begin = System.nanoTime();
+                try {
+                    client.getWeatherByCity(FakeOpenWeatherMapServer.cityName(keys.next(random)), CALL_TIMEOUT);
+                    histogram.record(System.nanoTime() - begin);
+                    calls++;
+                } catch (WeatherSDKException e) {
+                    errors.incrementAndGet();
+                }
+            }
+        }
+
+        private void finish() {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.sdk.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws item indexes {@code 0..n-1} with Zipfian popularity: item {@code k} is chosen with
+ * probability proportional to {@code 1 / (k + 1)^skew}. A skew of 0 is uniform.
+ * <p>
+ * <b>Thread Safety:</b> This class is immutable; callers supply their own {@link Random}.
+ * </p>
+ */
+public class ZipfianGenerator {
+    private final double[] cumulative;
+
+    /**
+     * @param items number of items
+     * @param skew  Zipf exponent (0 for uniform, ~1 for typical key popularity)
+     */
+    public ZipfianGenerator(int items, double skew) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("Items must be greater than zero");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("Skew must not be negative");
+        }
+        cumulative = new double[items];
+        double sum = 0;
+        for (int i = 0; i < items; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < items; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @param random source of randomness
+     * @return next item index
+     */
+    public int next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int item = index >= 0 ? index : -index - 1;
+        return Math.min(item, cumulative.length - 1);
+    }
+}
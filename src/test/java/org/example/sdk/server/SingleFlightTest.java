@@ -0,0 +1,95 @@
+package org.example.sdk.server;
+
+import org.example.sdk.exception.WeatherSDKException;
+import org.example.sdk.exception.WeatherTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void waiterSharesTheLeadersResult() throws Exception {
+        Future<String> leader = startLeader(() -> "value");
+        Future<String> waiter = startWaiter(TIMEOUT);
+
+        release.countDown();
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("value", waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void errorFromTheLeaderReachesTheWaiters() throws Exception {
+        startLeader(() -> {
+            throw new AssertionError("leader failed");
+        });
+        Future<String> waiter = startWaiter(TIMEOUT);
+
+        release.countDown();
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, failure.getCause());
+    }
+
+    @Test
+    void waiterGivesUpAfterItsTimeout() throws Exception {
+        startLeader(() -> "value");
+
+        assertThrows(WeatherTimeoutException.class,
+                () -> flights.execute("London", Duration.ofMillis(50), () -> "own load"));
+    }
+
+    /**
+     * Start a load of London that blocks until released, then finishes with the given load.
+     */
+    private Future<String> startLeader(SingleFlight.Load<String> load) throws InterruptedException {
+        Future<String> leader = executor.submit(() -> flights.execute("London", TIMEOUT, () -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new WeatherSDKException("Interrupted", e);
+            }
+            return load.load();
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        return leader;
+    }
+
+    /**
+     * Start a second caller of London and wait until it waits for the leader's load.
+     */
+    private Future<String> startWaiter(Duration timeout) throws InterruptedException {
+        long before = flights.getSharedCount();
+        Future<String> waiter = executor.submit(() -> flights.execute("London", timeout, () -> "own load"));
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.getSharedCount() == before && System.nanoTime() < end) {
+            Thread.sleep(1);
+        }
+        assertEquals(before + 1, flights.getSharedCount());
+        return waiter;
+    }
+}